@@ -0,0 +1,89 @@
+package com.teammental.memapper.benchmark;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.benchmark.bean.TargetBean;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Populates a bean from a row read as a map, as JDBC templates return it,
+ * compared with the hand written conversion. The coerced row holds the values
+ * as a database driver would, e.g. integers as longs and decimals as BigDecimal.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FromMapBenchmark {
+
+  private Map<String, Object> row;
+  private Map<String, Object> coercedRow;
+
+  /**
+   * Creates the rows.
+   */
+  @Setup
+  public void setUp() {
+
+    row = new HashMap<>();
+    row.put("id", 7L);
+    row.put("name", "name7");
+    row.put("email", "name7@teammental.com");
+    row.put("age", 27);
+    row.put("active", true);
+    row.put("score", 7.5);
+
+    coercedRow = new HashMap<>(row);
+    coercedRow.put("id", 7);
+    coercedRow.put("age", 27L);
+    coercedRow.put("score", new BigDecimal("7.5"));
+  }
+
+  /**
+   * Hand written conversion.
+   *
+   * @return populated bean
+   */
+  @Benchmark
+  public TargetBean manual() {
+
+    TargetBean bean = new TargetBean();
+    bean.setId((Long) row.get("id"));
+    bean.setName((String) row.get("name"));
+    bean.setEmail((String) row.get("email"));
+    bean.setAge((Integer) row.get("age"));
+    bean.setActive((Boolean) row.get("active"));
+    bean.setScore((Double) row.get("score"));
+    return bean;
+  }
+
+  /**
+   * Populates from a row whose values match the property types.
+   *
+   * @return populated bean
+   */
+  @Benchmark
+  public TargetBean fromMap() {
+    return (TargetBean) MeMapper.fromMap(row).to(TargetBean.class);
+  }
+
+  /**
+   * Populates from a row whose number values have to be converted.
+   *
+   * @return populated bean
+   */
+  @Benchmark
+  public TargetBean fromMapCoerced() {
+    return (TargetBean) MeMapper.fromMap(coercedRow).to(TargetBean.class);
+  }
+}
@@ -0,0 +1,98 @@
+package com.teammental.memapper.benchmark;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.benchmark.bean.SourceBean;
+import com.teammental.memapper.benchmark.bean.TargetBean;
+import com.teammental.memapper.util.mapping.MapByFieldNameUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the list mapping entry points with a hand written loop for lists
+ * of the size of a typical page or report. {@link ToListBenchmark} covers large lists.
+ * Reports throughput; allocations per list are reported by the gc profiler,
+ * which is enabled in the build.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ListMappingBenchmark {
+
+  @Param({"10", "1000"})
+  public int size;
+
+  private List<SourceBean> sources;
+
+  /**
+   * Creates the source list.
+   */
+  @Setup
+  public void setUp() {
+
+    sources = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      sources.add(SourceBean.create(i));
+    }
+  }
+
+  /**
+   * Copies every element with hand written getter and setter calls.
+   *
+   * @return mapped targets
+   */
+  @Benchmark
+  public List<TargetBean> handWritten() {
+
+    List<TargetBean> targets = new ArrayList<>(sources.size());
+    for (SourceBean source : sources) {
+      targets.add(MapperComparisonBenchmark.copy(source, new TargetBean()));
+    }
+    return targets;
+  }
+
+  /**
+   * Maps the list with the bulk mapper behind {@code MeMapper.from(list)}.
+   *
+   * @return mapped targets
+   */
+  @Benchmark
+  public Iterable<TargetBean> meMapperToList() {
+    return MeMapper.from(sources).to(TargetBean.class);
+  }
+
+  /**
+   * Maps every element with its own {@code MeMapper.from(element)} call.
+   *
+   * @return mapped targets
+   */
+  @Benchmark
+  public List<TargetBean> meMapperPerElement() {
+
+    List<TargetBean> targets = new ArrayList<>(sources.size());
+    for (SourceBean source : sources) {
+      targets.add((TargetBean) MeMapper.from(source).to(TargetBean.class));
+    }
+    return targets;
+  }
+
+  /**
+   * Maps the list with {@link MapByFieldNameUtil}.
+   *
+   * @return mapped targets
+   */
+  @Benchmark
+  public Iterable<TargetBean> mapByFieldName() throws Exception {
+    return MapByFieldNameUtil.map(sources, TargetBean.class);
+  }
+}
@@ -0,0 +1,78 @@
+package com.teammental.memapper.benchmark;
+
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.core.MapperSettings;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of a single {@link MapConfigurationRegistry#getConfiguration} hit
+ * while the number of registered type pairs grows.
+ * The per-lookup time is expected to stay flat.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapConfigurationRegistryBenchmark {
+
+  private static final int TYPE_POOL_SIZE = 100;
+
+  @Param({"10", "100", "1000", "10000"})
+  public int registeredPairs;
+
+  private MapConfigurationRegistry registry;
+  private Class<?>[] sourceTypes;
+  private Class<?>[] targetTypes;
+  private int index;
+
+  /**
+   * Registers the requested number of distinct type pairs.
+   * Array types of increasing dimension are used as a cheap pool of distinct classes.
+   * The default configuration cache is sized to hold every pair, so lookups are never misses.
+   */
+  @Setup
+  public void setUp() {
+
+    Class<?>[] typePool = new Class<?>[TYPE_POOL_SIZE];
+    Class<?> type = Object.class;
+    for (int i = 0; i < TYPE_POOL_SIZE; i++) {
+      type = Array.newInstance(type, 0).getClass();
+      typePool[i] = type;
+    }
+
+    MapperSettings.setConfigurationCacheSize(
+        Math.max(registeredPairs, MapperSettings.getConfigurationCacheSize()));
+    registry = new MapConfigurationRegistry();
+    sourceTypes = new Class<?>[registeredPairs];
+    targetTypes = new Class<?>[registeredPairs];
+    for (int i = 0; i < registeredPairs; i++) {
+      sourceTypes[i] = typePool[i / TYPE_POOL_SIZE];
+      targetTypes[i] = typePool[i % TYPE_POOL_SIZE];
+      registry.getConfiguration(sourceTypes[i], targetTypes[i]);
+    }
+  }
+
+  /**
+   * Looks up the next registered pair.
+   *
+   * @return found configuration
+   */
+  @Benchmark
+  public MapConfiguration lookup() {
+
+    int current = index;
+    index = current + 1 == registeredPairs ? 0 : current + 1;
+    return registry.getConfiguration(sourceTypes[current], targetTypes[current]);
+  }
+}
@@ -0,0 +1,162 @@
+package com.teammental.memapper.benchmark;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.benchmark.bean.CustomerSource;
+import com.teammental.memapper.benchmark.bean.CustomerTarget;
+import com.teammental.memapper.benchmark.bean.LineSource;
+import com.teammental.memapper.benchmark.bean.LineTarget;
+import com.teammental.memapper.benchmark.bean.OrderSource;
+import com.teammental.memapper.benchmark.bean.OrderTarget;
+import com.teammental.memapper.benchmark.bean.SourceBean;
+import com.teammental.memapper.benchmark.bean.TargetBean;
+import com.teammental.memapper.benchmark.bean.WideBean;
+import com.teammental.memapper.core.Instantiator;
+import com.teammental.memapper.core.MapWorker;
+import com.teammental.memapper.util.mapping.MapByFieldNameUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the mapping entry points with hand written copy code for a single object
+ * of a small (6 properties), wide (50 properties) and nested (customer and 10 lines) payload.
+ * Reports throughput; allocations per mapped object are reported by the gc profiler,
+ * which is enabled in the build.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapperComparisonBenchmark {
+
+  /**
+   * Source objects, target types and hand written copy code of the payloads.
+   */
+  public enum Payload {
+
+    SMALL(() -> SourceBean.create(7), TargetBean.class,
+        source -> copy((SourceBean) source, new TargetBean())),
+    WIDE(() -> WideBean.create(7), WideBean.class,
+        source -> WideBean.copy((WideBean) source, new WideBean())),
+    NESTED(() -> OrderSource.create(7, 10), OrderTarget.class,
+        source -> copy((OrderSource) source));
+
+    private final Supplier<Object> sourceSupplier;
+    private final Class<?> targetType;
+    private final Function<Object, Object> handWritten;
+
+    Payload(Supplier<Object> sourceSupplier, Class<?> targetType,
+            Function<Object, Object> handWritten) {
+
+      this.sourceSupplier = sourceSupplier;
+      this.targetType = targetType;
+      this.handWritten = handWritten;
+    }
+  }
+
+  @Param({"SMALL", "WIDE", "NESTED"})
+  public Payload payload;
+
+  private Object source;
+  private Class<Object> targetType;
+  private Instantiator<Object> instantiator;
+
+  /**
+   * Creates the source object of the payload.
+   */
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+
+    source = payload.sourceSupplier.get();
+    targetType = (Class<Object>) payload.targetType;
+    instantiator = Instantiator.of(targetType);
+  }
+
+  /**
+   * Copies the payload with hand written getter and setter calls.
+   *
+   * @return mapped target
+   */
+  @Benchmark
+  public Object handWritten() {
+    return payload.handWritten.apply(source);
+  }
+
+  /**
+   * Maps the payload through the compiled plan of the type pair.
+   *
+   * @return mapped target
+   */
+  @Benchmark
+  public Object meMapper() {
+    return MeMapper.from(source).to(targetType);
+  }
+
+  /**
+   * Maps the payload into a new target with a {@link MapWorker}.
+   *
+   * @return mapped target
+   */
+  @Benchmark
+  public Object mapWorker() throws Exception {
+    return new MapWorker<>(source, instantiator.newInstance()).map();
+  }
+
+  /**
+   * Maps the payload with {@link MapByFieldNameUtil}.
+   *
+   * @return mapped target
+   */
+  @Benchmark
+  public Object mapByFieldName() throws Exception {
+    return MapByFieldNameUtil.map(source, targetType);
+  }
+
+  static TargetBean copy(SourceBean source, TargetBean target) {
+
+    target.setId(source.getId());
+    target.setName(source.getName());
+    target.setEmail(source.getEmail());
+    target.setAge(source.getAge());
+    target.setActive(source.isActive());
+    target.setScore(source.getScore());
+    return target;
+  }
+
+  private static OrderTarget copy(OrderSource source) {
+
+    CustomerSource customerSource = source.getCustomer();
+    CustomerTarget customer = new CustomerTarget();
+    customer.setId(customerSource.getId());
+    customer.setName(customerSource.getName());
+    customer.setEmail(customerSource.getEmail());
+
+    List<LineTarget> lines = new ArrayList<>(source.getLines().size());
+    for (LineSource lineSource : source.getLines()) {
+      LineTarget line = new LineTarget();
+      line.setProduct(lineSource.getProduct());
+      line.setQuantity(lineSource.getQuantity());
+      line.setPrice(lineSource.getPrice());
+      lines.add(line);
+    }
+
+    OrderTarget target = new OrderTarget();
+    target.setId(source.getId());
+    target.setStatus(source.getStatus());
+    target.setCustomer(customer);
+    target.setLines(lines);
+    return target;
+  }
+}
@@ -0,0 +1,68 @@
+package com.teammental.memapper.benchmark;
+
+import com.teammental.memapper.benchmark.bean.PrimitiveBean;
+import com.teammental.memapper.core.MapEngine;
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.core.TypeMapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the overhead of mapping metrics on a single object mapping.
+ * Run with the gc profiler; neither setting is expected to allocate per mapped object.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingMetricsBenchmark {
+
+  @Param({"false", "true"})
+  public boolean metricsEnabled;
+
+  private TypeMapper<PrimitiveBean, PrimitiveBean> mapper;
+  private PrimitiveBean source;
+  private PrimitiveBean target;
+
+  /**
+   * Resolves the mapping with the lambda engine, so the mapping itself allocates nothing.
+   */
+  @Setup
+  public void setUp() {
+
+    MapEngine previous = MapperSettings.getEngine();
+    MapperSettings.setEngine(MapEngine.LAMBDA);
+    mapper = TypeMapper.resolve(PrimitiveBean.class, PrimitiveBean.class);
+    MapperSettings.setEngine(previous);
+    MapperSettings.setMetricsEnabled(metricsEnabled);
+
+    source = PrimitiveBean.create(7);
+    target = new PrimitiveBean();
+  }
+
+  @TearDown
+  public void tearDown() {
+    MapperSettings.setMetricsEnabled(false);
+  }
+
+  /**
+   * Maps every primitive property of source to target.
+   *
+   * @return mapped target
+   */
+  @Benchmark
+  public PrimitiveBean map() {
+
+    mapper.map(source, target);
+    return target;
+  }
+}
@@ -0,0 +1,67 @@
+package com.teammental.memapper.benchmark;
+
+import com.teammental.memapper.benchmark.bean.PrimitiveBean;
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.core.MapEngine;
+import com.teammental.memapper.core.MapPlan;
+import com.teammental.memapper.core.MapperSettings;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Maps a bean with primitive properties only into an existing target.
+ * Run with the gc profiler to compare allocations per mapped object:
+ * {@code gradlew :memapper-benchmarks:jmh -PjmhInclude=PrimitiveTransferBenchmark}
+ * with {@code profilers = ['gc']}, or {@code -prof gc} on the JMH command line.
+ * The LAMBDA engine is expected to report zero {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimitiveTransferBenchmark {
+
+  @Param({"REFLECTION", "LAMBDA"})
+  public MapEngine engine;
+
+  private MapPlan plan;
+  private PrimitiveBean source;
+  private PrimitiveBean target;
+
+  /**
+   * Compiles the plan with the requested engine.
+   */
+  @Setup
+  public void setUp() {
+
+    MapEngine previous = MapperSettings.getEngine();
+    MapperSettings.setEngine(engine);
+    plan = new MapConfigurationRegistry()
+        .getConfiguration(PrimitiveBean.class, PrimitiveBean.class)
+        .getPlan();
+    MapperSettings.setEngine(previous);
+
+    source = PrimitiveBean.create(7);
+    target = new PrimitiveBean();
+  }
+
+  /**
+   * Maps every primitive property of source to target.
+   *
+   * @return mapped target
+   */
+  @Benchmark
+  public PrimitiveBean map() {
+
+    plan.map(source, target);
+    return target;
+  }
+}
@@ -0,0 +1,82 @@
+package com.teammental.memapper.benchmark;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.benchmark.bean.SourceBean;
+import com.teammental.memapper.benchmark.bean.TargetBean;
+import com.teammental.memapper.core.MapWorker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares mapping a list element by element with a {@link MapWorker} each,
+ * the bulk sequential mapping and the bulk parallel mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ToListBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  private List<SourceBean> sources;
+
+  /**
+   * Creates the source list.
+   */
+  @Setup
+  public void setUp() {
+
+    sources = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      sources.add(SourceBean.create(i));
+    }
+  }
+
+  /**
+   * Maps every element with its own worker, as lists were mapped before the bulk mapper.
+   *
+   * @return mapped targets
+   */
+  @Benchmark
+  public List<TargetBean> perElementWorker() throws Exception {
+
+    List<TargetBean> targets = new ArrayList<>();
+    for (SourceBean source : sources) {
+      targets.add(new MapWorker<>(source, TargetBean.class.newInstance()).map());
+    }
+    return targets;
+  }
+
+  /**
+   * Maps the list on the calling thread.
+   *
+   * @return mapped targets
+   */
+  @Benchmark
+  public Iterable<TargetBean> sequential() {
+    return MeMapper.from(sources).to(TargetBean.class);
+  }
+
+  /**
+   * Maps the list on the common pool, whatever its size.
+   *
+   * @return mapped targets
+   */
+  @Benchmark
+  public Iterable<TargetBean> parallel() {
+    return MeMapper.from(sources).parallel(ForkJoinPool.commonPool(), 1).to(TargetBean.class);
+  }
+}
@@ -0,0 +1,56 @@
+package com.teammental.memapper.benchmark;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.benchmark.bean.SourceBean;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares copying the fields of an object into a map with reading a single
+ * field through the lazy map view, as audit logging does on every write.
+ * Run with the gc profiler to compare allocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ToMapBenchmark {
+
+  private SourceBean source;
+
+  /**
+   * Creates the source bean.
+   */
+  @Setup
+  public void setUp() {
+    source = SourceBean.create(7);
+  }
+
+  /**
+   * Copies every field into a new map.
+   *
+   * @return field map
+   */
+  @Benchmark
+  public Map<String, Object> toMap() {
+    return MeMapper.from(source).toMap();
+  }
+
+  /**
+   * Reads one field through the map view.
+   *
+   * @return field value
+   */
+  @Benchmark
+  public Object toMapViewGet() {
+    return MeMapper.from(source).toMapView().get("email");
+  }
+}
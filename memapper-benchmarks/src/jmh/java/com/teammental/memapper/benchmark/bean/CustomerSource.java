@@ -0,0 +1,35 @@
+package com.teammental.memapper.benchmark.bean;
+
+/**
+ * Customer of an {@link OrderSource}.
+ */
+public class CustomerSource {
+
+  private Long id;
+  private String name;
+  private String email;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+}
@@ -0,0 +1,35 @@
+package com.teammental.memapper.benchmark.bean;
+
+/**
+ * Line of an {@link OrderTarget}.
+ */
+public class LineTarget {
+
+  private String product;
+  private Integer quantity;
+  private Double price;
+
+  public String getProduct() {
+    return product;
+  }
+
+  public void setProduct(String product) {
+    this.product = product;
+  }
+
+  public Integer getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(Integer quantity) {
+    this.quantity = quantity;
+  }
+
+  public Double getPrice() {
+    return price;
+  }
+
+  public void setPrice(Double price) {
+    this.price = price;
+  }
+}
@@ -0,0 +1,78 @@
+package com.teammental.memapper.benchmark.bean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nested source bean with a customer and a list of lines.
+ */
+public class OrderSource {
+
+  private Long id;
+  private String status;
+  private CustomerSource customer;
+  private List<LineSource> lines;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public void setStatus(String status) {
+    this.status = status;
+  }
+
+  public CustomerSource getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(CustomerSource customer) {
+    this.customer = customer;
+  }
+
+  public List<LineSource> getLines() {
+    return lines;
+  }
+
+  public void setLines(List<LineSource> lines) {
+    this.lines = lines;
+  }
+
+  /**
+   * Creates an order with a customer and the given number of lines.
+   *
+   * @param index     value used to vary the properties.
+   * @param lineCount number of lines.
+   * @return new order.
+   */
+  public static OrderSource create(int index, int lineCount) {
+
+    CustomerSource customer = new CustomerSource();
+    customer.setId((long) index);
+    customer.setName("customer" + index);
+    customer.setEmail("customer" + index + "@teammental.com");
+
+    List<LineSource> lines = new ArrayList<>(lineCount);
+    for (int i = 0; i < lineCount; i++) {
+      LineSource line = new LineSource();
+      line.setProduct("product" + i);
+      line.setQuantity(i + 1);
+      line.setPrice(i * 2.5);
+      lines.add(line);
+    }
+
+    OrderSource order = new OrderSource();
+    order.setId((long) index);
+    order.setStatus("OPEN");
+    order.setCustomer(customer);
+    order.setLines(lines);
+    return order;
+  }
+}
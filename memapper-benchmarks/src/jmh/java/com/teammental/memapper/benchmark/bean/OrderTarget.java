@@ -0,0 +1,46 @@
+package com.teammental.memapper.benchmark.bean;
+
+import java.util.List;
+
+/**
+ * Nested target bean, whose customer and lines are mapped recursively.
+ */
+public class OrderTarget {
+
+  private Long id;
+  private String status;
+  private CustomerTarget customer;
+  private List<LineTarget> lines;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public void setStatus(String status) {
+    this.status = status;
+  }
+
+  public CustomerTarget getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(CustomerTarget customer) {
+    this.customer = customer;
+  }
+
+  public List<LineTarget> getLines() {
+    return lines;
+  }
+
+  public void setLines(List<LineTarget> lines) {
+    this.lines = lines;
+  }
+}
@@ -0,0 +1,170 @@
+package com.teammental.memapper.benchmark.bean;
+
+/**
+ * Numeric reporting bean with primitive properties only.
+ */
+public class PrimitiveBean {
+
+  private long count1;
+  private long count2;
+  private long count3;
+  private long count4;
+  private long count5;
+  private long count6;
+  private double amount1;
+  private double amount2;
+  private double amount3;
+  private double amount4;
+  private double amount5;
+  private double amount6;
+  private int year;
+  private int month;
+  private boolean closed;
+
+  public long getCount1() {
+    return count1;
+  }
+
+  public void setCount1(long count1) {
+    this.count1 = count1;
+  }
+
+  public long getCount2() {
+    return count2;
+  }
+
+  public void setCount2(long count2) {
+    this.count2 = count2;
+  }
+
+  public long getCount3() {
+    return count3;
+  }
+
+  public void setCount3(long count3) {
+    this.count3 = count3;
+  }
+
+  public long getCount4() {
+    return count4;
+  }
+
+  public void setCount4(long count4) {
+    this.count4 = count4;
+  }
+
+  public long getCount5() {
+    return count5;
+  }
+
+  public void setCount5(long count5) {
+    this.count5 = count5;
+  }
+
+  public long getCount6() {
+    return count6;
+  }
+
+  public void setCount6(long count6) {
+    this.count6 = count6;
+  }
+
+  public double getAmount1() {
+    return amount1;
+  }
+
+  public void setAmount1(double amount1) {
+    this.amount1 = amount1;
+  }
+
+  public double getAmount2() {
+    return amount2;
+  }
+
+  public void setAmount2(double amount2) {
+    this.amount2 = amount2;
+  }
+
+  public double getAmount3() {
+    return amount3;
+  }
+
+  public void setAmount3(double amount3) {
+    this.amount3 = amount3;
+  }
+
+  public double getAmount4() {
+    return amount4;
+  }
+
+  public void setAmount4(double amount4) {
+    this.amount4 = amount4;
+  }
+
+  public double getAmount5() {
+    return amount5;
+  }
+
+  public void setAmount5(double amount5) {
+    this.amount5 = amount5;
+  }
+
+  public double getAmount6() {
+    return amount6;
+  }
+
+  public void setAmount6(double amount6) {
+    this.amount6 = amount6;
+  }
+
+  public int getYear() {
+    return year;
+  }
+
+  public void setYear(int year) {
+    this.year = year;
+  }
+
+  public int getMonth() {
+    return month;
+  }
+
+  public void setMonth(int month) {
+    this.month = month;
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  public void setClosed(boolean closed) {
+    this.closed = closed;
+  }
+
+  /**
+   * Creates a bean with every property set.
+   *
+   * @param index value used to vary the properties.
+   * @return new bean.
+   */
+  public static PrimitiveBean create(int index) {
+
+    PrimitiveBean bean = new PrimitiveBean();
+    bean.setCount1(index * 1000L);
+    bean.setCount2(index * 1000L);
+    bean.setCount3(index * 1000L);
+    bean.setCount4(index * 1000L);
+    bean.setCount5(index * 1000L);
+    bean.setCount6(index * 1000L);
+    bean.setAmount1(index / 3.0);
+    bean.setAmount2(index / 3.0);
+    bean.setAmount3(index / 3.0);
+    bean.setAmount4(index / 3.0);
+    bean.setAmount5(index / 3.0);
+    bean.setAmount6(index / 3.0);
+    bean.setYear(index % 12);
+    bean.setMonth(index % 12);
+    bean.setClosed(index % 2 == 0);
+    return bean;
+  }
+}
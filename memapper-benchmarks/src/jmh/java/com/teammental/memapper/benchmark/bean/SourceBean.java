@@ -0,0 +1,80 @@
+package com.teammental.memapper.benchmark.bean;
+
+/**
+ * Flat source bean used by the benchmarks.
+ */
+public class SourceBean {
+
+  private Long id;
+  private String name;
+  private String email;
+  private int age;
+  private boolean active;
+  private Double score;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  public int getAge() {
+    return age;
+  }
+
+  public void setAge(int age) {
+    this.age = age;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void setActive(boolean active) {
+    this.active = active;
+  }
+
+  public Double getScore() {
+    return score;
+  }
+
+  public void setScore(Double score) {
+    this.score = score;
+  }
+
+  /**
+   * Creates a source bean with every property set.
+   *
+   * @param index value used to vary the properties.
+   * @return new source bean.
+   */
+  public static SourceBean create(int index) {
+
+    SourceBean bean = new SourceBean();
+    bean.setId((long) index);
+    bean.setName("name" + index);
+    bean.setEmail("mail" + index + "@teammental.com");
+    bean.setAge(index % 100);
+    bean.setActive(index % 2 == 0);
+    bean.setScore(index / 10.0);
+    return bean;
+  }
+}
@@ -0,0 +1,582 @@
+package com.teammental.memapper.benchmark.bean;
+
+/**
+ * Wide bean with 50 properties of mixed types, mapped to itself by the benchmarks.
+ */
+public class WideBean {
+
+  private String text1;
+  private String text2;
+  private String text3;
+  private String text4;
+  private String text5;
+  private String text6;
+  private String text7;
+  private String text8;
+  private String text9;
+  private String text10;
+  private Long number1;
+  private Long number2;
+  private Long number3;
+  private Long number4;
+  private Long number5;
+  private Long number6;
+  private Long number7;
+  private Long number8;
+  private Long number9;
+  private Long number10;
+  private int count1;
+  private int count2;
+  private int count3;
+  private int count4;
+  private int count5;
+  private int count6;
+  private int count7;
+  private int count8;
+  private int count9;
+  private int count10;
+  private Double amount1;
+  private Double amount2;
+  private Double amount3;
+  private Double amount4;
+  private Double amount5;
+  private Double amount6;
+  private Double amount7;
+  private Double amount8;
+  private Double amount9;
+  private Double amount10;
+  private boolean flag1;
+  private boolean flag2;
+  private boolean flag3;
+  private boolean flag4;
+  private boolean flag5;
+  private boolean flag6;
+  private boolean flag7;
+  private boolean flag8;
+  private boolean flag9;
+  private boolean flag10;
+
+  public String getText1() {
+    return text1;
+  }
+
+  public void setText1(String text1) {
+    this.text1 = text1;
+  }
+
+  public String getText2() {
+    return text2;
+  }
+
+  public void setText2(String text2) {
+    this.text2 = text2;
+  }
+
+  public String getText3() {
+    return text3;
+  }
+
+  public void setText3(String text3) {
+    this.text3 = text3;
+  }
+
+  public String getText4() {
+    return text4;
+  }
+
+  public void setText4(String text4) {
+    this.text4 = text4;
+  }
+
+  public String getText5() {
+    return text5;
+  }
+
+  public void setText5(String text5) {
+    this.text5 = text5;
+  }
+
+  public String getText6() {
+    return text6;
+  }
+
+  public void setText6(String text6) {
+    this.text6 = text6;
+  }
+
+  public String getText7() {
+    return text7;
+  }
+
+  public void setText7(String text7) {
+    this.text7 = text7;
+  }
+
+  public String getText8() {
+    return text8;
+  }
+
+  public void setText8(String text8) {
+    this.text8 = text8;
+  }
+
+  public String getText9() {
+    return text9;
+  }
+
+  public void setText9(String text9) {
+    this.text9 = text9;
+  }
+
+  public String getText10() {
+    return text10;
+  }
+
+  public void setText10(String text10) {
+    this.text10 = text10;
+  }
+
+  public Long getNumber1() {
+    return number1;
+  }
+
+  public void setNumber1(Long number1) {
+    this.number1 = number1;
+  }
+
+  public Long getNumber2() {
+    return number2;
+  }
+
+  public void setNumber2(Long number2) {
+    this.number2 = number2;
+  }
+
+  public Long getNumber3() {
+    return number3;
+  }
+
+  public void setNumber3(Long number3) {
+    this.number3 = number3;
+  }
+
+  public Long getNumber4() {
+    return number4;
+  }
+
+  public void setNumber4(Long number4) {
+    this.number4 = number4;
+  }
+
+  public Long getNumber5() {
+    return number5;
+  }
+
+  public void setNumber5(Long number5) {
+    this.number5 = number5;
+  }
+
+  public Long getNumber6() {
+    return number6;
+  }
+
+  public void setNumber6(Long number6) {
+    this.number6 = number6;
+  }
+
+  public Long getNumber7() {
+    return number7;
+  }
+
+  public void setNumber7(Long number7) {
+    this.number7 = number7;
+  }
+
+  public Long getNumber8() {
+    return number8;
+  }
+
+  public void setNumber8(Long number8) {
+    this.number8 = number8;
+  }
+
+  public Long getNumber9() {
+    return number9;
+  }
+
+  public void setNumber9(Long number9) {
+    this.number9 = number9;
+  }
+
+  public Long getNumber10() {
+    return number10;
+  }
+
+  public void setNumber10(Long number10) {
+    this.number10 = number10;
+  }
+
+  public int getCount1() {
+    return count1;
+  }
+
+  public void setCount1(int count1) {
+    this.count1 = count1;
+  }
+
+  public int getCount2() {
+    return count2;
+  }
+
+  public void setCount2(int count2) {
+    this.count2 = count2;
+  }
+
+  public int getCount3() {
+    return count3;
+  }
+
+  public void setCount3(int count3) {
+    this.count3 = count3;
+  }
+
+  public int getCount4() {
+    return count4;
+  }
+
+  public void setCount4(int count4) {
+    this.count4 = count4;
+  }
+
+  public int getCount5() {
+    return count5;
+  }
+
+  public void setCount5(int count5) {
+    this.count5 = count5;
+  }
+
+  public int getCount6() {
+    return count6;
+  }
+
+  public void setCount6(int count6) {
+    this.count6 = count6;
+  }
+
+  public int getCount7() {
+    return count7;
+  }
+
+  public void setCount7(int count7) {
+    this.count7 = count7;
+  }
+
+  public int getCount8() {
+    return count8;
+  }
+
+  public void setCount8(int count8) {
+    this.count8 = count8;
+  }
+
+  public int getCount9() {
+    return count9;
+  }
+
+  public void setCount9(int count9) {
+    this.count9 = count9;
+  }
+
+  public int getCount10() {
+    return count10;
+  }
+
+  public void setCount10(int count10) {
+    this.count10 = count10;
+  }
+
+  public Double getAmount1() {
+    return amount1;
+  }
+
+  public void setAmount1(Double amount1) {
+    this.amount1 = amount1;
+  }
+
+  public Double getAmount2() {
+    return amount2;
+  }
+
+  public void setAmount2(Double amount2) {
+    this.amount2 = amount2;
+  }
+
+  public Double getAmount3() {
+    return amount3;
+  }
+
+  public void setAmount3(Double amount3) {
+    this.amount3 = amount3;
+  }
+
+  public Double getAmount4() {
+    return amount4;
+  }
+
+  public void setAmount4(Double amount4) {
+    this.amount4 = amount4;
+  }
+
+  public Double getAmount5() {
+    return amount5;
+  }
+
+  public void setAmount5(Double amount5) {
+    this.amount5 = amount5;
+  }
+
+  public Double getAmount6() {
+    return amount6;
+  }
+
+  public void setAmount6(Double amount6) {
+    this.amount6 = amount6;
+  }
+
+  public Double getAmount7() {
+    return amount7;
+  }
+
+  public void setAmount7(Double amount7) {
+    this.amount7 = amount7;
+  }
+
+  public Double getAmount8() {
+    return amount8;
+  }
+
+  public void setAmount8(Double amount8) {
+    this.amount8 = amount8;
+  }
+
+  public Double getAmount9() {
+    return amount9;
+  }
+
+  public void setAmount9(Double amount9) {
+    this.amount9 = amount9;
+  }
+
+  public Double getAmount10() {
+    return amount10;
+  }
+
+  public void setAmount10(Double amount10) {
+    this.amount10 = amount10;
+  }
+
+  public boolean isFlag1() {
+    return flag1;
+  }
+
+  public void setFlag1(boolean flag1) {
+    this.flag1 = flag1;
+  }
+
+  public boolean isFlag2() {
+    return flag2;
+  }
+
+  public void setFlag2(boolean flag2) {
+    this.flag2 = flag2;
+  }
+
+  public boolean isFlag3() {
+    return flag3;
+  }
+
+  public void setFlag3(boolean flag3) {
+    this.flag3 = flag3;
+  }
+
+  public boolean isFlag4() {
+    return flag4;
+  }
+
+  public void setFlag4(boolean flag4) {
+    this.flag4 = flag4;
+  }
+
+  public boolean isFlag5() {
+    return flag5;
+  }
+
+  public void setFlag5(boolean flag5) {
+    this.flag5 = flag5;
+  }
+
+  public boolean isFlag6() {
+    return flag6;
+  }
+
+  public void setFlag6(boolean flag6) {
+    this.flag6 = flag6;
+  }
+
+  public boolean isFlag7() {
+    return flag7;
+  }
+
+  public void setFlag7(boolean flag7) {
+    this.flag7 = flag7;
+  }
+
+  public boolean isFlag8() {
+    return flag8;
+  }
+
+  public void setFlag8(boolean flag8) {
+    this.flag8 = flag8;
+  }
+
+  public boolean isFlag9() {
+    return flag9;
+  }
+
+  public void setFlag9(boolean flag9) {
+    this.flag9 = flag9;
+  }
+
+  public boolean isFlag10() {
+    return flag10;
+  }
+
+  public void setFlag10(boolean flag10) {
+    this.flag10 = flag10;
+  }
+
+  /**
+   * Creates a bean with every property set.
+   *
+   * @param index value used to vary the properties.
+   * @return new bean.
+   */
+  public static WideBean create(int index) {
+
+    WideBean bean = new WideBean();
+    bean.setText1("text" + index);
+    bean.setText2("text" + index);
+    bean.setText3("text" + index);
+    bean.setText4("text" + index);
+    bean.setText5("text" + index);
+    bean.setText6("text" + index);
+    bean.setText7("text" + index);
+    bean.setText8("text" + index);
+    bean.setText9("text" + index);
+    bean.setText10("text" + index);
+    bean.setNumber1((long) index);
+    bean.setNumber2((long) index);
+    bean.setNumber3((long) index);
+    bean.setNumber4((long) index);
+    bean.setNumber5((long) index);
+    bean.setNumber6((long) index);
+    bean.setNumber7((long) index);
+    bean.setNumber8((long) index);
+    bean.setNumber9((long) index);
+    bean.setNumber10((long) index);
+    bean.setCount1(index);
+    bean.setCount2(index);
+    bean.setCount3(index);
+    bean.setCount4(index);
+    bean.setCount5(index);
+    bean.setCount6(index);
+    bean.setCount7(index);
+    bean.setCount8(index);
+    bean.setCount9(index);
+    bean.setCount10(index);
+    bean.setAmount1(index / 10.0);
+    bean.setAmount2(index / 10.0);
+    bean.setAmount3(index / 10.0);
+    bean.setAmount4(index / 10.0);
+    bean.setAmount5(index / 10.0);
+    bean.setAmount6(index / 10.0);
+    bean.setAmount7(index / 10.0);
+    bean.setAmount8(index / 10.0);
+    bean.setAmount9(index / 10.0);
+    bean.setAmount10(index / 10.0);
+    bean.setFlag1(index % 2 == 0);
+    bean.setFlag2(index % 2 == 0);
+    bean.setFlag3(index % 2 == 0);
+    bean.setFlag4(index % 2 == 0);
+    bean.setFlag5(index % 2 == 0);
+    bean.setFlag6(index % 2 == 0);
+    bean.setFlag7(index % 2 == 0);
+    bean.setFlag8(index % 2 == 0);
+    bean.setFlag9(index % 2 == 0);
+    bean.setFlag10(index % 2 == 0);
+    return bean;
+  }
+
+  /**
+   * Copies every property by hand, as a baseline for the mappers.
+   *
+   * @param source bean to copy from.
+   * @param target bean to copy to.
+   * @return target.
+   */
+  public static WideBean copy(WideBean source, WideBean target) {
+
+    target.setText1(source.getText1());
+    target.setText2(source.getText2());
+    target.setText3(source.getText3());
+    target.setText4(source.getText4());
+    target.setText5(source.getText5());
+    target.setText6(source.getText6());
+    target.setText7(source.getText7());
+    target.setText8(source.getText8());
+    target.setText9(source.getText9());
+    target.setText10(source.getText10());
+    target.setNumber1(source.getNumber1());
+    target.setNumber2(source.getNumber2());
+    target.setNumber3(source.getNumber3());
+    target.setNumber4(source.getNumber4());
+    target.setNumber5(source.getNumber5());
+    target.setNumber6(source.getNumber6());
+    target.setNumber7(source.getNumber7());
+    target.setNumber8(source.getNumber8());
+    target.setNumber9(source.getNumber9());
+    target.setNumber10(source.getNumber10());
+    target.setCount1(source.getCount1());
+    target.setCount2(source.getCount2());
+    target.setCount3(source.getCount3());
+    target.setCount4(source.getCount4());
+    target.setCount5(source.getCount5());
+    target.setCount6(source.getCount6());
+    target.setCount7(source.getCount7());
+    target.setCount8(source.getCount8());
+    target.setCount9(source.getCount9());
+    target.setCount10(source.getCount10());
+    target.setAmount1(source.getAmount1());
+    target.setAmount2(source.getAmount2());
+    target.setAmount3(source.getAmount3());
+    target.setAmount4(source.getAmount4());
+    target.setAmount5(source.getAmount5());
+    target.setAmount6(source.getAmount6());
+    target.setAmount7(source.getAmount7());
+    target.setAmount8(source.getAmount8());
+    target.setAmount9(source.getAmount9());
+    target.setAmount10(source.getAmount10());
+    target.setFlag1(source.isFlag1());
+    target.setFlag2(source.isFlag2());
+    target.setFlag3(source.isFlag3());
+    target.setFlag4(source.isFlag4());
+    target.setFlag5(source.isFlag5());
+    target.setFlag6(source.isFlag6());
+    target.setFlag7(source.isFlag7());
+    target.setFlag8(source.isFlag8());
+    target.setFlag9(source.isFlag9());
+    target.setFlag10(source.isFlag10());
+    return target;
+  }
+}
@@ -0,0 +1,156 @@
+package com.teammental.memapper.processor;
+
+import com.teammental.memapper.annotation.GenerateMapper;
+import com.teammental.memapper.core.GeneratedMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypesException;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@link GeneratedMapper} implementation for every type pair
+ * declared with {@link GenerateMapper}, and lists them in
+ * {@code META-INF/services/com.teammental.memapper.core.GeneratedMapper}
+ * so that MeMapper picks them up at runtime.
+ */
+public class GenerateMapperProcessor extends AbstractProcessor {
+
+  private static final String SERVICE_FILE =
+      "META-INF/services/" + GeneratedMapper.class.getName();
+
+  private final Set<String> generatedMappers = new TreeSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(GenerateMapper.class.getName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+    for (Element element :
+        roundEnv.getElementsAnnotatedWith(GenerateMapper.class)) {
+
+      if (element.getKind() != ElementKind.CLASS) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+            "@GenerateMapper can only be used on classes", element);
+        continue;
+      }
+
+      TypeElement sourceType = (TypeElement) element;
+      GenerateMapper annotation = element.getAnnotation(GenerateMapper.class);
+
+      for (TypeMirror targetMirror :
+          getTargetTypes(annotation)) {
+        TypeElement targetType = (TypeElement) processingEnv.getTypeUtils()
+            .asElement(targetMirror);
+
+        generate(sourceType, targetType, element);
+        if (annotation.twoWay()) {
+          generate(targetType, sourceType, element);
+        }
+      }
+    }
+
+    if (roundEnv.processingOver()) {
+      writeServiceFile();
+    }
+    return true;
+  }
+
+  private List<? extends TypeMirror> getTargetTypes(GenerateMapper annotation) {
+
+    try {
+      annotation.value();
+      throw new IllegalStateException("Target types must be read as type mirrors");
+    } catch (MirroredTypesException ex) {
+      return ex.getTypeMirrors();
+    }
+  }
+
+  private void generate(TypeElement sourceType, TypeElement targetType, Element origin) {
+
+    MapperSourceBuilder builder = new MapperSourceBuilder(processingEnv, sourceType, targetType);
+    String mapperName = builder.getQualifiedName();
+
+    if (generatedMappers.contains(mapperName)) {
+      return;
+    }
+
+    if (!builder.isGeneratable()) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+          "No mapper is generated from " + sourceType.getQualifiedName() + " to "
+              + targetType.getQualifiedName() + ". Both types must be public and top level "
+              + "or static nested. Reflection will be used instead.", origin);
+      return;
+    }
+
+    if (builder.hasNestedProperties()) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+          "No mapper is generated from " + sourceType.getQualifiedName() + " to "
+              + targetType.getQualifiedName() + ". Nested properties are mapped at runtime.",
+          origin);
+      return;
+    }
+
+    if (builder.hasConvertedProperties() || builder.hasFlattenedProperties()) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+          "No mapper is generated from " + sourceType.getQualifiedName() + " to "
+              + targetType.getQualifiedName() + ". Converted and flattened properties are "
+              + "mapped at runtime.", origin);
+      return;
+    }
+
+    try {
+      JavaFileObject file = processingEnv.getFiler().createSourceFile(mapperName, origin);
+      try (Writer writer = file.openWriter()) {
+        writer.write(builder.build());
+      }
+      generatedMappers.add(mapperName);
+    } catch (IOException ex) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Can not write mapper " + mapperName + ": " + ex.getLocalizedMessage(), origin);
+    }
+  }
+
+  private void writeServiceFile() {
+
+    if (generatedMappers.isEmpty()) {
+      return;
+    }
+
+    try {
+      FileObject file = processingEnv.getFiler()
+          .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+      try (Writer writer = file.openWriter()) {
+        for (String mapperName : generatedMappers) {
+          writer.write(mapperName);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException ex) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Can not write " + SERVICE_FILE + ": " + ex.getLocalizedMessage());
+    }
+  }
+}
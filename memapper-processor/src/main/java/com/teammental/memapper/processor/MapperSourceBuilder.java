@@ -0,0 +1,426 @@
+package com.teammental.memapper.processor;
+
+import com.teammental.mehelper.StringHelper;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Builds the source code of a generated mapper between two types.
+ * Fields are matched by name with the same rules as the runtime default
+ * configuration: types must be equal, boxed/unboxed counterparts or assignable,
+ * and there must be a public getter in the source and a public setter in the target.
+ * Nested bean properties are not generated, pairs with such properties are left
+ * to the runtime mapping plans which map them recursively. So are pairs with
+ * properties which the runtime default configuration converts or flattens,
+ * as a generated mapper is preferred to the default configuration.
+ */
+class MapperSourceBuilder {
+
+  private final Elements elements;
+  private final Types types;
+  private final TypeElement sourceType;
+  private final TypeElement targetType;
+  private final String packageName;
+  private final String simpleName;
+
+  MapperSourceBuilder(ProcessingEnvironment processingEnv,
+                      TypeElement sourceType,
+                      TypeElement targetType) {
+
+    this.elements = processingEnv.getElementUtils();
+    this.types = processingEnv.getTypeUtils();
+    this.sourceType = sourceType;
+    this.targetType = targetType;
+
+    PackageElement packageElement = elements.getPackageOf(sourceType);
+    this.packageName = packageElement.isUnnamed()
+        ? "" : packageElement.getQualifiedName().toString();
+    this.simpleName = flatName(sourceType) + "To" + flatName(targetType) + "Mapper";
+  }
+
+  String getQualifiedName() {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  boolean isGeneratable() {
+    return isAccessible(sourceType) && isAccessible(targetType);
+  }
+
+  /**
+   * Checks whether a field of the source is mapped to a target field of another bean type,
+   * or to a collection or map of another bean type, which the runtime maps recursively.
+   */
+  boolean hasNestedProperties() {
+
+    Map<String, VariableElement> targetFields = getAllFields(targetType);
+    for (VariableElement sourceField :
+        getAllFields(sourceType).values()) {
+
+      VariableElement targetField = targetFields.get(sourceField.getSimpleName().toString());
+      if (targetField != null
+          && (isNestedBeanPair(sourceField.asType(), targetField.asType())
+          || hasNestedElements(sourceField.asType(), targetField.asType()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether a field of the source is mapped to a target field of a type which is not
+   * assignable, which the runtime maps through a default or registered converter.
+   */
+  boolean hasConvertedProperties() {
+
+    Map<String, VariableElement> targetFields = getAllFields(targetType);
+    for (VariableElement sourceField :
+        getAllFields(sourceType).values()) {
+
+      VariableElement targetField = targetFields.get(sourceField.getSimpleName().toString());
+      if (targetField != null
+          && !isConvertable(sourceField.asType(), targetField.asType())
+          && findGetter(sourceType, sourceField) != null
+          && findSetter(targetType, targetField) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether a target field without a source field of the same name is flattened
+   * from a nested source property, e.g. {@code customerAddressCity} from
+   * {@code customer.address.city}, which the runtime maps through a property path.
+   */
+  boolean hasFlattenedProperties() {
+
+    Map<String, VariableElement> sourceFields = getAllFields(sourceType);
+    for (VariableElement targetField :
+        getAllFields(targetType).values()) {
+
+      String name = targetField.getSimpleName().toString();
+      if (!sourceFields.containsKey(name)
+          && findSetter(targetType, targetField) != null
+          && isFlattened(sourceType, name, false)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  String build() {
+
+    String source = erasure(sourceType.asType());
+    String target = erasure(targetType.asType());
+
+    StringBuilder code = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      code.append("package ").append(packageName).append(";\n\n");
+    }
+    code.append("/**\n")
+        .append(" * Maps ").append(source).append(" to ").append(target).append(".\n")
+        .append(" * Generated by memapper-processor, do not edit.\n")
+        .append(" */\n")
+        .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+        .append("public final class ").append(simpleName).append("\n")
+        .append("    implements com.teammental.memapper.core.GeneratedMapper<")
+        .append(source).append(", ").append(target).append("> {\n\n");
+
+    appendTypeGetter(code, "getSourceType", source);
+    appendTypeGetter(code, "getTargetType", target);
+
+    code.append("  @Override\n")
+        .append("  public void map(").append(source).append(" source, ")
+        .append(target).append(" target) {\n");
+    appendTransfers(code);
+    code.append("  }\n")
+        .append("}\n");
+
+    return code.toString();
+  }
+
+  private void appendTypeGetter(StringBuilder code, String methodName, String type) {
+
+    code.append("  @Override\n")
+        .append("  public Class<").append(type).append("> ").append(methodName).append("() {\n")
+        .append("    return ").append(type).append(".class;\n")
+        .append("  }\n\n");
+  }
+
+  private void appendTransfers(StringBuilder code) {
+
+    Map<String, VariableElement> sourceFields = getAllFields(sourceType);
+    Map<String, VariableElement> targetFields = getAllFields(targetType);
+
+    for (VariableElement sourceField :
+        sourceFields.values()) {
+
+      String name = sourceField.getSimpleName().toString();
+      VariableElement targetField = targetFields.get(name);
+      if (targetField == null || !isConvertable(sourceField.asType(), targetField.asType())) {
+        continue;
+      }
+
+      ExecutableElement getter = findGetter(sourceType, sourceField);
+      ExecutableElement setter = findSetter(targetType, targetField);
+      if (getter == null || setter == null) {
+        continue;
+      }
+
+      TypeMirror valueType = getter.getReturnType();
+      TypeMirror parameterType = setter.getParameters().get(0).asType();
+      String read = "source." + getter.getSimpleName() + "()";
+      String write = "target." + setter.getSimpleName();
+
+      if (parameterType.getKind().isPrimitive() && !valueType.getKind().isPrimitive()) {
+        code.append("    {\n")
+            .append("      ").append(erasure(valueType)).append(" value = ").append(read)
+            .append(";\n")
+            .append("      if (value == null) {\n")
+            .append("        throw new IllegalArgumentException(\"Null value can not be set to")
+            .append(" primitive property '").append(name).append("'\");\n")
+            .append("      }\n")
+            .append("      ").append(write).append("(value);\n")
+            .append("    }\n");
+      } else if (types.isAssignable(types.erasure(valueType), types.erasure(parameterType))) {
+        code.append("    ").append(write).append("(").append(read).append(");\n");
+      } else {
+        String castType = erasure(parameterType);
+        code.append("    {\n")
+            .append("      Object value = ").append(read).append(";\n")
+            .append("      if (value == null || value instanceof ").append(castType)
+            .append(") {\n")
+            .append("        ").append(write).append("((").append(castType)
+            .append(") value);\n")
+            .append("      }\n")
+            .append("    }\n");
+      }
+    }
+  }
+
+  /**
+   * Collects non-static fields of the type and its super classes.
+   * Fields of a sub class hide super class fields with the same name.
+   */
+  private Map<String, VariableElement> getAllFields(TypeElement type) {
+
+    Map<String, VariableElement> fields = new LinkedHashMap<>();
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() == TypeKind.DECLARED) {
+      TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+      if (!superElement.getQualifiedName().contentEquals(Object.class.getName())) {
+        fields.putAll(getAllFields(superElement));
+      }
+    }
+
+    for (VariableElement field :
+        ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (!field.getModifiers().contains(Modifier.STATIC)) {
+        fields.remove(field.getSimpleName().toString());
+        fields.put(field.getSimpleName().toString(), field);
+      }
+    }
+    return fields;
+  }
+
+  private ExecutableElement findGetter(TypeElement type, VariableElement field) {
+
+    String capitalized = StringHelper.capitalizeFirstLetter(field.getSimpleName().toString());
+    boolean isBoolean = isBoolean(field.asType());
+
+    for (ExecutableElement method :
+        ElementFilter.methodsIn(elements.getAllMembers(type))) {
+      String methodName = method.getSimpleName().toString();
+      if (isPublicInstance(method)
+          && method.getParameters().isEmpty()
+          && isSameOrOpposite(method.getReturnType(), field.asType())
+          && (methodName.equals("get" + capitalized)
+          || isBoolean && methodName.equals("is" + capitalized))) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  private ExecutableElement findSetter(TypeElement type, VariableElement field) {
+
+    String methodName = "set"
+        + StringHelper.capitalizeFirstLetter(field.getSimpleName().toString());
+
+    for (ExecutableElement method :
+        ElementFilter.methodsIn(elements.getAllMembers(type))) {
+      if (isPublicInstance(method)
+          && method.getSimpleName().contentEquals(methodName)
+          && method.getParameters().size() == 1
+          && isSameOrOpposite(method.getParameters().get(0).asType(), field.asType())) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  private boolean isConvertable(TypeMirror first, TypeMirror second) {
+
+    TypeMirror firstErasure = types.erasure(first);
+    TypeMirror secondErasure = types.erasure(second);
+
+    if (isSameOrOpposite(firstErasure, secondErasure)) {
+      return true;
+    }
+    if (firstErasure.getKind().isPrimitive() || secondErasure.getKind().isPrimitive()) {
+      return false;
+    }
+    return types.isAssignable(firstErasure, secondErasure)
+        || types.isAssignable(secondErasure, firstErasure);
+  }
+
+  /**
+   * Same rules as {@code PropertyPath.unflatten}: the name starts with the name of
+   * a bean field, and the rest of the name is a field of the bean or flattened from it.
+   */
+  private boolean isFlattened(TypeElement type, String name, boolean nested) {
+
+    for (VariableElement field :
+        getAllFields(type).values()) {
+
+      String fieldName = field.getSimpleName().toString();
+      if (nested && name.equals(fieldName)) {
+        return true;
+      }
+      if (name.length() > fieldName.length()
+          && name.startsWith(fieldName)
+          && Character.isUpperCase(name.charAt(fieldName.length()))
+          && isBeanType(field.asType())) {
+
+        String rest = name.substring(fieldName.length());
+        TypeElement fieldType = (TypeElement) ((DeclaredType) field.asType()).asElement();
+        if (isFlattened(fieldType, Character.toLowerCase(rest.charAt(0)) + rest.substring(1),
+            true)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean isNestedBeanPair(TypeMirror source, TypeMirror target) {
+    return isBeanType(source) && isBeanType(target) && !isConvertable(source, target);
+  }
+
+  private boolean hasNestedElements(TypeMirror source, TypeMirror target) {
+
+    if (source.getKind() != TypeKind.DECLARED || target.getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+
+    int index;
+    if (isSubtypeOf(source, Collection.class) && isSubtypeOf(target, Collection.class)) {
+      index = 0;
+    } else if (isSubtypeOf(source, Map.class) && isSubtypeOf(target, Map.class)) {
+      index = 1;
+    } else {
+      return false;
+    }
+
+    List<? extends TypeMirror> sourceArguments = ((DeclaredType) source).getTypeArguments();
+    List<? extends TypeMirror> targetArguments = ((DeclaredType) target).getTypeArguments();
+    return sourceArguments.size() > index && targetArguments.size() > index
+        && isNestedBeanPair(sourceArguments.get(index), targetArguments.get(index));
+  }
+
+  private boolean isBeanType(TypeMirror type) {
+
+    if (type.getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+    String name = element.getQualifiedName().toString();
+    return element.getKind() == ElementKind.CLASS
+        && !isSubtypeOf(type, Iterable.class)
+        && !isSubtypeOf(type, Map.class)
+        && !name.startsWith("java.")
+        && !name.startsWith("javax.");
+  }
+
+  private boolean isSubtypeOf(TypeMirror type, Class<?> superType) {
+
+    TypeElement superElement = elements.getTypeElement(superType.getName());
+    return types.isAssignable(types.erasure(type), types.erasure(superElement.asType()));
+  }
+
+  private boolean isSameOrOpposite(TypeMirror first, TypeMirror second) {
+
+    TypeMirror firstErasure = types.erasure(first);
+    TypeMirror secondErasure = types.erasure(second);
+    return types.isSameType(firstErasure, secondErasure)
+        || types.isSameType(opposite(firstErasure), secondErasure);
+  }
+
+  private TypeMirror opposite(TypeMirror type) {
+
+    if (type.getKind().isPrimitive()) {
+      return types.boxedClass(types.getPrimitiveType(type.getKind())).asType();
+    }
+    try {
+      return types.unboxedType(type);
+    } catch (IllegalArgumentException ex) {
+      return type;
+    }
+  }
+
+  private boolean isBoolean(TypeMirror type) {
+
+    return type.getKind() == TypeKind.BOOLEAN
+        || types.isSameType(type, elements.getTypeElement(Boolean.class.getName()).asType());
+  }
+
+  private static boolean isPublicInstance(ExecutableElement method) {
+
+    return method.getModifiers().contains(Modifier.PUBLIC)
+        && !method.getModifiers().contains(Modifier.STATIC);
+  }
+
+  private static boolean isAccessible(TypeElement type) {
+
+    TypeElement current = type;
+    while (current.getModifiers().contains(Modifier.PUBLIC)) {
+      if (current.getNestingKind() == NestingKind.TOP_LEVEL) {
+        return true;
+      }
+      if (current.getNestingKind() != NestingKind.MEMBER
+          || !current.getModifiers().contains(Modifier.STATIC)) {
+        return false;
+      }
+      current = (TypeElement) current.getEnclosingElement();
+    }
+    return false;
+  }
+
+  private String erasure(TypeMirror type) {
+    return types.erasure(type).toString();
+  }
+
+  private String flatName(TypeElement type) {
+
+    String binaryName = elements.getBinaryName(type).toString();
+    int packageEnd = binaryName.lastIndexOf('.');
+    return binaryName.substring(packageEnd + 1).replace('$', '_');
+  }
+}
@@ -0,0 +1,323 @@
+package com.teammental.memapper.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.core.GeneratedMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GenerateMapperProcessorTest {
+
+  private static final String PERSON = "package app;\n"
+      + "@com.teammental.memapper.annotation.GenerateMapper(value = PersonDto.class, "
+      + "twoWay = true)\n"
+      + "public class Person {\n"
+      + "  private Integer id;\n"
+      + "  private String name;\n"
+      + "  private boolean active;\n"
+      + "  private java.util.List<String> tags;\n"
+      + "  public Integer getId() { return id; }\n"
+      + "  public void setId(Integer id) { this.id = id; }\n"
+      + "  public String getName() { return name; }\n"
+      + "  public void setName(String name) { this.name = name; }\n"
+      + "  public boolean isActive() { return active; }\n"
+      + "  public void setActive(boolean active) { this.active = active; }\n"
+      + "  public java.util.List<String> getTags() { return tags; }\n"
+      + "  public void setTags(java.util.List<String> tags) { this.tags = tags; }\n"
+      + "}\n";
+
+  private static final String PERSON_DTO = "package app;\n"
+      + "public class PersonDto {\n"
+      + "  private int id;\n"
+      + "  private String name;\n"
+      + "  private Boolean active;\n"
+      + "  private java.util.Collection<String> tags;\n"
+      + "  public int getId() { return id; }\n"
+      + "  public void setId(int id) { this.id = id; }\n"
+      + "  public String getName() { return name; }\n"
+      + "  public void setName(String name) { this.name = name; }\n"
+      + "  public Boolean getActive() { return active; }\n"
+      + "  public void setActive(Boolean active) { this.active = active; }\n"
+      + "  public java.util.Collection<String> getTags() { return tags; }\n"
+      + "  public void setTags(java.util.Collection<String> tags) { this.tags = tags; }\n"
+      + "}\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File sourceDir;
+  private File outputDir;
+
+  @Before
+  public void setUp() throws IOException {
+
+    sourceDir = folder.newFolder("src");
+    outputDir = folder.newFolder("classes");
+  }
+
+  @Test
+  public void shouldGenerateMappersAndServiceFile() throws Exception {
+
+    assertTrue(compile(write("Person", PERSON), write("PersonDto", PERSON_DTO)));
+
+    List<String> services = Files.readAllLines(
+        outputDir.toPath().resolve("META-INF/services/" + GeneratedMapper.class.getName()),
+        StandardCharsets.UTF_8);
+
+    assertEquals(Arrays.asList("app.PersonDtoToPersonMapper", "app.PersonToPersonDtoMapper"),
+        services);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldMapWithGeneratedMapper() throws Exception {
+
+    assertTrue(compile(write("Person", PERSON), write("PersonDto", PERSON_DTO)));
+
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[] {outputDir.toURI().toURL()}, getClass().getClassLoader())) {
+
+      Class<?> personType = classLoader.loadClass("app.Person");
+      Class<?> personDtoType = classLoader.loadClass("app.PersonDto");
+      GeneratedMapper<Object, Object> mapper = (GeneratedMapper<Object, Object>) classLoader
+          .loadClass("app.PersonToPersonDtoMapper").newInstance();
+
+      Object person = personType.newInstance();
+      personType.getMethod("setId", Integer.class).invoke(person, 5);
+      personType.getMethod("setName", String.class).invoke(person, "name");
+      personType.getMethod("setActive", boolean.class).invoke(person, true);
+      personType.getMethod("setTags", List.class)
+          .invoke(person, Collections.singletonList("tag"));
+
+      Object personDto = personDtoType.newInstance();
+      mapper.map(person, personDto);
+
+      assertEquals(personType, mapper.getSourceType());
+      assertEquals(5, personDtoType.getMethod("getId").invoke(personDto));
+      assertEquals("name", personDtoType.getMethod("getName").invoke(personDto));
+      assertEquals(true, personDtoType.getMethod("getActive").invoke(personDto));
+      assertEquals(Collections.singletonList("tag"),
+          personDtoType.getMethod("getTags").invoke(personDto));
+    }
+  }
+
+  @Test
+  public void shouldNotGenerateMapper_whenTargetIsNotPublic() throws Exception {
+
+    String hidden = "package app;\n"
+        + "@com.teammental.memapper.annotation.GenerateMapper(Hidden.Inner.class)\n"
+        + "public class Hidden {\n"
+        + "  static class Inner { }\n"
+        + "}\n";
+
+    assertTrue(compile(write("Hidden", hidden)));
+    assertTrue(!outputDir.toPath().resolve("app/HiddenToHidden_InnerMapper.class")
+        .toFile().exists());
+  }
+
+  @Test
+  public void shouldNotGenerateMapper_whenTypesHaveNestedProperties() throws Exception {
+
+    String order = "package app;\n"
+        + "@com.teammental.memapper.annotation.GenerateMapper(OrderDto.class)\n"
+        + "public class Order {\n"
+        + "  private Person owner;\n"
+        + "  public Person getOwner() { return owner; }\n"
+        + "  public void setOwner(Person owner) { this.owner = owner; }\n"
+        + "}\n";
+    String orderDto = "package app;\n"
+        + "public class OrderDto {\n"
+        + "  private PersonDto owner;\n"
+        + "  public PersonDto getOwner() { return owner; }\n"
+        + "  public void setOwner(PersonDto owner) { this.owner = owner; }\n"
+        + "}\n";
+
+    assertTrue(compile(write("Person", PERSON), write("PersonDto", PERSON_DTO),
+        write("Order", order), write("OrderDto", orderDto)));
+    assertTrue(outputDir.toPath().resolve("app/PersonToPersonDtoMapper.class").toFile().exists());
+    assertTrue(!outputDir.toPath().resolve("app/OrderToOrderDtoMapper.class").toFile().exists());
+  }
+
+  @Test
+  public void shouldNotGenerateMapper_whenTypesHaveNestedCollections() throws Exception {
+
+    String team = "package app;\n"
+        + "@com.teammental.memapper.annotation.GenerateMapper(TeamDto.class)\n"
+        + "public class Team {\n"
+        + "  private java.util.List<Person> members;\n"
+        + "  public java.util.List<Person> getMembers() { return members; }\n"
+        + "  public void setMembers(java.util.List<Person> members) { this.members = members; }\n"
+        + "}\n";
+    String teamDto = "package app;\n"
+        + "public class TeamDto {\n"
+        + "  private java.util.List<PersonDto> members;\n"
+        + "  public java.util.List<PersonDto> getMembers() { return members; }\n"
+        + "  public void setMembers(java.util.List<PersonDto> members) {\n"
+        + "    this.members = members;\n"
+        + "  }\n"
+        + "}\n";
+
+    assertTrue(compile(write("Person", PERSON), write("PersonDto", PERSON_DTO),
+        write("Team", team), write("TeamDto", teamDto)));
+    assertTrue(!outputDir.toPath().resolve("app/TeamToTeamDtoMapper.class").toFile().exists());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldMapLikeRuntimePlan_whenMapperIsGenerated() throws Exception {
+
+    assertTrue(compile(write("Person", PERSON), write("PersonDto", PERSON_DTO)));
+
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[] {outputDir.toURI().toURL()}, getClass().getClassLoader())) {
+
+      Class<?> personType = classLoader.loadClass("app.Person");
+      Class<?> personDtoType = classLoader.loadClass("app.PersonDto");
+      GeneratedMapper<Object, Object> mapper = (GeneratedMapper<Object, Object>) classLoader
+          .loadClass("app.PersonToPersonDtoMapper").newInstance();
+
+      Object person = personType.newInstance();
+      personType.getMethod("setId", Integer.class).invoke(person, 5);
+      personType.getMethod("setName", String.class).invoke(person, "name");
+      personType.getMethod("setTags", List.class)
+          .invoke(person, Collections.singletonList("tag"));
+
+      Object generated = personDtoType.newInstance();
+      mapper.map(person, generated);
+      Object runtime = personDtoType.newInstance();
+      new MapConfigurationRegistry().getConfiguration(personType, personDtoType).getPlan()
+          .map(person, runtime);
+
+      for (String getter : Arrays.asList("getId", "getName", "getActive", "getTags")) {
+        assertEquals(getter, personDtoType.getMethod(getter).invoke(runtime),
+            personDtoType.getMethod(getter).invoke(generated));
+      }
+    }
+  }
+
+  @Test
+  public void shouldNotGenerateMapper_whenTypesHaveConvertedProperties() throws Exception {
+
+    String invoice = "package app;\n"
+        + "@com.teammental.memapper.annotation.GenerateMapper(InvoiceDto.class)\n"
+        + "public class Invoice {\n"
+        + "  private String number;\n"
+        + "  private Long total;\n"
+        + "  public String getNumber() { return number; }\n"
+        + "  public void setNumber(String number) { this.number = number; }\n"
+        + "  public Long getTotal() { return total; }\n"
+        + "  public void setTotal(Long total) { this.total = total; }\n"
+        + "}\n";
+    String invoiceDto = "package app;\n"
+        + "public class InvoiceDto {\n"
+        + "  private String number;\n"
+        + "  private String total;\n"
+        + "  public String getNumber() { return number; }\n"
+        + "  public void setNumber(String number) { this.number = number; }\n"
+        + "  public String getTotal() { return total; }\n"
+        + "  public void setTotal(String total) { this.total = total; }\n"
+        + "}\n";
+
+    assertTrue(compile(write("Invoice", invoice), write("InvoiceDto", invoiceDto)));
+    assertTrue(!outputDir.toPath().resolve("app/InvoiceToInvoiceDtoMapper.class")
+        .toFile().exists());
+  }
+
+  @Test
+  public void shouldNotGenerateMapper_whenTypesHaveFlattenedProperties() throws Exception {
+
+    String address = "package app;\n"
+        + "public class Address {\n"
+        + "  private String city;\n"
+        + "  public String getCity() { return city; }\n"
+        + "  public void setCity(String city) { this.city = city; }\n"
+        + "}\n";
+    String customer = "package app;\n"
+        + "@com.teammental.memapper.annotation.GenerateMapper(CustomerDto.class)\n"
+        + "public class Customer {\n"
+        + "  private String name;\n"
+        + "  private Address address;\n"
+        + "  public String getName() { return name; }\n"
+        + "  public void setName(String name) { this.name = name; }\n"
+        + "  public Address getAddress() { return address; }\n"
+        + "  public void setAddress(Address address) { this.address = address; }\n"
+        + "}\n";
+    String customerDto = "package app;\n"
+        + "public class CustomerDto {\n"
+        + "  private String name;\n"
+        + "  private String addressCity;\n"
+        + "  public String getName() { return name; }\n"
+        + "  public void setName(String name) { this.name = name; }\n"
+        + "  public String getAddressCity() { return addressCity; }\n"
+        + "  public void setAddressCity(String addressCity) { this.addressCity = addressCity; }\n"
+        + "}\n";
+
+    assertTrue(compile(write("Address", address), write("Customer", customer),
+        write("CustomerDto", customerDto)));
+    assertTrue(!outputDir.toPath().resolve("app/CustomerToCustomerDtoMapper.class")
+        .toFile().exists());
+
+    // the runtime plan, which keeps mapping the pair, fills the flattened field
+    try (URLClassLoader classLoader = new URLClassLoader(
+        new URL[] {outputDir.toURI().toURL()}, getClass().getClassLoader())) {
+
+      Class<?> addressType = classLoader.loadClass("app.Address");
+      Class<?> customerType = classLoader.loadClass("app.Customer");
+      Class<?> customerDtoType = classLoader.loadClass("app.CustomerDto");
+
+      Object addressValue = addressType.newInstance();
+      addressType.getMethod("setCity", String.class).invoke(addressValue, "Ankara");
+      Object customerValue = customerType.newInstance();
+      customerType.getMethod("setAddress", addressType).invoke(customerValue, addressValue);
+
+      Object target = customerDtoType.newInstance();
+      new MapConfigurationRegistry().getConfiguration(customerType, customerDtoType).getPlan()
+          .map(customerValue, target);
+      assertEquals("Ankara", customerDtoType.getMethod("getAddressCity").invoke(target));
+    }
+  }
+
+  private File write(String name, String content) throws IOException {
+
+    Path packageDir = sourceDir.toPath().resolve("app");
+    Files.createDirectories(packageDir);
+    Path file = packageDir.resolve(name + ".java");
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    return file.toFile();
+  }
+
+  private boolean compile(File... files) throws IOException {
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+             compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+          Arrays.asList("-classpath", System.getProperty("java.class.path"),
+              "-d", outputDir.getAbsolutePath(),
+              "-s", outputDir.getAbsolutePath()),
+          null, fileManager.getJavaFileObjects(files));
+      task.setProcessors(Collections.singletonList(new GenerateMapperProcessor()));
+      return task.call();
+    }
+  }
+}
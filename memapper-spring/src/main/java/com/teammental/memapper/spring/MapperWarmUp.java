@@ -0,0 +1,208 @@
+package com.teammental.memapper.spring;
+
+import com.teammental.mecore.stereotype.dto.Dto;
+import com.teammental.mecore.stereotype.entity.Entity;
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.core.Instantiator;
+import com.teammental.memapper.core.TypeMapper;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Builds the mapping plans of {@link Dto} and {@link Entity} types before the first request.
+ * Dto and Entity types found in the given packages are paired by name, e.g.
+ * {@code PersonDto} or {@code PersonTo} with {@code Person} or {@code PersonEntity},
+ * and both directions are resolved through {@link TypeMapper#resolve(Class, Class)},
+ * so the plans of the singleton registry's configurations are built and validated.
+ * Pairs mapped by a generated mapper have no configuration to build and are not validated.
+ * Optionally each pair is mapped a number of times, so the JIT compiles the mapping
+ * path before real traffic arrives.
+ * Types are loaded through the class loader of the given {@link ResourceLoader},
+ * which is the application context's class loader when started by
+ * {@link StartupMapConfigurationRegistry}.
+ */
+public class MapperWarmUp {
+
+  private static final String[] DTO_SUFFIXES = {"Dto", "To"};
+
+  private static final String[] ENTITY_SUFFIXES = {"Entity"};
+
+  private final ResourceLoader resourceLoader;
+
+  /**
+   * Creates a warm-up which loads the types through the default class loader,
+   * see {@link ClassUtils#getDefaultClassLoader()}.
+   */
+  public MapperWarmUp() {
+    this(new DefaultResourceLoader());
+  }
+
+  /**
+   * Creates a warm-up which scans and loads the types through the given resource loader.
+   *
+   * @param resourceLoader resource loader, e.g. the application context.
+   */
+  public MapperWarmUp(ResourceLoader resourceLoader) {
+
+    AssertHelper.notNull(resourceLoader);
+    this.resourceLoader = resourceLoader;
+  }
+
+  /**
+   * Builds and validates the plans of the Dto and Entity pairs in the given packages.
+   * Pairs which can not be mapped, or map no property, and packages which can not be scanned
+   * are reported as failures.
+   *
+   * @param basePackages packages to scan, including their sub packages.
+   * @param iterations   how many times each pair is mapped after its plans are built.
+   * @return warm-up report.
+   */
+  public WarmUpReport warmUp(Collection<String> basePackages, int iterations) {
+
+    AssertHelper.notNull(basePackages);
+
+    long start = System.nanoTime();
+    List<String> failures = new ArrayList<>();
+    List<Map.Entry<Class<?>, Class<?>>> pairs = findPairs(basePackages, failures);
+
+    for (Map.Entry<Class<?>, Class<?>> pair :
+        pairs) {
+      warmUp(pair.getKey(), pair.getValue(), iterations, failures);
+      warmUp(pair.getValue(), pair.getKey(), iterations, failures);
+    }
+
+    return new WarmUpReport(pairs.size() * 2, failures,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  /**
+   * Finds the Dto and Entity types of the same name in the given packages.
+   * A package which can not be scanned, e.g. one of its types can not be loaded,
+   * is added to the failures and skipped.
+   *
+   * @param basePackages packages to scan.
+   * @param failures     failure messages of the packages which can not be scanned.
+   * @return Entity and Dto type pairs.
+   */
+  List<Map.Entry<Class<?>, Class<?>>> findPairs(Collection<String> basePackages,
+                                                List<String> failures) {
+
+    Map<String, List<Class<?>>> dtoTypes = new HashMap<>();
+    List<Class<?>> entityTypes = new ArrayList<>();
+
+    for (String basePackage :
+        basePackages) {
+      List<Class<?>> packageDtoTypes;
+      List<Class<?>> packageEntityTypes;
+      try {
+        packageDtoTypes = scan(basePackage, Dto.class);
+        packageEntityTypes = scan(basePackage, Entity.class);
+      } catch (RuntimeException | LinkageError ex) {
+        failures.add(basePackage + ": can not be scanned, " + ex.getLocalizedMessage());
+        continue;
+      }
+      for (Class<?> type :
+          packageDtoTypes) {
+        dtoTypes.computeIfAbsent(baseName(type, DTO_SUFFIXES), name -> new ArrayList<>())
+            .add(type);
+      }
+      entityTypes.addAll(packageEntityTypes);
+    }
+
+    List<Map.Entry<Class<?>, Class<?>>> pairs = new ArrayList<>();
+    for (Class<?> entityType :
+        entityTypes) {
+      List<Class<?>> matchingDtoTypes = dtoTypes.get(baseName(entityType, ENTITY_SUFFIXES));
+      if (matchingDtoTypes == null) {
+        continue;
+      }
+      for (Class<?> dtoType :
+          matchingDtoTypes) {
+        if (!dtoType.equals(entityType)) {
+          pairs.add(new AbstractMap.SimpleImmutableEntry<>(entityType, dtoType));
+        }
+      }
+    }
+    return pairs;
+  }
+
+  private void warmUp(Class<?> sourceType, Class<?> targetType, int iterations,
+                      List<String> failures) {
+
+    String pairName = sourceType.getSimpleName() + " -> " + targetType.getSimpleName();
+    try {
+      TypeMapper<Object, Object> typeMapper = TypeMapper.resolve(sourceType, targetType);
+      Instantiator<?> sourceInstantiator = Instantiator.of(sourceType);
+      Instantiator<?> targetInstantiator = Instantiator.of(targetType);
+
+      Optional<MapConfiguration> configuration = typeMapper.getConfiguration();
+      if (configuration.isPresent()) {
+        if (configuration.get().getPlan().size() == 0) {
+          failures.add(pairName + ": no property is mapped");
+          return;
+        }
+        if (!targetInstantiator.isInstantiable()
+            && !configuration.get().getConstructorPlan().isPresent()) {
+          failures.add(pairName + ": " + targetInstantiator.getFailure().getLocalizedMessage());
+          return;
+        }
+      } else if (!targetInstantiator.isInstantiable()) {
+        return;
+      }
+      if (!sourceInstantiator.isInstantiable()) {
+        return;
+      }
+
+      Object source = sourceInstantiator.newInstance();
+      for (int i = 0; i < iterations; i++) {
+        typeMapper.create(source);
+      }
+    } catch (RuntimeException | TargetTypeInstantiationException ex) {
+      failures.add(pairName + ": " + ex.getLocalizedMessage());
+    }
+  }
+
+  private List<Class<?>> scan(String basePackage, Class<?> stereotype) {
+
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false);
+    scanner.setResourceLoader(resourceLoader);
+    scanner.addIncludeFilter(new AssignableTypeFilter(stereotype));
+
+    List<Class<?>> types = new ArrayList<>();
+    for (BeanDefinition candidate :
+        scanner.findCandidateComponents(basePackage)) {
+      types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(),
+          resourceLoader.getClassLoader()));
+    }
+    return types;
+  }
+
+  private static String baseName(Class<?> type, String[] suffixes) {
+
+    String name = type.getSimpleName();
+    for (String suffix :
+        suffixes) {
+      if (name.endsWith(suffix) && name.length() > suffix.length()) {
+        return name.substring(0, name.length() - suffix.length());
+      }
+    }
+    return name;
+  }
+}
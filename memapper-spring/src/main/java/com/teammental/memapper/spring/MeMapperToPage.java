@@ -0,0 +1,52 @@
+package com.teammental.memapper.spring;
+
+import com.teammental.memapper.core.BulkMapper;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+class MeMapperToPage<SourceT> implements ToPage {
+
+  private Page<SourceT> source;
+
+  private static final Logger logger = LoggerFactory.getLogger(PageMapper.class);
+
+  MeMapperToPage(Page<SourceT> source) {
+    this.source = source;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <TargetT> Page<TargetT> to(Class<? extends TargetT> targetType) {
+    try {
+      List<TargetT> content = Collections.unmodifiableList(mapContent(targetType));
+      return new PageImpl<>(content, source.getPageable(), source.getTotalElements());
+
+    } catch (Exception exception) {
+      logger.debug(exception.getLocalizedMessage());
+      return null;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <TargetT> Optional<Page<TargetT>> toOptional(Class<? extends TargetT> targetType) {
+    return Optional.ofNullable(to(targetType));
+  }
+
+  private <TargetT> List<TargetT> mapContent(Class<TargetT> targetType)
+      throws TargetTypeInstantiationException {
+    return new BulkMapper<SourceT, TargetT>(targetType).map(source.getContent());
+  }
+}
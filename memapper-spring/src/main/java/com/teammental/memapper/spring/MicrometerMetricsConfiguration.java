@@ -0,0 +1,53 @@
+package com.teammental.memapper.spring;
+
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.metrics.MappingMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables mapping metrics and publishes them to the application's Micrometer
+ * {@link MeterRegistry}, when {@value #METRICS_ENABLED_PROPERTY} is true
+ * and Micrometer is on the classpath.
+ */
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(MicrometerMetricsConfiguration.METRICS_ENABLED_PROPERTY)
+public class MicrometerMetricsConfiguration {
+
+  /**
+   * Property which enables mapping metrics, false by default.
+   */
+  public static final String METRICS_ENABLED_PROPERTY = "com.teammental.memapper.metrics.enabled";
+
+  /**
+   * Default Bean definition for MicrometerMetricsReporter.
+   * Metrics are recorded even if no MeterRegistry bean is defined,
+   * they can still be read from {@link MappingMetrics}.
+   *
+   * @param meterRegistry meter registry of the application, if any.
+   * @return MicrometerMetricsReporter, or null if there is no meter registry.
+   */
+  @Bean
+  @ConditionalOnMissingBean(MicrometerMetricsReporter.class)
+  public MicrometerMetricsReporter micrometerMetricsReporter(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+
+    MapperSettings.setMetricsEnabled(true);
+
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry == null) {
+      return null;
+    }
+    MicrometerMetricsReporter reporter = new MicrometerMetricsReporter(registry);
+    MappingMetrics.addReporter(reporter);
+    return reporter;
+  }
+}
@@ -0,0 +1,162 @@
+package com.teammental.memapper.spring;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.metrics.MetricsReporter;
+import com.teammental.memapper.metrics.TypePairMetrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Binds the {@link TypePairMetrics} of every mapped type pair to Micrometer meters,
+ * tagged with the source and target type names.
+ * Meters read the live metrics when they are published, nothing is copied on mapping.
+ * Meters are bound to a holder per type pair name, which the reporter keeps, as Micrometer
+ * keeps one meter per name and tags and holds the bound object weakly. When the metrics of
+ * an evicted pair are created again, the holder is rebound to the new metrics and the counts
+ * of the previous metrics are carried over, so counters never go back.
+ */
+public class MicrometerMetricsReporter implements MetricsReporter {
+
+  private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+  private static final ToLongFunction<TypePairMetrics> INVOCATIONS =
+      TypePairMetrics::getInvocationCount;
+  private static final ToLongFunction<TypePairMetrics> OBJECTS = TypePairMetrics::getObjectCount;
+  private static final ToLongFunction<TypePairMetrics> TOTAL_NANOS =
+      TypePairMetrics::getTotalNanos;
+  private static final ToLongFunction<TypePairMetrics> SKIPPED_FIELDS =
+      TypePairMetrics::getSkippedFieldCount;
+  private static final ToLongFunction<TypePairMetrics> PLAN_CACHE_HITS =
+      TypePairMetrics::getPlanCacheHitCount;
+  private static final ToLongFunction<TypePairMetrics> PLAN_CACHE_MISSES =
+      TypePairMetrics::getPlanCacheMissCount;
+
+  private static final List<ToLongFunction<TypePairMetrics>> COUNTS = Arrays.asList(
+      INVOCATIONS, OBJECTS, TOTAL_NANOS, SKIPPED_FIELDS, PLAN_CACHE_HITS, PLAN_CACHE_MISSES);
+
+  private final MeterRegistry meterRegistry;
+
+  private final ConcurrentMap<List<String>, PairMeters> pairMeters = new ConcurrentHashMap<>();
+
+  public MicrometerMetricsReporter(MeterRegistry meterRegistry) {
+
+    AssertHelper.notNull(meterRegistry);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void register(TypePairMetrics metrics) {
+
+    String sourceName = metrics.getSourceType().getName();
+    String targetName = metrics.getTargetType().getName();
+
+    boolean[] created = new boolean[1];
+    PairMeters meters = pairMeters.computeIfAbsent(Arrays.asList(sourceName, targetName),
+        key -> {
+          created[0] = true;
+          return new PairMeters();
+        });
+    meters.bind(metrics);
+    if (created[0]) {
+      bindMeters(meters, Tags.of("source", sourceName, "target", targetName));
+    }
+  }
+
+  private void bindMeters(PairMeters meters, Tags tags) {
+
+    FunctionCounter.builder("memapper.invocations", meters,
+        pair -> pair.count(INVOCATIONS))
+        .tags(tags)
+        .description("Mapping calls, a list mapping counts once")
+        .register(meterRegistry);
+
+    FunctionTimer.builder("memapper.mappings", meters,
+        pair -> (long) pair.count(OBJECTS), pair -> pair.count(TOTAL_NANOS),
+        TimeUnit.NANOSECONDS)
+        .tags(tags)
+        .description("Mapped objects, including nested objects and list elements")
+        .register(meterRegistry);
+
+    for (double percentile :
+        PERCENTILES) {
+      TimeGauge.builder("memapper.mappings.percentile", meters, TimeUnit.NANOSECONDS,
+          pair -> pair.percentile(percentile))
+          .tags(tags)
+          .tag("phi", String.valueOf(percentile))
+          .register(meterRegistry);
+    }
+
+    FunctionCounter.builder("memapper.fields.skipped", meters,
+        pair -> pair.count(SKIPPED_FIELDS))
+        .tags(tags)
+        .description("Configured fields left out, as they are not accessible")
+        .register(meterRegistry);
+
+    FunctionCounter.builder("memapper.plan.cache", meters,
+        pair -> pair.count(PLAN_CACHE_HITS))
+        .tags(tags)
+        .tag("result", "hit")
+        .register(meterRegistry);
+
+    FunctionCounter.builder("memapper.plan.cache", meters,
+        pair -> pair.count(PLAN_CACHE_MISSES))
+        .tags(tags)
+        .tag("result", "miss")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Metrics of a type pair which its meters are bound to. The current metrics are
+   * referenced weakly, so the reporter never pins the class loaders of the mapped types.
+   */
+  private static final class PairMeters {
+
+    private final long[] carried = new long[COUNTS.size()];
+    private WeakReference<TypePairMetrics> current = new WeakReference<>(null);
+
+    /**
+     * Binds the meters to the given metrics, carrying over the counts of the previous metrics.
+     */
+    private synchronized void bind(TypePairMetrics metrics) {
+
+      TypePairMetrics previous = current.get();
+      if (previous == metrics) {
+        return;
+      }
+      if (previous != null) {
+        for (int i = 0; i < carried.length; i++) {
+          carried[i] += COUNTS.get(i).applyAsLong(previous);
+        }
+      }
+      current = new WeakReference<>(metrics);
+    }
+
+    private synchronized double count(ToLongFunction<TypePairMetrics> count) {
+
+      TypePairMetrics metrics = current.get();
+      long carriedCount = carried[COUNTS.indexOf(count)];
+      return metrics == null ? carriedCount : carriedCount + count.applyAsLong(metrics);
+    }
+
+    /**
+     * Returns the percentile of the current metrics, 0 if they are collected.
+     */
+    private double percentile(double percentile) {
+
+      TypePairMetrics metrics = current.get();
+      return metrics == null ? 0 : metrics.getPercentileNanos(percentile);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.teammental.memapper.spring;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Maps Spring Data pages and slices with MeMapper.
+ * Only the content is mapped; the page request, sort and
+ * counts of the source are carried over, so no count query is needed
+ * to rebuild them.
+ */
+public final class PageMapper {
+
+  private PageMapper() {
+  }
+
+  /**
+   * Creates a new Mapper instance.
+   *
+   * @param source    Page&lt;SourceT&gt; object which will be used
+   *                  as source when mapping.
+   * @param <SourceT> generic type of source object
+   * @return a new Mapper instance.
+   */
+  public static <SourceT> ToPage from(Page<SourceT> source) {
+    return new MeMapperToPage<>(source);
+  }
+
+  /**
+   * Creates a new Mapper instance.
+   *
+   * @param source    Slice&lt;SourceT&gt; object which will be used
+   *                  as source when mapping.
+   * @param <SourceT> generic type of source object
+   * @return a new Mapper instance.
+   */
+  public static <SourceT> ToSlice from(Slice<SourceT> source) {
+    return new MeMapperToSlice<>(source);
+  }
+}
@@ -3,26 +3,80 @@ package com.teammental.memapper.spring;
 import com.teammental.memapper.configuration.MapConfigurationRegistry;
 import com.teammental.memapper.core.MapConfigurationRegistrySingleton;
 
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 @Component
 public class StartupMapConfigurationRegistry {
 
+  /**
+   * Property which enables the startup warm-up, false by default.
+   */
+  public static final String WARM_UP_ENABLED_PROPERTY = "com.teammental.memapper.warmup.enabled";
+
+  /**
+   * Property which lists the packages scanned for Dto and Entity pairs, comma separated.
+   */
+  public static final String WARM_UP_PACKAGES_PROPERTY =
+      "com.teammental.memapper.warmup.base-packages";
+
+  /**
+   * Property which sets how many times each pair is mapped after its plan is built, 0 by default.
+   * Synthetic mappings let the JIT compile the mapping path before the first request.
+   */
+  public static final String WARM_UP_ITERATIONS_PROPERTY =
+      "com.teammental.memapper.warmup.iterations";
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(StartupMapConfigurationRegistry.class);
+
   @Autowired
   MapConfigurationRegistry mapConfigurationRegistry;
 
+  @Autowired
+  Environment environment;
+
+  @Autowired
+  ResourceLoader resourceLoader;
+
   /**
    * On context refreshed event, merges singleton instance
    * of the registry with custom bean instance of the registry.
+   * Then, if the warm-up is enabled, builds the plans of the Dto and Entity pairs
+   * in the configured packages with the context's class loader, see {@link MapperWarmUp}.
    */
   @EventListener(ContextRefreshedEvent.class)
   public void contextRefreshEvent() {
 
     MapConfigurationRegistrySingleton.getSingleton()
         .merge(mapConfigurationRegistry);
+
+    if (environment.getProperty(WARM_UP_ENABLED_PROPERTY, Boolean.class, false)) {
+      warmUp();
+    }
+  }
+
+  private void warmUp() {
+
+    String[] basePackages =
+        environment.getProperty(WARM_UP_PACKAGES_PROPERTY, String[].class, new String[0]);
+    int iterations = environment.getProperty(WARM_UP_ITERATIONS_PROPERTY, Integer.class, 0);
+
+    WarmUpReport report = new MapperWarmUp(resourceLoader)
+        .warmUp(Arrays.asList(basePackages), iterations);
+    if (report.getFailures().isEmpty()) {
+      LOGGER.info(report.toString());
+    } else {
+      LOGGER.warn(report.toString());
+    }
   }
 
 }
@@ -0,0 +1,33 @@
+package com.teammental.memapper.spring;
+
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+
+public interface ToPage {
+  /**
+   * Maps the content of the source page to newly instantiated objects of the given TargetType.
+   * The page request, sort and total element count of the source page are kept.
+   *
+   * @param targetType Target object's class.
+   *                   Target type must have a public no-arg
+   *                   constructor. Otherwise a TargetTypeInstantiationException
+   *                   will be thrown and return value will be null.
+   * @param <TargetT>  element type of the returned page, the target type or a supertype of it.
+   * @return Page of TargetT.
+   */
+  <TargetT> Page<TargetT> to(Class<? extends TargetT> targetType);
+
+  /**
+   * Maps the content of the source page to newly instantiated objects of the given TargetType.
+   * The page request, sort and total element count of the source page are kept.
+   *
+   * @param targetType Target object's class.
+   *                   Target type must have a public no-arg
+   *                   constructor. Otherwise a TargetTypeInstantiationException
+   *                   will be thrown and return value will be empty.
+   * @param <TargetT>  element type of the returned page, the target type or a supertype of it.
+   * @return Optional of Page of TargetT.
+   */
+  <TargetT> Optional<Page<TargetT>> toOptional(Class<? extends TargetT> targetType);
+}
@@ -0,0 +1,33 @@
+package com.teammental.memapper.spring;
+
+import java.util.Optional;
+
+import org.springframework.data.domain.Slice;
+
+public interface ToSlice {
+  /**
+   * Maps the content of the source slice to newly instantiated objects of the given TargetType.
+   * The page request, sort and whether there is a next slice are kept.
+   *
+   * @param targetType Target object's class.
+   *                   Target type must have a public no-arg
+   *                   constructor. Otherwise a TargetTypeInstantiationException
+   *                   will be thrown and return value will be null.
+   * @param <TargetT>  element type of the returned slice, the target type or a supertype of it.
+   * @return Slice of TargetT.
+   */
+  <TargetT> Slice<TargetT> to(Class<? extends TargetT> targetType);
+
+  /**
+   * Maps the content of the source slice to newly instantiated objects of the given TargetType.
+   * The page request, sort and whether there is a next slice are kept.
+   *
+   * @param targetType Target object's class.
+   *                   Target type must have a public no-arg
+   *                   constructor. Otherwise a TargetTypeInstantiationException
+   *                   will be thrown and return value will be empty.
+   * @param <TargetT>  element type of the returned slice, the target type or a supertype of it.
+   * @return Optional of Slice of TargetT.
+   */
+  <TargetT> Optional<Slice<TargetT>> toOptional(Class<? extends TargetT> targetType);
+}
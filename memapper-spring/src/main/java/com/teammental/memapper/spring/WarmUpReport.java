@@ -0,0 +1,50 @@
+package com.teammental.memapper.spring;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a {@link MapperWarmUp}.
+ */
+public final class WarmUpReport {
+
+  private final int pairCount;
+  private final List<String> failures;
+  private final long elapsedMillis;
+
+  WarmUpReport(int pairCount, List<String> failures, long elapsedMillis) {
+
+    this.pairCount = pairCount;
+    this.failures = Collections.unmodifiableList(failures);
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  /**
+   * Returns the number of type pairs whose plans are built.
+   *
+   * @return type pair count.
+   */
+  public int getPairCount() {
+    return pairCount;
+  }
+
+  /**
+   * Returns the pairs which can not be mapped, or map no property, with the reason.
+   *
+   * @return failure messages.
+   */
+  public List<String> getFailures() {
+    return failures;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  @Override
+  public String toString() {
+
+    return "Mapper warm-up built " + pairCount + " type pairs in " + elapsedMillis + " ms"
+        + (failures.isEmpty() ? "." : ", " + failures.size() + " failed: " + failures);
+  }
+}
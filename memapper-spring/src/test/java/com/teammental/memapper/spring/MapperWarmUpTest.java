@@ -0,0 +1,114 @@
+package com.teammental.memapper.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.core.GeneratedMapper;
+import com.teammental.memapper.core.GeneratedMapperRegistry;
+import com.teammental.memapper.core.MapConfigurationRegistrySingleton;
+import com.teammental.memapper.spring.to.generated.CustomerDto;
+import com.teammental.memapper.spring.to.generated.CustomerEntity;
+import com.teammental.memapper.spring.to.warmup.AddressEntity;
+import com.teammental.memapper.spring.to.warmup.AddressTo;
+import com.teammental.memapper.spring.to.warmup.Person;
+import com.teammental.memapper.spring.to.warmup.PersonDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+public class MapperWarmUpTest {
+
+  private static final List<String> PACKAGES =
+      Collections.singletonList("com.teammental.memapper.spring.to.warmup");
+
+  @Test
+  public void shouldPairDtoAndEntityTypesByName() {
+
+    List<Map.Entry<Class<?>, Class<?>>> pairs = new MapperWarmUp().findPairs(PACKAGES,
+        new ArrayList<>());
+
+    assertEquals(2, pairs.size());
+    assertTrue(pairs.stream().anyMatch(pair -> pair.getKey().equals(Person.class)
+        && pair.getValue().equals(PersonDto.class)));
+    assertTrue(pairs.stream().anyMatch(pair -> pair.getKey().equals(AddressEntity.class)
+        && pair.getValue().equals(AddressTo.class)));
+  }
+
+  @Test
+  public void shouldBuildConfigurationsOfBothDirections() {
+
+    WarmUpReport report = new MapperWarmUp().warmUp(PACKAGES, 10);
+
+    MapConfigurationRegistry registry = MapConfigurationRegistrySingleton.getSingleton();
+    assertEquals(4, report.getPairCount());
+    assertTrue(registry.findConfiguration(Person.class, PersonDto.class).isPresent());
+    assertTrue(registry.findConfiguration(PersonDto.class, Person.class).isPresent());
+  }
+
+  @Test
+  public void shouldReportPairsWhichMapNoProperty() {
+
+    WarmUpReport report = new MapperWarmUp().warmUp(PACKAGES, 0);
+
+    assertEquals(2, report.getFailures().size());
+    assertTrue(report.getFailures().get(0).startsWith("AddressEntity -> AddressTo"));
+  }
+
+  @Test
+  public void shouldNotCreateConfiguration_whenPairHasGeneratedMapper() {
+
+    GeneratedMapperRegistry.register(new GeneratedMapper<CustomerEntity, CustomerDto>() {
+      @Override
+      public Class<CustomerEntity> getSourceType() {
+        return CustomerEntity.class;
+      }
+
+      @Override
+      public Class<CustomerDto> getTargetType() {
+        return CustomerDto.class;
+      }
+
+      @Override
+      public void map(CustomerEntity source, CustomerDto target) {
+        target.setName(source.getName());
+      }
+    });
+
+    WarmUpReport report = new MapperWarmUp().warmUp(
+        Collections.singletonList("com.teammental.memapper.spring.to.generated"), 10);
+
+    MapConfigurationRegistry registry = MapConfigurationRegistrySingleton.getSingleton();
+    assertTrue(report.getFailures().isEmpty());
+    assertFalse(registry.findConfiguration(CustomerEntity.class, CustomerDto.class).isPresent());
+    assertTrue(registry.findConfiguration(CustomerDto.class, CustomerEntity.class).isPresent());
+  }
+
+  @Test
+  public void shouldReportFailure_whenPackageCanNotBeScanned() {
+
+    ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+
+        if (name.startsWith(PACKAGES.get(0))) {
+          throw new ClassNotFoundException(name);
+        }
+        return super.loadClass(name, resolve);
+      }
+    };
+
+    WarmUpReport report = new MapperWarmUp(new DefaultResourceLoader(classLoader))
+        .warmUp(PACKAGES, 0);
+
+    assertEquals(0, report.getPairCount());
+    assertEquals(1, report.getFailures().size());
+    assertTrue(report.getFailures().get(0).startsWith(PACKAGES.get(0) + ": can not be scanned"));
+  }
+}
@@ -0,0 +1,90 @@
+package com.teammental.memapper.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.metrics.MappingMetrics;
+import com.teammental.memapper.metrics.TypePairMetrics;
+import com.teammental.memapper.spring.to.SourceTo;
+import com.teammental.memapper.spring.to.TargetTo;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MicrometerMetricsReporterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MicrometerMetricsReporter reporter = new MicrometerMetricsReporter(meterRegistry);
+
+  @Before
+  public void setUp() {
+
+    MapperSettings.setMetricsEnabled(true);
+    MappingMetrics.addReporter(reporter);
+  }
+
+  @After
+  public void tearDown() {
+
+    MappingMetrics.removeReporter(reporter);
+    MapperSettings.setMetricsEnabled(false);
+  }
+
+  @Test
+  public void shouldPublishTypePairMetrics() {
+
+    MeMapper.from(new SourceTo()).to(TargetTo.class);
+
+    TypePairMetrics metrics = MappingMetrics.of(SourceTo.class, TargetTo.class);
+    FunctionTimer timer = meterRegistry.get("memapper.mappings")
+        .tag("source", SourceTo.class.getName())
+        .tag("target", TargetTo.class.getName())
+        .functionTimer();
+
+    assertEquals(metrics.getObjectCount(), (long) timer.count());
+    assertEquals(metrics.getTotalNanos(), timer.totalTime(TimeUnit.NANOSECONDS), 0);
+    assertEquals(metrics.getInvocationCount(), meterRegistry.get("memapper.invocations")
+        .tag("source", SourceTo.class.getName())
+        .functionCounter().count(), 0);
+  }
+
+  @Test
+  public void shouldPublishNewMetrics_whenEvictedPairIsRecordedAgain() {
+
+    MeMapper.from(new SourceTo()).to(TargetTo.class);
+    TypePairMetrics evicted = MappingMetrics.of(SourceTo.class, TargetTo.class);
+
+    int cacheSize = MapperSettings.getConfigurationCacheSize();
+    MapperSettings.setConfigurationCacheSize(1);
+    try {
+      MappingMetrics.of(TargetTo.class, SourceTo.class);
+    } finally {
+      MapperSettings.setConfigurationCacheSize(cacheSize);
+    }
+    assertFalse(MappingMetrics.find(SourceTo.class, TargetTo.class).isPresent());
+
+    MeMapper.from(new SourceTo()).to(TargetTo.class);
+    TypePairMetrics metrics = MappingMetrics.of(SourceTo.class, TargetTo.class);
+
+    assertNotSame(evicted, metrics);
+    assertEquals(evicted.getInvocationCount() + metrics.getInvocationCount(),
+        meterRegistry.get("memapper.invocations")
+            .tag("source", SourceTo.class.getName())
+            .tag("target", TargetTo.class.getName())
+            .functionCounter().count(), 0);
+    assertEquals(evicted.getObjectCount() + metrics.getObjectCount(),
+        (long) meterRegistry.get("memapper.mappings")
+            .tag("source", SourceTo.class.getName())
+            .tag("target", TargetTo.class.getName())
+            .functionTimer().count());
+  }
+}
@@ -0,0 +1,107 @@
+package com.teammental.memapper.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.spring.to.SourceTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+public class PageMapperTest {
+
+  private static final PageRequest PAGE_REQUEST = PageRequest.of(2, 3, Sort.by("name"));
+
+  @Test
+  public void shouldKeepPageMetadata() {
+
+    Page<SourceTo> sources = new PageImpl<>(prepareSources(3), PAGE_REQUEST, 42);
+
+    Page<SourceTo> targets = PageMapper.from(sources).to(SourceTo.class);
+
+    assertEquals(PAGE_REQUEST, targets.getPageable());
+    assertEquals(42, targets.getTotalElements());
+    assertEquals(14, targets.getTotalPages());
+    assertEquals(Sort.by("name"), targets.getSort());
+    assertEquals(3, targets.getNumberOfElements());
+    assertEquals(sources.getContent().get(2).getName(), targets.getContent().get(2).getName());
+  }
+
+  @Test
+  public void shouldKeepSliceMetadata() {
+
+    Slice<SourceTo> sources = new SliceImpl<>(prepareSources(3), PAGE_REQUEST, true);
+
+    Slice<SourceTo> targets = PageMapper.from(sources).to(SourceTo.class);
+
+    assertEquals(PAGE_REQUEST, targets.getPageable());
+    assertTrue(targets.hasNext());
+    assertEquals(sources.getContent().get(0).getId(), targets.getContent().get(0).getId());
+  }
+
+  @Test
+  public void shouldMapUnpagedPage() {
+
+    Page<SourceTo> sources = new PageImpl<>(prepareSources(5));
+
+    Optional<Page<SourceTo>> targets = PageMapper.from(sources).toOptional(SourceTo.class);
+
+    assertEquals(5, targets.get().getTotalElements());
+    assertFalse(targets.get().getPageable().isPaged());
+  }
+
+  @Test
+  public void shouldMapToPageOfSupertype() {
+
+    Page<SourceTo> sources = new PageImpl<>(prepareSources(2), PAGE_REQUEST, 8);
+
+    Page<Object> targets = PageMapper.from(sources).to(SourceTo.class);
+
+    assertEquals(8, targets.getTotalElements());
+    assertTrue(targets.getContent().get(1) instanceof SourceTo);
+  }
+
+  @Test
+  public void shouldReturnNull_whenTargetCanNotBeInstantiated() {
+
+    Page<SourceTo> sources = new PageImpl<>(prepareSources(1));
+
+    assertNull(PageMapper.from(sources).to(NoEmptyConstructorTo.class));
+  }
+
+  private static List<SourceTo> prepareSources(int size) {
+
+    List<SourceTo> sources = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      SourceTo source = new SourceTo();
+      source.setId(i);
+      source.setName("name" + i);
+      sources.add(source);
+    }
+    return sources;
+  }
+
+  public static class NoEmptyConstructorTo {
+    private Integer id;
+    private String name;
+
+    public NoEmptyConstructorTo(Integer id) {
+      this.id = id;
+    }
+
+    public Integer getId() {
+      return id;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.teammental.memapper.spring;
+
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.core.MapConfigurationRegistrySingleton;
+import com.teammental.memapper.spring.to.warmup.Person;
+import com.teammental.memapper.spring.to.warmup.PersonDto;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@Import({StartupMapConfigurationRegistry.class,
+    StartupMapConfigurationRegistryBeanLoader.class})
+@TestPropertySource(properties = {
+    StartupMapConfigurationRegistry.WARM_UP_ENABLED_PROPERTY + "=true",
+    StartupMapConfigurationRegistry.WARM_UP_PACKAGES_PROPERTY
+        + "=com.teammental.memapper.spring.to.warmup",
+    StartupMapConfigurationRegistry.WARM_UP_ITERATIONS_PROPERTY + "=10"})
+public class WarmUpApplicationTest {
+
+  @Test
+  public void shouldBuildConfigurationsOnStartup() {
+
+    assertTrue(MapConfigurationRegistrySingleton.getSingleton()
+        .findConfiguration(Person.class, PersonDto.class).isPresent());
+    assertTrue(MapConfigurationRegistrySingleton.getSingleton()
+        .findConfiguration(PersonDto.class, Person.class).isPresent());
+  }
+}
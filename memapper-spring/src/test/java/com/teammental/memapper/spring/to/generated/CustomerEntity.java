@@ -0,0 +1,15 @@
+package com.teammental.memapper.spring.to.generated;
+
+import com.teammental.mecore.stereotype.entity.Entity;
+
+public class CustomerEntity implements Entity {
+  private String name;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+}
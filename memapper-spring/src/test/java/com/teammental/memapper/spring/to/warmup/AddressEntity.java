@@ -0,0 +1,15 @@
+package com.teammental.memapper.spring.to.warmup;
+
+import com.teammental.mecore.stereotype.entity.Entity;
+
+public class AddressEntity implements Entity {
+  private String street;
+
+  public String getStreet() {
+    return street;
+  }
+
+  public void setStreet(String street) {
+    this.street = street;
+  }
+}
@@ -0,0 +1,15 @@
+package com.teammental.memapper.spring.to.warmup;
+
+import com.teammental.mecore.stereotype.dto.Dto;
+
+public class AddressTo implements Dto {
+  private String line;
+
+  public String getLine() {
+    return line;
+  }
+
+  public void setLine(String line) {
+    this.line = line;
+  }
+}
@@ -0,0 +1,15 @@
+package com.teammental.memapper.spring.to.warmup;
+
+import com.teammental.mecore.stereotype.dto.Dto;
+
+public class InvoiceDto implements Dto {
+  private String number;
+
+  public String getNumber() {
+    return number;
+  }
+
+  public void setNumber(String number) {
+    this.number = number;
+  }
+}
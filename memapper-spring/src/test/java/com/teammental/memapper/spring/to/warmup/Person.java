@@ -0,0 +1,24 @@
+package com.teammental.memapper.spring.to.warmup;
+
+import com.teammental.mecore.stereotype.entity.Entity;
+
+public class Person implements Entity {
+  private String id;
+  private String name;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+}
@@ -0,0 +1,40 @@
+package com.teammental.memapper;
+
+import java.util.Optional;
+
+public interface FromMap<TargetT> {
+  /**
+   * Populates a newly instantiated object of the given TargetType
+   * from the Name-Value pairs of the source map.
+   * Values are converted to the field types when possible,
+   * e.g. "42" or 42L to an int field. Other entries are ignored.
+   *
+   * @param targetType Target object's class.
+   *                   Target type must have a public no-arg
+   *                   constructor. Otherwise a TargetTypeInstantiationException
+   *                   will be thrown and return value will be null.
+   * @return TargetT.
+   */
+  TargetT to(Class<TargetT> targetType);
+
+  /**
+   * Populates the target object
+   * from the Name-Value pairs of the source map.
+   *
+   * @param target Target object.
+   * @return TargetT.
+   */
+  TargetT to(TargetT target);
+
+  /**
+   * Populates a newly instantiated object of the given TargetType
+   * from the Name-Value pairs of the source map.
+   *
+   * @param targetType Target object's class.
+   *                   Target type must have a public no-arg
+   *                   constructor. Otherwise a TargetTypeInstantiationException
+   *                   will be thrown and return value will be null.
+   * @return Optional of TargetT.
+   */
+  Optional<TargetT> toOptional(Class<TargetT> targetType);
+}
@@ -2,7 +2,13 @@ package com.teammental.memapper;
 
 import com.teammental.memapper.util.mapping.MapByFieldNameUtil;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -120,5 +126,43 @@ public class MeMapper<SourceT, TargetT> implements MapTo<TargetT>, MapToList<Tar
   }
 
 
+  /**
+   * Creates a new Mapper instance which maps the elements of the stream lazily.
+   *
+   * @param sources   Stream&lt;SourceT&gt; object which will be used
+   *                  as source when mapping.
+   * @param <SourceT> generic type of source object
+   * @return a new Mapper instance.
+   */
+  public static <SourceT> ToStream from(Stream<SourceT> sources) {
+    return new MeMapperToStream(sources);
+  }
+
+
+  /**
+   * Creates a new Mapper instance which maps the elements of the iterator lazily.
+   *
+   * @param sources   Iterator&lt;SourceT&gt; object which will be used
+   *                  as source when mapping.
+   * @param <SourceT> generic type of source object
+   * @return a new Mapper instance.
+   */
+  public static <SourceT> ToStream from(Iterator<SourceT> sources) {
+    return new MeMapperToStream(StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(sources, Spliterator.ORDERED), false));
+  }
+
 
+  /**
+   * Creates a new Mapper instance which populates objects
+   * from the Name-Value pairs of the given map, e.g. a row read as a map.
+   * This is the inverse of {@link To#toMap()}.
+   *
+   * @param source Map&lt;String, ?&gt; object which will be used
+   *               as source when mapping.
+   * @return a new Mapper instance.
+   */
+  public static FromMap fromMap(Map<String, ?> source) {
+    return new MeMapperFromMap(source);
+  }
 }
@@ -0,0 +1,61 @@
+package com.teammental.memapper;
+
+import com.teammental.memapper.core.MapPopulator;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class MeMapperFromMap<TargetT> implements FromMap<TargetT> {
+
+  private Map<String, ?> source;
+
+  private static final Logger logger = LoggerFactory.getLogger(MeMapper.class);
+
+  MeMapperFromMap(Map<String, ?> source) {
+
+    this.source = source;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public TargetT to(Class<TargetT> targetType) {
+
+    try {
+      return MapPopulator.of(targetType).create(source);
+
+    } catch (Exception exception) {
+      logger.debug(exception.getLocalizedMessage());
+      return null;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public TargetT to(TargetT target) {
+
+    if (target == null) {
+      return null;
+    }
+    if (source == null) {
+      return target;
+    }
+    MapPopulator<TargetT> populator = MapPopulator.of((Class<TargetT>) target.getClass());
+    return populator.populate(source, target);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<TargetT> toOptional(Class<TargetT> targetType) {
+    return Optional.ofNullable(to(targetType));
+  }
+}
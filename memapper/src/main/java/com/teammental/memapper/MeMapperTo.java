@@ -1,11 +1,17 @@
 package com.teammental.memapper;
 
+import com.teammental.mehelper.AssertHelper;
 import com.teammental.memapper.core.MapWorker;
+import com.teammental.memapper.core.TypeMapper;
 import com.teammental.memapper.exception.TargetTypeInstantiationException;
 import com.teammental.memapper.util.mapping.CommonMapUtil;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +19,7 @@ import org.slf4j.LoggerFactory;
 class MeMapperTo<SourceT, TargetT> implements To<TargetT> {
 
   private SourceT source;
+  private Set<String> targetFieldNames;
 
   private static final Logger logger = LoggerFactory.getLogger(MeMapper.class);
 
@@ -21,11 +28,24 @@ class MeMapperTo<SourceT, TargetT> implements To<TargetT> {
     this.source = source;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public To<TargetT> only(String... targetFieldNames) {
+
+    AssertHelper.notNull((Object) targetFieldNames);
+
+    this.targetFieldNames = new HashSet<>(Arrays.asList(targetFieldNames));
+    return this;
+  }
+
   /**
    * Maps the given source SourceT object
    * to a newly instantiated object of the given TargetType.
    *
-   * @param targetType Target object's class. Target type must have a public no-arg constructor.
+   * @param targetType Target object's class. Target type must have a public no-arg constructor,
+   *                   a constructor annotated with MapConstructor or a canonical constructor.
    *                   Otherwise a TargetTypeInstantiationException will be thrown and return value
    *                   will be null.
    * @return TargetT.
@@ -34,12 +54,11 @@ class MeMapperTo<SourceT, TargetT> implements To<TargetT> {
   public TargetT to(Class<TargetT> targetType) {
 
     try {
-      TargetT target = targetType.newInstance();
-      return to(target);
+      TypeMapper<SourceT, TargetT> mapper = TypeMapper.resolve(source.getClass(), targetType,
+          targetFieldNames);
+      return mapper.create(source);
 
-    } catch (Exception ex) {
-      TargetTypeInstantiationException exception =
-          new TargetTypeInstantiationException(targetType, ex);
+    } catch (Exception exception) {
       logger.debug(exception.getLocalizedMessage());
       return null;
     }
@@ -58,10 +77,30 @@ class MeMapperTo<SourceT, TargetT> implements To<TargetT> {
     if (target == null) {
       return null;
     }
+    if (targetFieldNames != null) {
+      TypeMapper<SourceT, TargetT> mapper = TypeMapper.resolve(source.getClass(),
+          target.getClass(), targetFieldNames);
+      mapper.map(source, target);
+      return target;
+    }
     MapWorker<SourceT, TargetT> mapWorker = new MapWorker<>(source, target);
     return mapWorker.map();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Set<String> patch(TargetT target) {
+
+    if (source == null || target == null) {
+      return Collections.emptySet();
+    }
+    TypeMapper<SourceT, TargetT> mapper = TypeMapper.resolve(source.getClass(),
+        target.getClass(), targetFieldNames);
+    return mapper.patch(source, target);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -78,6 +117,22 @@ class MeMapperTo<SourceT, TargetT> implements To<TargetT> {
     return CommonMapUtil.getFieldsMap(source, includeSuperFields);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, Object> toMapView() {
+    return toMapView(true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, Object> toMapView(boolean includeSuperFields) {
+    return CommonMapUtil.getFieldsView(source, includeSuperFields);
+  }
+
   /**
    * Maps the given source SourceT object
    * to a newly instantiated object of the given TargetType.
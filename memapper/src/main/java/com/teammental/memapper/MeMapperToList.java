@@ -1,10 +1,22 @@
 package com.teammental.memapper;
 
-import com.teammental.memapper.core.MapWorker;
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.core.BulkMapper;
+import com.teammental.memapper.core.ElementMapper;
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +24,9 @@ import org.slf4j.LoggerFactory;
 class MeMapperToList<SourceT, TargetT> implements ToList<TargetT> {
 
   private Iterable<SourceT> sources;
+  private Executor executor;
+  private int parallelThreshold;
+  private Set<String> targetFieldNames;
 
   private static final Logger logger = LoggerFactory.getLogger(MeMapper.class);
 
@@ -32,15 +47,10 @@ class MeMapperToList<SourceT, TargetT> implements ToList<TargetT> {
   @Override
   public Iterable<TargetT> to(Class<TargetT> targetType) {
     try {
-      List<TargetT> targets = new ArrayList<>();
-      for (SourceT source :
-          sources) {
-        TargetT target = newInstance(targetType);
-        MapWorker<SourceT, TargetT> worker = new MapWorker<>(source, target);
-        target = worker.map();
-        targets.add(target);
-      }
-      return targets;
+      BulkMapper<SourceT, TargetT> bulkMapper = executor == null
+          ? new BulkMapper<>(targetType, null, Integer.MAX_VALUE, targetFieldNames)
+          : new BulkMapper<>(targetType, executor, parallelThreshold, targetFieldNames);
+      return bulkMapper.map(sources);
 
     } catch (Exception exception) {
       logger.debug(exception.getLocalizedMessage());
@@ -68,8 +78,94 @@ class MeMapperToList<SourceT, TargetT> implements ToList<TargetT> {
     }
   }
 
-  private TargetT newInstance(Class<TargetT> targetType) throws Exception {
-    TargetT target = targetType.newInstance();
-    return target;
+  /**
+   * {@inheritDoc}
+   * If parallel mapping is requested, the sources are not mapped lazily: they are mapped
+   * on the requested executor, like {@link #to(Class)} does, when the terminal operation
+   * of the stream starts, and the mapped targets are streamed in the order of the sources.
+   */
+  @Override
+  public Stream<TargetT> toStream(Class<TargetT> targetType) {
+
+    if (executor == null) {
+      return StreamSupport.stream(sources.spliterator(), false)
+          .map(new ElementMapper<>(targetType, targetFieldNames));
+    }
+
+    BulkMapper<SourceT, TargetT> bulkMapper =
+        new BulkMapper<>(targetType, executor, parallelThreshold, targetFieldNames);
+    return StreamSupport.stream(() -> mapAll(bulkMapper).spliterator(),
+        Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<TargetT> toIterator(Class<TargetT> targetType) {
+
+    Iterator<SourceT> iterator = sources.iterator();
+    ElementMapper<SourceT, TargetT> mapper = new ElementMapper<>(targetType, targetFieldNames);
+    return new Iterator<TargetT>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public TargetT next() {
+        return mapper.apply(iterator.next());
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ToList<TargetT> only(String... targetFieldNames) {
+
+    AssertHelper.notNull((Object) targetFieldNames);
+
+    this.targetFieldNames = new HashSet<>(Arrays.asList(targetFieldNames));
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ToList<TargetT> parallel() {
+    return parallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ToList<TargetT> parallel(Executor executor) {
+    return parallel(executor, MapperSettings.getParallelThreshold());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ToList<TargetT> parallel(Executor executor, int threshold) {
+
+    AssertHelper.notNull(executor);
+
+    this.executor = executor;
+    this.parallelThreshold = threshold;
+    return this;
+  }
+
+  private List<TargetT> mapAll(BulkMapper<SourceT, TargetT> bulkMapper) {
+
+    try {
+      return bulkMapper.map(sources);
+    } catch (TargetTypeInstantiationException ex) {
+      throw new IllegalStateException(ex.getLocalizedMessage(), ex);
+    }
   }
 }
@@ -0,0 +1,48 @@
+package com.teammental.memapper;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.core.ElementMapper;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class MeMapperToStream<SourceT, TargetT> implements ToStream<TargetT> {
+
+  private Stream<SourceT> sources;
+  private Set<String> targetFieldNames;
+
+  MeMapperToStream(Stream<SourceT> sources) {
+    this.sources = sources;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ToStream<TargetT> only(String... targetFieldNames) {
+
+    AssertHelper.notNull((Object) targetFieldNames);
+
+    this.targetFieldNames = new HashSet<>(Arrays.asList(targetFieldNames));
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<TargetT> toStream(Class<TargetT> targetType) {
+    return sources.map(new ElementMapper<>(targetType, targetFieldNames));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<TargetT> toIterator(Class<TargetT> targetType) {
+    return toStream(targetType).iterator();
+  }
+}
@@ -2,14 +2,27 @@ package com.teammental.memapper;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface To<TargetT> {
+  /**
+   * Maps only the given target fields in the following mapping calls.
+   * Other target fields are left untouched and their source properties are not read.
+   *
+   * @param targetFieldNames names of the target fields to map.
+   * @return this mapper.
+   * @throws com.teammental.memapper.exception.NoSuchFieldException if the target type
+   *                                                                has no field with a given name.
+   */
+  To<TargetT> only(String... targetFieldNames);
+
   /**
    * Maps the given source SourceT object
    * to a newly instantiated object of the given TargetType.
    *
    * @param targetType Target object's class.
-   *                   Target type must have a public no-arg
+   *                   Target type must have a public no-arg constructor,
+   *                   a constructor annotated with MapConstructor or a canonical
    *                   constructor. Otherwise a TargetTypeInstantiationException
    *                   will be thrown and return value will be null.
    * @return TargetT.
@@ -25,6 +38,17 @@ public interface To<TargetT> {
    */
   TargetT to(TargetT target);
 
+  /**
+   * Maps the non-null fields of the given source SourceT object
+   * to target object, writing only the fields whose values differ.
+   * Null source fields leave the target's fields untouched,
+   * nested objects of different types are not patched.
+   *
+   * @param target Target object.
+   * @return names of the changed target fields, empty if nothing changed.
+   */
+  Set<String> patch(TargetT target);
+
   /**
    * Converts source object to a HashMap of
    * Name-Value pairs of fields.
@@ -40,6 +64,21 @@ public interface To<TargetT> {
    */
   Map<String, Object> toMap(boolean includeSuperFields);
 
+  /**
+   * Returns a read-only view of Name-Value pairs of fields,
+   * which reads the source object's fields on access instead of copying them.
+   * Includes super fields too.
+   * @return read-only Map view
+   */
+  Map<String, Object> toMapView();
+
+  /**
+   * Returns a read-only view of Name-Value pairs of fields,
+   * which reads the source object's fields on access instead of copying them.
+   * @return read-only Map view
+   */
+  Map<String, Object> toMapView(boolean includeSuperFields);
+
   /**
    * Maps the given source SourceT object
    * to a newly instantiated object of the given TargetType.
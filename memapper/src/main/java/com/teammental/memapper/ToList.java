@@ -1,8 +1,15 @@
 package com.teammental.memapper;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
+
+public interface ToList<TargetT> extends ToStream<TargetT> {
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  ToList<TargetT> only(String... targetFieldNames);
 
-public interface ToList<TargetT> {
   /**
    * Maps the given source SourceT object
    * to a newly instantiated object of the given TargetType.
@@ -26,4 +33,34 @@ public interface ToList<TargetT> {
    * @return Optional of Iterable of TargetT ;
    */
   Optional<Iterable<TargetT>> toOptional(Class<TargetT> targetType);
+
+  /**
+   * Maps the sources in parallel on the common ForkJoinPool,
+   * when there are at least {@code MapperSettings.getParallelThreshold()} sources.
+   * The order of the sources is kept.
+   *
+   * @return this mapper.
+   */
+  ToList<TargetT> parallel();
+
+  /**
+   * Maps the sources in parallel on the given executor,
+   * when there are at least {@code MapperSettings.getParallelThreshold()} sources.
+   * The order of the sources is kept.
+   *
+   * @param executor executor which runs the mapping chunks.
+   * @return this mapper.
+   */
+  ToList<TargetT> parallel(Executor executor);
+
+  /**
+   * Maps the sources in parallel on the given executor,
+   * when there are at least as many sources as the given threshold.
+   * The order of the sources is kept.
+   *
+   * @param executor  executor which runs the mapping chunks.
+   * @param threshold minimum number of sources which are mapped in parallel.
+   * @return this mapper.
+   */
+  ToList<TargetT> parallel(Executor executor, int threshold);
 }
@@ -0,0 +1,42 @@
+package com.teammental.memapper;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public interface ToStream<TargetT> {
+  /**
+   * Maps only the given target fields in the following mapping calls.
+   * Other target fields are left untouched and their source properties are not read.
+   *
+   * @param targetFieldNames names of the target fields to map.
+   * @return this mapper.
+   * @throws com.teammental.memapper.exception.NoSuchFieldException if the target type
+   *                                                                has no field with a given name.
+   */
+  ToStream<TargetT> only(String... targetFieldNames);
+
+  /**
+   * Lazily maps the sources to newly instantiated objects of the given TargetType.
+   * Each source is mapped when the returned stream reaches it, so no list of
+   * targets is built. Closing the returned stream closes the source stream.
+   *
+   * @param targetType Target object's class.
+   *                   Target type must have a public no-arg
+   *                   constructor. Otherwise an IllegalStateException
+   *                   will be thrown when the first element is mapped.
+   * @return Stream of TargetT.
+   */
+  Stream<TargetT> toStream(Class<TargetT> targetType);
+
+  /**
+   * Lazily maps the sources to newly instantiated objects of the given TargetType.
+   * Each source is mapped when the returned iterator reaches it.
+   *
+   * @param targetType Target object's class.
+   *                   Target type must have a public no-arg
+   *                   constructor. Otherwise an IllegalStateException
+   *                   will be thrown when the first element is mapped.
+   * @return Iterator of TargetT.
+   */
+  Iterator<TargetT> toIterator(Class<TargetT> targetType);
+}
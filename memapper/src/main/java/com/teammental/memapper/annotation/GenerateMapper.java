@@ -0,0 +1,39 @@
+package com.teammental.memapper.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a type as the source of compile-time generated mappers.
+ * When memapper-processor is on the annotation processor path, a
+ * {@link com.teammental.memapper.core.GeneratedMapper} is generated for
+ * every target type and MeMapper uses it instead of reflection.
+ *
+ * <p>Example:
+ * <pre>
+ * &#64;GenerateMapper(value = PersonDto.class, twoWay = true)
+ * public class Person implements Entity { ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateMapper {
+
+  /**
+   * Target types which the annotated type will be mapped to.
+   *
+   * @return target types.
+   */
+  Class<?>[] value();
+
+  /**
+   * If true, mappers from the target types back to the annotated type are generated too.
+   *
+   * @return true for two way mapping.
+   */
+  boolean twoWay() default false;
+}
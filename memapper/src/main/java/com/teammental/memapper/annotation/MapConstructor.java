@@ -0,0 +1,32 @@
+package com.teammental.memapper.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor MeMapper uses to create target objects which have
+ * no public no-arg constructor. Source properties are matched to the
+ * constructor parameters by name.
+ *
+ * <p>Example:
+ * <pre>
+ * &#64;MapConstructor({"id", "name"})
+ * public PersonDto(Integer id, String name) { ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface MapConstructor {
+
+  /**
+   * Target property names of the constructor parameters, in parameter order.
+   * If empty, the parameter names are used, which requires compiling with {@code -parameters}.
+   *
+   * @return property names.
+   */
+  String[] value() default {};
+}
@@ -1,5 +1,5 @@
 package com.teammental.memapper.configuration;
 
-public interface ConfigurationAnd<T> {
-  ConfigurationMapField and(Class<T> targetType);
+public interface ConfigurationAnd<S> {
+  <T> ConfigurationMapField<S, T> and(Class<T> targetType);
 }
@@ -1,5 +1,5 @@
 package com.teammental.memapper.configuration;
 
-public interface ConfigurationBetween<S> {
-  ConfigurationAnd between(Class<S> sourceType);
+public interface ConfigurationBetween {
+  <S> ConfigurationAnd<S> between(Class<S> sourceType);
 }
@@ -1,8 +1,12 @@
 package com.teammental.memapper.configuration;
 
-public interface ConfigurationMapField {
+import java.util.function.Function;
 
-  ConfigurationMapWith mapField(String sourceFieldName);
+public interface ConfigurationMapField<S, T> {
+
+  ConfigurationMapWith<S, T> mapField(String sourceFieldName);
+
+  <V> ConfigurationMapWithSetter<S, T, V> mapProperty(Function<? super S, ? extends V> getter);
 
   MapConfiguration build();
 }
@@ -1,5 +1,7 @@
 package com.teammental.memapper.configuration;
 
-public interface ConfigurationMapWith {
-  ConfigurationMapField with(String targetFieldName);
+public interface ConfigurationMapWith<S, T> {
+  ConfigurationMapField<S, T> with(String targetFieldName);
+
+  ConfigurationMapField<S, T> with(String targetFieldName, TypeConverter<?, ?> converter);
 }
@@ -0,0 +1,7 @@
+package com.teammental.memapper.configuration;
+
+import java.util.function.BiConsumer;
+
+public interface ConfigurationMapWithSetter<S, T, V> {
+  ConfigurationMapField<S, T> with(BiConsumer<? super T, ? super V> setter);
+}
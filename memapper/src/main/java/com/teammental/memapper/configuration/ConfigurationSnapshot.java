@@ -0,0 +1,79 @@
+package com.teammental.memapper.configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of registered configurations, indexed first by source type and then by
+ * target type. A registry publishes a new snapshot for every change through a volatile
+ * reference, so readers never lock and never observe a partially applied change.
+ */
+final class ConfigurationSnapshot {
+
+  static final ConfigurationSnapshot EMPTY =
+      new ConfigurationSnapshot(Collections.emptyMap(), 0);
+
+  private final Map<Class<?>, Map<Class<?>, MapConfiguration>> configurations;
+  private final int size;
+
+  private ConfigurationSnapshot(Map<Class<?>, Map<Class<?>, MapConfiguration>> configurations,
+                                int size) {
+
+    this.configurations = configurations;
+    this.size = size;
+  }
+
+  MapConfiguration get(Class<?> sourceType, Class<?> targetType) {
+
+    Map<Class<?>, MapConfiguration> targets = configurations.get(sourceType);
+    return targets == null ? null : targets.get(targetType);
+  }
+
+  /**
+   * Returns a new snapshot with the given configurations added,
+   * replacing the configurations of the same type pairs.
+   * Only the target maps of the changed source types are copied.
+   *
+   * @param added configurations to add.
+   * @return new snapshot.
+   */
+  ConfigurationSnapshot with(Collection<MapConfiguration> added) {
+
+    Map<Class<?>, Map<Class<?>, MapConfiguration>> copy = new HashMap<>(configurations);
+    Map<Class<?>, Map<Class<?>, MapConfiguration>> copiedTargets = new HashMap<>();
+    int newSize = size;
+
+    for (MapConfiguration configuration :
+        added) {
+      Map<Class<?>, MapConfiguration> targets = copiedTargets.computeIfAbsent(
+          configuration.getSourceType(), type -> {
+            Map<Class<?>, MapConfiguration> current = configurations.get(type);
+            return current == null ? new HashMap<>() : new HashMap<>(current);
+          });
+      if (targets.put(configuration.getTargetType(), configuration) == null) {
+        newSize++;
+      }
+    }
+    copy.putAll(copiedTargets);
+
+    return new ConfigurationSnapshot(copy, newSize);
+  }
+
+  List<MapConfiguration> values() {
+
+    List<MapConfiguration> values = new ArrayList<>(size);
+    for (Map<Class<?>, MapConfiguration> targets :
+        configurations.values()) {
+      values.addAll(targets.values());
+    }
+    return values;
+  }
+
+  int size() {
+    return size;
+  }
+}
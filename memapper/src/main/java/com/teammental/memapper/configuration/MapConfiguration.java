@@ -1,14 +1,34 @@
 package com.teammental.memapper.configuration;
 
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.core.ConstructorPlan;
+import com.teammental.memapper.core.MapPlan;
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.core.PatchPlan;
+import com.teammental.memapper.exception.NoSuchFieldException;
+import com.teammental.memapper.util.FieldUtil;
+
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 public class MapConfiguration {
   private Map<Field, Field> fieldMap;
+  private Map<Field, TypeConverter<Object, Object>> converters;
+  private List<PathMapping> pathMappings;
+  private List<PropertyMapping> propertyMappings;
   private Class<?> sourceType;
   private Class<?> targetType;
   private boolean oneWayMapping;
+  private volatile MapPlan plan;
+  private volatile Optional<ConstructorPlan> constructorPlan;
+  private volatile PatchPlan patchPlan;
+  private volatile ProjectionCache projections;
 
   boolean isOneWayMapping() {
     return oneWayMapping;
@@ -19,7 +39,31 @@ public class MapConfiguration {
                    Class<?> targetType,
                    boolean oneWayMapping) {
 
+    this(fieldMap, Collections.emptyMap(), sourceType, targetType, oneWayMapping);
+  }
+
+  MapConfiguration(Map<Field, Field> fieldMap,
+                   Map<Field, TypeConverter<Object, Object>> converters,
+                   Class<?> sourceType,
+                   Class<?> targetType,
+                   boolean oneWayMapping) {
+
+    this(fieldMap, converters, Collections.emptyList(), Collections.emptyList(), sourceType,
+        targetType, oneWayMapping);
+  }
+
+  MapConfiguration(Map<Field, Field> fieldMap,
+                   Map<Field, TypeConverter<Object, Object>> converters,
+                   List<PathMapping> pathMappings,
+                   List<PropertyMapping> propertyMappings,
+                   Class<?> sourceType,
+                   Class<?> targetType,
+                   boolean oneWayMapping) {
+
     this.fieldMap = fieldMap;
+    this.converters = converters;
+    this.pathMappings = pathMappings;
+    this.propertyMappings = propertyMappings;
     this.sourceType = sourceType;
     this.targetType = targetType;
     this.oneWayMapping = oneWayMapping;
@@ -30,6 +74,35 @@ public class MapConfiguration {
     return fieldMap;
   }
 
+  /**
+   * Finds the converter of a mapped field pair, resolved when this configuration is created.
+   *
+   * @param sourceField mapped source field.
+   * @return an Optional of TypeConverter, empty if values are mapped without conversion.
+   */
+  public Optional<TypeConverter<Object, Object>> findConverter(Field sourceField) {
+    return Optional.ofNullable(converters.get(sourceField));
+  }
+
+  /**
+   * Returns the mappings of nested properties, e.g. flattened properties.
+   *
+   * @return path mappings.
+   */
+  public List<PathMapping> getPathMappings() {
+    return Collections.unmodifiableList(pathMappings);
+  }
+
+  /**
+   * Returns the mappings given as getter and setter functions.
+   * Property mappings are not reversed, projected or patched.
+   *
+   * @return property mappings.
+   */
+  public List<PropertyMapping> getPropertyMappings() {
+    return Collections.unmodifiableList(propertyMappings);
+  }
+
   public Class<?> getSourceType() {
     return sourceType;
   }
@@ -39,6 +112,101 @@ public class MapConfiguration {
     return targetType;
   }
 
+  /**
+   * Returns the compiled mapping plan of this configuration.
+   * The plan is compiled on first call and reused afterwards.
+   *
+   * @return compiled mapping plan.
+   */
+  public MapPlan getPlan() {
+
+    MapPlan result = plan;
+    if (result == null) {
+      synchronized (this) {
+        result = plan;
+        if (result == null) {
+          result = MapPlan.compile(this);
+          plan = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the compiled constructor mapping of this configuration,
+   * used when the target type has no public no-arg constructor.
+   * The plan is compiled on first call and reused afterwards.
+   *
+   * @return compiled constructor plan, or empty if the target type has no mapping constructor.
+   */
+  public Optional<ConstructorPlan> getConstructorPlan() {
+
+    Optional<ConstructorPlan> result = constructorPlan;
+    if (result == null) {
+      synchronized (this) {
+        result = constructorPlan;
+        if (result == null) {
+          result = ConstructorPlan.compile(this);
+          constructorPlan = result;
+        }
+      }
+    }
+    return result;
+  }
+
+
+  /**
+   * Returns the compiled patch plan of this configuration,
+   * used to apply partial updates to existing targets.
+   * The plan is compiled on first call and reused afterwards.
+   *
+   * @return compiled patch plan.
+   */
+  public PatchPlan getPatchPlan() {
+
+    PatchPlan result = patchPlan;
+    if (result == null) {
+      synchronized (this) {
+        result = patchPlan;
+        if (result == null) {
+          result = PatchPlan.compile(this);
+          patchPlan = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the projection of this configuration to the given target fields.
+   * Fields of the target which are not given are not mapped, so mapping cost and
+   * lazy loading of the source scale with the requested fields. Path mappings are
+   * projected by the first field of their target path; property mappings have no
+   * target field name and are not projected. Projections are cached per field set,
+   * the oldest one is evicted when more than
+   * {@link MapperSettings#getProjectionCacheSize()} projections are cached.
+   *
+   * @param targetFieldNames names of the target fields to map.
+   * @return configuration which maps only the given target fields.
+   * @throws NoSuchFieldException if the target type has no field with a given name.
+   */
+  public MapConfiguration project(Set<String> targetFieldNames) {
+
+    AssertHelper.notNull(targetFieldNames);
+
+    ProjectionCache cache = projections;
+    if (cache == null) {
+      synchronized (this) {
+        cache = projections;
+        if (cache == null) {
+          cache = new ProjectionCache();
+          projections = cache;
+        }
+      }
+    }
+    return cache.computeIfAbsent(targetFieldNames, this::createProjection);
+  }
 
   @Override
   public int hashCode() {
@@ -56,21 +224,86 @@ public class MapConfiguration {
         && this.sourceType.equals(other.sourceType);
   }
 
-  MapConfiguration reverse() {
+  private MapConfiguration createProjection(Set<String> targetFieldNames) {
+
+    for (String targetFieldName :
+        targetFieldNames) {
+      if (!FieldUtil.getField(targetType, targetFieldName).isPresent()) {
+        throw new NoSuchFieldException(targetFieldName, targetType);
+      }
+    }
+
+    Map<Field, Field> projectedFieldMap = new HashMap<>();
+    Map<Field, TypeConverter<Object, Object>> projectedConverters = new HashMap<>();
+    for (Map.Entry<Field, Field> entry :
+        fieldMap.entrySet()) {
+      if (targetFieldNames.contains(entry.getValue().getName())) {
+        projectedFieldMap.put(entry.getKey(), entry.getValue());
+        if (converters.containsKey(entry.getKey())) {
+          projectedConverters.put(entry.getKey(), converters.get(entry.getKey()));
+        }
+      }
+    }
+    List<PathMapping> projectedPathMappings = new ArrayList<>();
+    for (PathMapping pathMapping :
+        pathMappings) {
+      if (targetFieldNames.contains(pathMapping.getTargetPath().getFields().get(0).getName())) {
+        projectedPathMappings.add(pathMapping);
+      }
+    }
+    return new MapConfiguration(projectedFieldMap, projectedConverters, projectedPathMappings,
+        Collections.emptyList(), sourceType, targetType, oneWayMapping);
+  }
+
+  /**
+   * Creates the configuration of the opposite direction.
+   * Converted fields and paths of types which are not assignable back are mapped back
+   * only if the given registry has a converter for the opposite direction.
+   */
+  MapConfiguration reverse(TypeConverterRegistry converterRegistry) {
 
     Map<Field, Field> reverseMap = new HashMap<>();
+    Map<Field, TypeConverter<Object, Object>> reverseConverters = new HashMap<>();
 
     for (Field key :
         this.fieldMap.keySet()) {
-      reverseMap.put(this.fieldMap.get(key), key);
+      Field value = this.fieldMap.get(key);
+      if (converters.containsKey(key) && !FieldUtil.isConvertable(value, key)) {
+        Optional<TypeConverter<Object, Object>> converter =
+            converterRegistry.findConverter(value.getType(), key.getType());
+        if (!converter.isPresent()) {
+          continue;
+        }
+        reverseConverters.put(value, converter.get());
+      }
+      reverseMap.put(value, key);
+    }
+
+    List<PathMapping> reversePathMappings = new ArrayList<>();
+    for (PathMapping pathMapping :
+        pathMappings) {
+      Field sourceLeaf = pathMapping.getSourcePath().getLeaf();
+      Field targetLeaf = pathMapping.getTargetPath().getLeaf();
+      TypeConverter<Object, Object> converter = null;
+      if (pathMapping.getConverter() != null && !FieldUtil.isConvertable(targetLeaf, sourceLeaf)) {
+        Optional<TypeConverter<Object, Object>> reverseConverter =
+            converterRegistry.findConverter(targetLeaf.getType(), sourceLeaf.getType());
+        if (!reverseConverter.isPresent()) {
+          continue;
+        }
+        converter = reverseConverter.get();
+      }
+      reversePathMappings.add(new PathMapping(pathMapping.getTargetPath(),
+          pathMapping.getSourcePath(), converter));
     }
 
     Class<?> reverseSourceType = this.targetType;
     Class<?> reverseTargetType = this.sourceType;
 
     MapConfiguration configuration =
-        new MapConfiguration(reverseMap,
-            reverseSourceType, reverseTargetType, this.isOneWayMapping());
+        new MapConfiguration(reverseMap, reverseConverters, reversePathMappings,
+            Collections.emptyList(), reverseSourceType, reverseTargetType,
+            this.isOneWayMapping());
 
     return configuration;
   }
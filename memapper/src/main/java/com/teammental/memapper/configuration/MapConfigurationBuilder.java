@@ -8,29 +8,41 @@ import com.teammental.memapper.util.FieldUtil;
 import com.teammental.memapper.util.mapping.CommonMapUtil;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 public class MapConfigurationBuilder<S, T>
-    implements ConfigurationBetween<S>,
-    ConfigurationAnd<T>,
-    ConfigurationMapField,
-    ConfigurationMapWith {
+    implements ConfigurationBetween,
+    ConfigurationAnd<S>,
+    ConfigurationMapField<S, T>,
+    ConfigurationMapWith<S, T>,
+    ConfigurationMapWithSetter<S, T, Object> {
 
   private MapConfigurationBuilder(boolean oneWayMapping) {
 
     fieldMap = new HashMap<>();
+    converters = new HashMap<>();
+    pathMappings = new ArrayList<>();
+    propertyMappings = new ArrayList<>();
     this.oneWayMapping = oneWayMapping;
   }
 
   private Class<S> sourceType;
   private Class<T> targetType;
   private Map<Field, Field> fieldMap;
+  private Map<Field, TypeConverter<Object, Object>> converters;
+  private List<PathMapping> pathMappings;
+  private List<PropertyMapping> propertyMappings;
   private boolean oneWayMapping;
   private String tempSourceFieldName;
-  private List<Field> sourceFields;
-  private List<Field> targetFields;
+  private Function<? super S, ?> tempGetter;
+  private Map<String, Field> sourceFields;
+  private Map<String, Field> targetFields;
 
   public boolean isOneWayMapping() {
 
@@ -39,80 +51,165 @@ public class MapConfigurationBuilder<S, T>
 
   public static ConfigurationBetween oneWayMapping() {
 
-    return new MapConfigurationBuilder(true);
+    return new MapConfigurationBuilder<>(true);
   }
 
   public static ConfigurationBetween twoWayMapping() {
 
-    return new MapConfigurationBuilder(false);
+    return new MapConfigurationBuilder<>(false);
   }
 
   @Override
-  public ConfigurationAnd between(Class<S> sourceType) {
+  @SuppressWarnings("unchecked")
+  public <S2> ConfigurationAnd<S2> between(Class<S2> sourceType) {
 
     AssertHelper.notNull(sourceType);
 
-    this.sourceType = sourceType;
-    sourceFields = CommonMapUtil.getAllFields(sourceType, true);
+    this.sourceType = (Class<S>) sourceType;
+    sourceFields = fieldsByName(CommonMapUtil.getAllFields(sourceType, true));
 
-    return this;
+    return (ConfigurationAnd<S2>) this;
   }
 
   @Override
-  public ConfigurationMapField and(Class<T> targetType) {
+  @SuppressWarnings("unchecked")
+  public <T2> ConfigurationMapField<S, T2> and(Class<T2> targetType) {
 
     AssertHelper.notNull(targetType);
 
-    this.targetType = targetType;
-    targetFields = CommonMapUtil.getAllFields(targetType, true);
-    return this;
+    this.targetType = (Class<T>) targetType;
+    targetFields = fieldsByName(CommonMapUtil.getAllFields(targetType, true));
+    return (ConfigurationMapField<S, T2>) this;
   }
 
+  /**
+   * Maps a source field, or a nested source property given as a dotted path
+   * such as {@code customer.address.city}.
+   *
+   * @param sourceFieldName source field name or path.
+   * @return this builder.
+   * @throws NoSuchFieldException if the source type has no such field or path.
+   */
   @Override
-  public ConfigurationMapWith mapField(String sourceFieldName) {
+  public ConfigurationMapWith<S, T> mapField(String sourceFieldName) {
 
     AssertHelper.notNull(sourceFieldName);
 
-    if (!sourceFields.stream().anyMatch(field -> field.getName().equals(sourceFieldName))) {
+    if (isPath(sourceFieldName)) {
+      parsePath(sourceType, sourceFieldName);
+    } else if (!sourceFields.containsKey(sourceFieldName)) {
       throw new NoSuchFieldException(sourceFieldName, sourceType);
     }
     this.tempSourceFieldName = sourceFieldName;
     return this;
   }
 
+  /**
+   * Maps a source property read by the given getter, e.g. a method reference.
+   * Unlike {@link #mapField(String)}, the property is checked at compile time
+   * and the getter is called directly when mapping.
+   *
+   * @param getter source property getter.
+   * @param <V>    property type.
+   * @return this builder.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <V> ConfigurationMapWithSetter<S, T, V> mapProperty(
+      Function<? super S, ? extends V> getter) {
+
+    AssertHelper.notNull(getter);
+
+    this.tempGetter = getter;
+    return (ConfigurationMapWithSetter<S, T, V>) (ConfigurationMapWithSetter<S, T, ?>) this;
+  }
 
+  /**
+   * Writes the property read by the last {@link #mapProperty(Function)} getter
+   * through the given setter, e.g. a method reference.
+   * Property mappings are one way; they are not mapped back by two way configurations.
+   *
+   * @param setter target property setter.
+   * @return this builder.
+   */
   @Override
-  public ConfigurationMapField with(String targetFieldName) {
+  public ConfigurationMapField<S, T> with(BiConsumer<? super T, ? super Object> setter) {
+
+    AssertHelper.notNull(setter);
+    if (tempGetter == null) {
+      throw new IllegalStateException("mapProperty should be called before with");
+    }
+
+    propertyMappings.add(new PropertyMapping(tempGetter, setter));
+
+    this.tempGetter = null;
+    return this;
+  }
+
+  /**
+   * Maps the source field to the given target field. Either side can be a dotted path,
+   * so nested source properties can be flattened into target fields and source fields
+   * can be unflattened into nested target properties, which are instantiated when null.
+   *
+   * @param targetFieldName target field name or path.
+   * @return this builder.
+   * @throws FieldTypesAreNotAssignableException if the field types are not assignable.
+   */
+  @Override
+  public ConfigurationMapField<S, T> with(String targetFieldName) {
+    return with(targetFieldName, null);
+  }
+
+  /**
+   * Maps the source field to the given target field through the given converter.
+   *
+   * @param targetFieldName target field name.
+   * @param converter       converter of the source field values, or null
+   *                        to map the values without conversion.
+   * @return this builder.
+   * @throws FieldTypesAreNotAssignableException if no converter is given
+   *                                             and the field types are not assignable.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public ConfigurationMapField<S, T> with(String targetFieldName,
+                                          TypeConverter<?, ?> converter) {
 
     AssertHelper.notNull(targetFieldName);
 
-    if (!targetFields.stream().anyMatch(field -> field.getName().equals(targetFieldName))) {
+    if (isPath(tempSourceFieldName) || isPath(targetFieldName)) {
+      return withPath(targetFieldName, (TypeConverter<Object, Object>) converter);
+    }
+
+    Field targetField = targetFields.get(targetFieldName);
+    if (targetField == null) {
       throw new NoSuchFieldException(targetFieldName, targetType);
     }
 
-    Field sourceField = sourceFields.stream()
-        .filter(field -> field.getName().equals(tempSourceFieldName))
-        .findFirst().get();
+    Field sourceField = sourceFields.get(tempSourceFieldName);
 
     if (!FieldUtil.hasPublicGetMethod(sourceField)) {
       throw new FieldIsNotAccessible(sourceField, false);
     }
 
-    Field targetField = targetFields.stream()
-        .filter(field -> field.getName().equals(targetFieldName))
-        .findFirst().get();
-
     if (!FieldUtil.hasPublicSetMethod(targetField)) {
       throw new FieldIsNotAccessible(targetField, true);
     }
 
 
-    if (!FieldUtil.isConvertable(sourceField, targetField)) {
+    if (converter == null
+        && !FieldUtil.isConvertable(sourceField, targetField)
+        && !FieldUtil.isNestedMappable(sourceField, targetField)) {
       throw new FieldTypesAreNotAssignableException(sourceField, targetField);
     }
 
 
     fieldMap.put(sourceField, targetField);
+    if (converter != null) {
+      converters.put(sourceField, (TypeConverter<Object, Object>) converter);
+    } else {
+      converters.remove(sourceField);
+    }
 
     this.tempSourceFieldName = null;
     return this;
@@ -122,11 +219,62 @@ public class MapConfigurationBuilder<S, T>
   @Override
   public MapConfiguration build() {
 
-    if (fieldMap.isEmpty()) {
+    if (fieldMap.isEmpty() && pathMappings.isEmpty() && propertyMappings.isEmpty()) {
       throw new IllegalArgumentException("You should add at least one field mapping");
     }
 
-    return new MapConfiguration(fieldMap, sourceType, targetType, oneWayMapping);
+    return new MapConfiguration(fieldMap, converters, pathMappings, propertyMappings, sourceType,
+        targetType, oneWayMapping);
+  }
+
+  private ConfigurationMapField<S, T> withPath(String targetFieldName,
+                                               TypeConverter<Object, Object> converter) {
+
+    PropertyPath sourcePath = parsePath(sourceType, tempSourceFieldName);
+    PropertyPath targetPath = parsePath(targetType, targetFieldName);
+
+    for (Field field : sourcePath.getFields()) {
+      if (!FieldUtil.hasPublicGetMethod(field)) {
+        throw new FieldIsNotAccessible(field, false);
+      }
+    }
+    for (Field field : targetPath.getFields()) {
+      if (field != targetPath.getLeaf() && !FieldUtil.hasPublicGetMethod(field)) {
+        throw new FieldIsNotAccessible(field, false);
+      }
+      if (!FieldUtil.hasPublicSetMethod(field)) {
+        throw new FieldIsNotAccessible(field, true);
+      }
+    }
+
+    if (converter == null
+        && !FieldUtil.isConvertable(sourcePath.getLeaf(), targetPath.getLeaf())) {
+      throw new FieldTypesAreNotAssignableException(sourcePath.getLeaf(), targetPath.getLeaf());
+    }
+
+    pathMappings.add(new PathMapping(sourcePath, targetPath, converter));
+
+    this.tempSourceFieldName = null;
+    return this;
+  }
+
+  private static boolean isPath(String fieldName) {
+    return fieldName.indexOf('.') >= 0;
+  }
+
+  private static PropertyPath parsePath(Class<?> type, String path) {
+
+    return PropertyPath.parse(type, path)
+        .orElseThrow(() -> new NoSuchFieldException(path, type));
+  }
+
+  private static Map<String, Field> fieldsByName(List<Field> fields) {
+
+    Map<String, Field> fieldsByName = new LinkedHashMap<>();
+    for (Field field : fields) {
+      fieldsByName.putIfAbsent(field.getName(), field);
+    }
+    return fieldsByName;
   }
 
 
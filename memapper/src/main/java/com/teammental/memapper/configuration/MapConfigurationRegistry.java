@@ -1,27 +1,72 @@
 package com.teammental.memapper.configuration;
 
 import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.metrics.MappingMetrics;
 import com.teammental.memapper.util.FieldUtil;
+import com.teammental.memapper.util.TypePairCache;
 import com.teammental.memapper.util.mapping.CommonMapUtil;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 public class MapConfigurationRegistry {
 
-  private Set<MapConfiguration> registry;
+  /**
+   * Registered configurations. Readers load the current snapshot without locking,
+   * writers publish a new snapshot under {@link #writeLock}.
+   * Registered configurations are never evicted.
+   */
+  private volatile ConfigurationSnapshot registered = ConfigurationSnapshot.EMPTY;
+
+  private final Object writeLock = new Object();
+
+  /**
+   * Default configurations created on demand, bounded by
+   * {@link MapperSettings#getConfigurationCacheSize()}. An evicted default configuration
+   * is created again when its type pair is mapped next.
+   */
+  private final TypePairCache<MapConfiguration> defaults;
+
+  private final TypeConverterRegistry converterRegistry;
 
   public MapConfigurationRegistry() {
 
-    registry = new LinkedHashSet<>();
+    defaults = new TypePairCache<>(MapperSettings::getConfigurationCacheSize);
+    converterRegistry = TypeConverterRegistry.withDefaults();
+  }
+
+  /**
+   * Registers a converter used by the default configurations for fields of the given types,
+   * and for mapping back the converted fields of registered two-way configurations.
+   * Converters should be registered before the type pair is mapped,
+   * configurations which are already created keep their converters.
+   *
+   * @param sourceType source field type.
+   * @param targetType target field type.
+   * @param converter  converter.
+   * @param <S>        source field type.
+   * @param <T>        target field type.
+   */
+  public <S, T> void registerConverter(Class<S> sourceType, Class<T> targetType,
+                                       TypeConverter<? super S, ? extends T> converter) {
+    converterRegistry.register(sourceType, targetType, converter);
+  }
+
+  public TypeConverterRegistry getConverterRegistry() {
+    return converterRegistry;
   }
 
   /**
    * Merges this with another MapConfigurationRegistry object.
+   * Only registered configurations are merged, default configurations
+   * are created again by this registry when needed.
+   * Readers see either none or all of the merged configurations.
    *
    * @param mapConfigurationRegistry other MapConfigurationRegistry
    */
@@ -29,14 +74,11 @@ public class MapConfigurationRegistry {
 
     AssertHelper.notNull(mapConfigurationRegistry);
 
-    for (MapConfiguration configuration :
-        mapConfigurationRegistry.registry) {
-      this.registry.add(configuration);
-    }
+    publish(mapConfigurationRegistry.registered.values());
   }
 
   /**
-   * Registers new configuration.
+   * Registers new configuration, and its reverse if it is a two-way mapping.
    *
    * @param configuration configuration item.
    */
@@ -44,15 +86,12 @@ public class MapConfigurationRegistry {
 
     AssertHelper.notNull(configuration);
 
-    registry.add(configuration);
-    if (!configuration.isOneWayMapping()) {
-      MapConfiguration reverseConfiguration = configuration.reverse();
-      registry.add(reverseConfiguration);
-    }
+    register(Collections.singletonList(configuration));
   }
 
   /**
    * Registers a list of configuration.
+   * Readers see either none or all of the registered configurations.
    *
    * @param configurations configuration list.
    */
@@ -60,16 +99,28 @@ public class MapConfigurationRegistry {
 
     AssertHelper.notNull(configurations);
 
+    List<MapConfiguration> added = new ArrayList<>(configurations.size() * 2);
     for (MapConfiguration configuration
         : configurations) {
-      register(configuration);
+      added.add(configuration);
+      if (!configuration.isOneWayMapping()) {
+        added.add(configuration.reverse(converterRegistry));
+      }
     }
+    publish(added);
   }
 
   /**
    * Gets mapping configuration between two types.
    * If no custom configuration found, creates a default
-   * configuration set by name-to-name
+   * configuration set by name-to-name. Fields of the same name whose types are
+   * not assignable are mapped if a converter is registered for their types,
+   * see {@link #registerConverter(Class, Class, TypeConverter)}. Target fields without a
+   * source field of the same name are mapped from the nested source property whose
+   * path they flatten, e.g. {@code customerAddressCity} from {@code customer.address.city}.
+   * The default configuration
+   * is created once per type pair and is reused afterwards, until it is evicted from
+   * the bounded cache of default configurations, see {@link #getStatistics()}.
    *
    * @param sourceType source type of mapping configuration.
    * @param targetType target type of mapping configuration.
@@ -80,14 +131,98 @@ public class MapConfigurationRegistry {
 
     AssertHelper.notNull(sourceType, targetType);
 
-    MapConfiguration configuration = registry.stream()
-        .filter(mapConfiguration ->
-            mapConfiguration.getSourceType().equals(sourceType)
-                && mapConfiguration.getTargetType().equals(targetType))
-        .findFirst()
-        .orElse(createDefaultConfiguration(sourceType, targetType));
+    MapConfiguration configuration = registered.get(sourceType, targetType);
+    if (configuration == null) {
+      configuration = defaults.get(sourceType, targetType);
+    }
+    if (configuration != null) {
+      if (MapperSettings.isMetricsEnabled()) {
+        MappingMetrics.of(sourceType, targetType).recordPlanCacheHit();
+      }
+      return configuration;
+    }
+
+    if (MapperSettings.isMetricsEnabled()) {
+      MappingMetrics.of(sourceType, targetType).recordPlanCacheMiss();
+    }
+    return defaults.computeIfAbsent(sourceType, targetType,
+        this::createDefaultConfiguration);
+  }
+
+  /**
+   * Finds an already registered or created configuration between two types.
+   * Unlike {@link #getConfiguration(Class, Class)}, never creates a default configuration.
+   *
+   * @param sourceType source type of mapping configuration.
+   * @param targetType target type of mapping configuration.
+   * @return an Optional of MapConfiguration.
+   */
+  public Optional<MapConfiguration> findConfiguration(Class<?> sourceType,
+                                                      Class<?> targetType) {
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    MapConfiguration configuration = registered.get(sourceType, targetType);
+    return Optional.ofNullable(configuration != null
+        ? configuration
+        : defaults.get(sourceType, targetType));
+  }
+
+  /**
+   * Finds a configuration registered between two types.
+   * Default configurations created on demand are not looked up.
+   *
+   * @param sourceType source type of mapping configuration.
+   * @param targetType target type of mapping configuration.
+   * @return an Optional of the registered MapConfiguration.
+   */
+  public Optional<MapConfiguration> findRegisteredConfiguration(Class<?> sourceType,
+                                                                Class<?> targetType) {
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    return Optional.ofNullable(registered.get(sourceType, targetType));
+  }
+
+  /**
+   * Returns the number of registered and default configurations.
+   *
+   * @return configuration count.
+   */
+  public int size() {
+    return registered.size() + defaults.size();
+  }
+
+  /**
+   * Returns the sizes of the registered and default configuration caches,
+   * and how many default configurations are created and evicted.
+   * A creation count growing with the eviction count means the cache of default
+   * configurations is too small for the mapped type pairs,
+   * see {@link MapperSettings#setConfigurationCacheSize(int)}.
+   *
+   * @return statistics snapshot.
+   */
+  public RegistryStatistics getStatistics() {
+
+    return new RegistryStatistics(registered.size(), defaults.size(),
+        MapperSettings.getConfigurationCacheSize(),
+        defaults.getCreationCount(), defaults.getEvictionCount());
+  }
 
-    return configuration;
+  /**
+   * Publishes a new snapshot of the registered configurations with the given ones added.
+   * Default configurations of the same type pairs are dropped afterwards,
+   * as registered configurations are looked up first.
+   */
+  private void publish(Collection<MapConfiguration> configurations) {
+
+    synchronized (writeLock) {
+      registered = registered.with(configurations);
+    }
+    for (MapConfiguration configuration :
+        configurations) {
+      defaults.remove(configuration.getSourceType(), configuration.getTargetType());
+    }
   }
 
   private MapConfiguration createDefaultConfiguration(Class<?> sourceType,
@@ -96,6 +231,8 @@ public class MapConfigurationRegistry {
     List<Field> sourceFields = CommonMapUtil.getAllFields(sourceType);
     List<Field> targetFields = CommonMapUtil.getAllFields(targetType);
     Map<Field, Field> fieldMap = new HashMap<>();
+    Map<Field, TypeConverter<Object, Object>> converters = new HashMap<>();
+    List<PathMapping> pathMappings = new ArrayList<>();
 
     for (Field sourceField :
         sourceFields) {
@@ -103,17 +240,67 @@ public class MapConfigurationRegistry {
       Optional<Field> targetFieldOptional = targetFields.stream()
           .filter(field -> field.getName().equals(sourceField.getName())).findFirst();
 
-      if (targetFieldOptional.isPresent()
-          && FieldUtil.isConvertable(sourceField, targetFieldOptional.get())) {
-        fieldMap.put(sourceField, targetFieldOptional.get());
+      if (!targetFieldOptional.isPresent()) {
+        continue;
+      }
+      Field targetField = targetFieldOptional.get();
+
+      if (FieldUtil.isConvertable(sourceField, targetField)
+          || FieldUtil.isNestedMappable(sourceField, targetField)) {
+        fieldMap.put(sourceField, targetField);
+      } else {
+        Optional<TypeConverter<Object, Object>> converter =
+            converterRegistry.findConverter(sourceField.getType(), targetField.getType());
+        if (converter.isPresent()) {
+          fieldMap.put(sourceField, targetField);
+          converters.put(sourceField, converter.get());
+        }
       }
     }
 
-    MapConfiguration mapConfiguration =
-        new MapConfiguration(fieldMap, sourceType, targetType, false);
+    for (Field targetField :
+        targetFields) {
+      if (sourceFields.stream().noneMatch(field -> field.getName()
+          .equals(targetField.getName()))) {
+        findFlattenedPath(sourceType, targetField).ifPresent(pathMappings::add);
+      }
+    }
 
-    registry.add(mapConfiguration);
+    MapConfiguration mapConfiguration =
+        new MapConfiguration(fieldMap, converters, pathMappings, Collections.emptyList(),
+            sourceType, targetType, false);
 
     return mapConfiguration;
   }
+
+  /**
+   * Finds the nested source property flattened into the target field,
+   * e.g. {@code customer.address.city} for {@code customerAddressCity}.
+   */
+  private Optional<PathMapping> findFlattenedPath(Class<?> sourceType, Field targetField) {
+
+    if (!FieldUtil.hasPublicSetMethod(targetField)) {
+      return Optional.empty();
+    }
+
+    Optional<PropertyPath> sourcePath = PropertyPath.unflatten(sourceType, targetField.getName());
+    if (!sourcePath.isPresent()
+        || !sourcePath.get().getFields().stream().allMatch(FieldUtil::hasPublicGetMethod)) {
+      return Optional.empty();
+    }
+
+    Field sourceLeaf = sourcePath.get().getLeaf();
+    TypeConverter<Object, Object> converter = null;
+    if (!FieldUtil.isConvertable(sourceLeaf, targetField)) {
+      Optional<TypeConverter<Object, Object>> foundConverter =
+          converterRegistry.findConverter(sourceLeaf.getType(), targetField.getType());
+      if (!foundConverter.isPresent()) {
+        return Optional.empty();
+      }
+      converter = foundConverter.get();
+    }
+
+    return Optional.of(new PathMapping(sourcePath.get(), PropertyPath.of(targetField),
+        converter));
+  }
 }
@@ -0,0 +1,38 @@
+package com.teammental.memapper.configuration;
+
+/**
+ * Mapping between a source property and a target property where either side
+ * is a nested property, e.g. {@code customer.address.city} to {@code customerAddressCity}
+ * when flattening, or the opposite when unflattening.
+ */
+public final class PathMapping {
+
+  private final PropertyPath sourcePath;
+  private final PropertyPath targetPath;
+  private final TypeConverter<Object, Object> converter;
+
+  PathMapping(PropertyPath sourcePath, PropertyPath targetPath,
+              TypeConverter<Object, Object> converter) {
+
+    this.sourcePath = sourcePath;
+    this.targetPath = targetPath;
+    this.converter = converter;
+  }
+
+  public PropertyPath getSourcePath() {
+    return sourcePath;
+  }
+
+  public PropertyPath getTargetPath() {
+    return targetPath;
+  }
+
+  /**
+   * Returns the converter of the values, resolved when the configuration is created.
+   *
+   * @return converter, or null if values are mapped without conversion.
+   */
+  public TypeConverter<Object, Object> getConverter() {
+    return converter;
+  }
+}
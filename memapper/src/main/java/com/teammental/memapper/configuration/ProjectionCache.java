@@ -0,0 +1,62 @@
+package com.teammental.memapper.configuration;
+
+import com.teammental.memapper.core.MapperSettings;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Projections of a {@link MapConfiguration}, keyed by target field set.
+ * Lookups of cached projections are lock-free. Field sets are queued in insertion order,
+ * and the oldest projection is evicted when more than
+ * {@link MapperSettings#getProjectionCacheSize()} projections are cached.
+ */
+final class ProjectionCache {
+
+  private final ConcurrentMap<Set<String>, MapConfiguration> projections =
+      new ConcurrentHashMap<>();
+  private final Queue<Set<String>> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+
+  MapConfiguration computeIfAbsent(Set<String> targetFieldNames,
+                                   Function<Set<String>, MapConfiguration> factory) {
+
+    MapConfiguration projection = projections.get(targetFieldNames);
+    if (projection != null) {
+      return projection;
+    }
+
+    Set<String> key = Collections.unmodifiableSet(new HashSet<>(targetFieldNames));
+    boolean[] created = new boolean[1];
+    projection = projections.computeIfAbsent(key, fieldNames -> {
+      created[0] = true;
+      return factory.apply(fieldNames);
+    });
+    if (created[0]) {
+      insertionOrder.add(key);
+      if (size.incrementAndGet() > MapperSettings.getProjectionCacheSize()) {
+        evict();
+      }
+    }
+    return projection;
+  }
+
+  private void evict() {
+
+    while (size.get() > MapperSettings.getProjectionCacheSize()) {
+      Set<String> eldest = insertionOrder.poll();
+      if (eldest == null) {
+        return;
+      }
+      size.decrementAndGet();
+      projections.remove(eldest);
+    }
+  }
+}
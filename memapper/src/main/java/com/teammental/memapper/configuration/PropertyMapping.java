@@ -0,0 +1,30 @@
+package com.teammental.memapper.configuration;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Mapping of a property through a getter and a setter given as functions,
+ * e.g. method references, instead of field names. Mappings are compiled into
+ * plans as they are, so the getter and setter are called directly.
+ */
+public final class PropertyMapping {
+
+  private final Function<Object, Object> getter;
+  private final BiConsumer<Object, Object> setter;
+
+  @SuppressWarnings("unchecked")
+  PropertyMapping(Function<?, ?> getter, BiConsumer<?, ?> setter) {
+
+    this.getter = (Function<Object, Object>) getter;
+    this.setter = (BiConsumer<Object, Object>) setter;
+  }
+
+  public Function<Object, Object> getGetter() {
+    return getter;
+  }
+
+  public BiConsumer<Object, Object> getSetter() {
+    return setter;
+  }
+}
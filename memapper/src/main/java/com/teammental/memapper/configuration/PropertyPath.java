@@ -0,0 +1,140 @@
+package com.teammental.memapper.configuration;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.util.FieldUtil;
+import com.teammental.memapper.util.mapping.CommonMapUtil;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Chain of fields from a type to a nested property, e.g. {@code customer.address.city}.
+ * Paths are resolved when a configuration is created and compiled into chains of
+ * accessors by the mapping plan, so they are never parsed when an object is mapped.
+ */
+public final class PropertyPath {
+
+  private final List<Field> fields;
+  private final String name;
+
+  private PropertyPath(List<Field> fields) {
+
+    this.fields = Collections.unmodifiableList(fields);
+    StringBuilder builder = new StringBuilder();
+    for (Field field : fields) {
+      if (builder.length() > 0) {
+        builder.append('.');
+      }
+      builder.append(field.getName());
+    }
+    this.name = builder.toString();
+  }
+
+  /**
+   * Creates the path of a single field.
+   *
+   * @param field field of the path.
+   * @return path of the field.
+   */
+  static PropertyPath of(Field field) {
+    return new PropertyPath(Collections.singletonList(field));
+  }
+
+  /**
+   * Resolves a dotted path of field names on the given type.
+   *
+   * @param type root type of the path.
+   * @param path dotted field names, e.g. {@code customer.address.city}.
+   * @return an Optional of PropertyPath, empty if a field of the path does not exist.
+   */
+  public static Optional<PropertyPath> parse(Class<?> type, String path) {
+
+    AssertHelper.notNull(type, path);
+
+    List<Field> fields = new ArrayList<>();
+    Class<?> owner = type;
+    for (String fieldName : path.split("\\.", -1)) {
+      Optional<Field> field = FieldUtil.getField(owner, fieldName);
+      if (!field.isPresent()) {
+        return Optional.empty();
+      }
+      fields.add(field.get());
+      owner = field.get().getType();
+    }
+    return Optional.of(new PropertyPath(fields));
+  }
+
+  /**
+   * Finds the nested property of the given type whose path is flattened into the given name,
+   * e.g. {@code customer.address.city} for {@code customerAddressCity}.
+   * Only bean typed fields are followed; the first matching path is returned.
+   *
+   * @param type          root type of the path.
+   * @param flattenedName camel case concatenation of the field names of the path.
+   * @return an Optional of PropertyPath, empty if no nested property matches the name.
+   */
+  public static Optional<PropertyPath> unflatten(Class<?> type, String flattenedName) {
+
+    AssertHelper.notNull(type, flattenedName);
+
+    List<Field> fields = new ArrayList<>();
+    return unflatten(type, flattenedName, fields)
+        ? Optional.of(new PropertyPath(fields))
+        : Optional.empty();
+  }
+
+  public List<Field> getFields() {
+    return fields;
+  }
+
+  /**
+   * Returns the last field of the path.
+   *
+   * @return field of the nested property.
+   */
+  public Field getLeaf() {
+    return fields.get(fields.size() - 1);
+  }
+
+  /**
+   * Returns the dotted field names of the path.
+   *
+   * @return path name.
+   */
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  private static boolean unflatten(Class<?> type, String name, List<Field> fields) {
+
+    for (Field field : CommonMapUtil.getAllFields(type)) {
+      String fieldName = field.getName();
+      if (fields.size() > 0 && name.equals(fieldName)) {
+        fields.add(field);
+        return true;
+      }
+      if (name.length() > fieldName.length()
+          && name.startsWith(fieldName)
+          && Character.isUpperCase(name.charAt(fieldName.length()))
+          && FieldUtil.isBeanType(field.getType())) {
+
+        String rest = name.substring(fieldName.length());
+        fields.add(field);
+        if (unflatten(field.getType(),
+            Character.toLowerCase(rest.charAt(0)) + rest.substring(1), fields)) {
+          return true;
+        }
+        fields.remove(fields.size() - 1);
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,77 @@
+package com.teammental.memapper.configuration;
+
+/**
+ * Snapshot of the size and the eviction counts of a {@link MapConfigurationRegistry}.
+ */
+public final class RegistryStatistics {
+
+  private final int registeredCount;
+  private final int defaultCount;
+  private final int maxDefaultCount;
+  private final long creationCount;
+  private final long evictionCount;
+
+  RegistryStatistics(int registeredCount, int defaultCount, int maxDefaultCount,
+                     long creationCount, long evictionCount) {
+
+    this.registeredCount = registeredCount;
+    this.defaultCount = defaultCount;
+    this.maxDefaultCount = maxDefaultCount;
+    this.creationCount = creationCount;
+    this.evictionCount = evictionCount;
+  }
+
+  /**
+   * Returns the number of registered configurations, which are never evicted.
+   *
+   * @return registered configuration count.
+   */
+  public int getRegisteredCount() {
+    return registeredCount;
+  }
+
+  /**
+   * Returns the number of cached default configurations.
+   *
+   * @return default configuration count.
+   */
+  public int getDefaultCount() {
+    return defaultCount;
+  }
+
+  /**
+   * Returns the number of default configurations kept before the oldest one is evicted.
+   *
+   * @return default configuration cache size.
+   */
+  public int getMaxDefaultCount() {
+    return maxDefaultCount;
+  }
+
+  /**
+   * Returns how many default configurations are created, i.e. the number of cache misses.
+   *
+   * @return default configuration creation count.
+   */
+  public long getCreationCount() {
+    return creationCount;
+  }
+
+  /**
+   * Returns how many default configurations are evicted to bound the cache.
+   *
+   * @return eviction count.
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  @Override
+  public String toString() {
+
+    return "RegistryStatistics{registered=" + registeredCount
+        + ", defaults=" + defaultCount + "/" + maxDefaultCount
+        + ", creations=" + creationCount
+        + ", evictions=" + evictionCount + "}";
+  }
+}
@@ -0,0 +1,21 @@
+package com.teammental.memapper.configuration;
+
+/**
+ * Converts values of a source field to the type of a target field,
+ * used for field pairs whose types are not assignable to each other.
+ * Converters are only called with non-null values.
+ *
+ * @param <S> source field type.
+ * @param <T> target field type.
+ */
+@FunctionalInterface
+public interface TypeConverter<S, T> {
+
+  /**
+   * Converts the given value.
+   *
+   * @param source non-null source value.
+   * @return converted value.
+   */
+  T convert(S source);
+}
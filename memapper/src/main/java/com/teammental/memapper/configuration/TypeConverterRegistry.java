@@ -0,0 +1,156 @@
+package com.teammental.memapper.configuration;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.mehelper.CastHelper;
+import com.teammental.mehelper.PrimitiveHelper;
+import com.teammental.memapper.util.NumberUtil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link TypeConverter}s between field types.
+ * Converters are looked up when a {@link MapConfiguration} is created and are
+ * kept with the configuration, so mapping an object never looks up a converter.
+ * A converter registered for a source type is also used for its subclasses,
+ * e.g. a Date converter converts Timestamp values too.
+ * Strings are converted to enums by name and enums to strings without registration.
+ */
+public class TypeConverterRegistry {
+
+  /**
+   * Converters indexed first by source type and then by target type.
+   */
+  private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, TypeConverter<?, ?>>> registry;
+
+  public TypeConverterRegistry() {
+
+    registry = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Creates a registry with the converters between strings, numbers and
+   * date types. Dates are converted in the system default time zone.
+   * Numbers are only converted to number types which hold every value of their type,
+   * e.g. Integer to Long; narrowing converters such as
+   * {@code NumberUtil.converter(Integer.class)} have to be registered explicitly.
+   *
+   * @return a new registry.
+   */
+  public static TypeConverterRegistry withDefaults() {
+
+    TypeConverterRegistry registry = new TypeConverterRegistry();
+
+    for (Class<?> numberType : NumberUtil.NUMBER_TYPES) {
+      registry.registerUnchecked(String.class, numberType,
+          value -> CastHelper.castFromString(((String) value).trim(), numberType));
+      for (Class<?> targetType : NumberUtil.NUMBER_TYPES) {
+        if (NumberUtil.isWidening(numberType, targetType)) {
+          registry.registerUnchecked(numberType, targetType,
+              value -> NumberUtil.convert((Number) value, targetType));
+        }
+      }
+    }
+    registry.register(Number.class, String.class, Object::toString);
+    registry.register(String.class, Boolean.class, value -> CastHelper.castFromString(value,
+        Boolean.class));
+    registry.register(Boolean.class, String.class, Object::toString);
+    registry.register(String.class, Character.class, value -> CastHelper.castFromString(value,
+        Character.class));
+    registry.register(Character.class, String.class, Object::toString);
+    registry.register(String.class, BigDecimal.class, value -> new BigDecimal(value.trim()));
+    registry.register(BigDecimal.class, String.class, BigDecimal::toPlainString);
+    registry.register(String.class, BigInteger.class, value -> new BigInteger(value.trim()));
+
+    registry.register(Date.class, LocalDateTime.class,
+        value -> LocalDateTime.ofInstant(toInstant(value), ZoneId.systemDefault()));
+    registry.register(LocalDateTime.class, Date.class,
+        value -> Date.from(value.atZone(ZoneId.systemDefault()).toInstant()));
+    registry.register(Date.class, LocalDate.class,
+        value -> LocalDateTime.ofInstant(toInstant(value), ZoneId.systemDefault())
+            .toLocalDate());
+    registry.register(LocalDate.class, Date.class,
+        value -> Date.from(value.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+    registry.register(Date.class, Instant.class, TypeConverterRegistry::toInstant);
+    registry.register(Instant.class, Date.class, Date::from);
+
+    return registry;
+  }
+
+  /**
+   * Registers a converter, replacing the converter of the same type pair if any.
+   * Converters should be registered before the type pair is mapped,
+   * configurations which are already created keep their converters.
+   *
+   * @param sourceType source field type.
+   * @param targetType target field type.
+   * @param converter  converter.
+   * @param <S>        source field type.
+   * @param <T>        target field type.
+   */
+  public <S, T> void register(Class<S> sourceType, Class<T> targetType,
+                              TypeConverter<? super S, ? extends T> converter) {
+
+    AssertHelper.notNull(sourceType, targetType, converter);
+
+    registerUnchecked(sourceType, targetType, converter);
+  }
+
+  /**
+   * Finds the converter between two field types.
+   * Primitive types are looked up by their wrapper types.
+   *
+   * @param sourceType source field type.
+   * @param targetType target field type.
+   * @return an Optional of TypeConverter.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Optional<TypeConverter<Object, Object>> findConverter(Class<?> sourceType,
+                                                              Class<?> targetType) {
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    Class<?> source = PrimitiveHelper.getWrapperClass(sourceType);
+    Class<?> target = PrimitiveHelper.getWrapperClass(targetType);
+
+    for (Class<?> type = source; type != null; type = type.getSuperclass()) {
+      Map<Class<?>, TypeConverter<?, ?>> converters = registry.get(type);
+      TypeConverter<?, ?> converter = converters == null ? null : converters.get(target);
+      if (converter != null) {
+        return Optional.of((TypeConverter<Object, Object>) converter);
+      }
+    }
+
+    if (source.equals(String.class) && target.isEnum()) {
+      return Optional.of(value -> Enum.valueOf((Class<? extends Enum>) target,
+          ((String) value).trim()));
+    }
+    if (source.isEnum() && target.equals(String.class)) {
+      return Optional.of(value -> ((Enum<?>) value).name());
+    }
+    return Optional.empty();
+  }
+
+  private void registerUnchecked(Class<?> sourceType, Class<?> targetType,
+                                 TypeConverter<?, ?> converter) {
+
+    registry.computeIfAbsent(PrimitiveHelper.getWrapperClass(sourceType),
+        type -> new ConcurrentHashMap<>())
+        .put(PrimitiveHelper.getWrapperClass(targetType), converter);
+  }
+
+  private static Instant toInstant(Date date) {
+
+    // java.sql.Date does not support toInstant
+    return Instant.ofEpochMilli(date.getTime());
+  }
+}
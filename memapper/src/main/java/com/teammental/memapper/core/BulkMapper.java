@@ -0,0 +1,225 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+import com.teammental.memapper.metrics.MappingMetrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maps many sources to newly instantiated targets of one type.
+ * The mapping is resolved once for the first source type and only resolved
+ * again when a source of another type shows up. Sources are mapped on the
+ * calling thread, or split into ordered chunks across an executor when there
+ * are at least as many sources as the parallel threshold.
+ * Nested objects shared by several sources are mapped once per call, or once
+ * per chunk when the sources are mapped in parallel.
+ */
+public final class BulkMapper<S, T> {
+
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final Class<T> targetType;
+  private final Executor executor;
+  private final int parallelThreshold;
+  private final Set<String> targetFieldNames;
+
+  /**
+   * Creates a bulk mapper which maps on the calling thread.
+   *
+   * @param targetType target type, must have a public no-arg constructor.
+   */
+  public BulkMapper(Class<T> targetType) {
+    this(targetType, null, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a bulk mapper which maps in parallel above the given threshold.
+   *
+   * @param targetType        target type, must have a public no-arg constructor.
+   * @param executor          executor which runs the chunks, or null to map on the calling thread.
+   * @param parallelThreshold minimum number of sources which are mapped in parallel.
+   */
+  public BulkMapper(Class<T> targetType, Executor executor, int parallelThreshold) {
+    this(targetType, executor, parallelThreshold, null);
+  }
+
+  /**
+   * Creates a bulk mapper which maps only the given target fields,
+   * and maps in parallel above the given threshold.
+   *
+   * @param targetType        target type, must have a public no-arg constructor.
+   * @param executor          executor which runs the chunks, or null to map on the calling thread.
+   * @param parallelThreshold minimum number of sources which are mapped in parallel.
+   * @param targetFieldNames  names of the target fields to map, or null to map all fields.
+   */
+  public BulkMapper(Class<T> targetType, Executor executor, int parallelThreshold,
+                    Set<String> targetFieldNames) {
+
+    AssertHelper.notNull(targetType);
+
+    this.targetType = targetType;
+    this.executor = executor;
+    this.parallelThreshold = parallelThreshold;
+    this.targetFieldNames = targetFieldNames;
+  }
+
+  /**
+   * Maps every source to a new target object, keeping the order of the sources.
+   *
+   * @param sources source objects, must not contain null.
+   * @return mutable list of mapped targets.
+   * @throws TargetTypeInstantiationException if the target type can not be instantiated.
+   */
+  public List<T> map(Iterable<? extends S> sources) throws TargetTypeInstantiationException {
+
+    AssertHelper.notNull(sources);
+
+    Object[] sourceArray = toArray(sources);
+    if (sourceArray.length == 0) {
+      return new ArrayList<>();
+    }
+
+    AssertHelper.notNull(sourceArray[0]);
+    TypeMapper<S, T> mapper = TypeMapper.resolve(sourceArray[0].getClass(), targetType,
+        targetFieldNames);
+    if (MapperSettings.isMetricsEnabled()) {
+      MappingMetrics.of(mapper.getSourceType(), targetType).recordInvocation();
+    }
+
+    if (executor == null || sourceArray.length < parallelThreshold) {
+      List<T> targets = new ArrayList<>(sourceArray.length);
+      MappingContext context = new MappingContext();
+      for (Object source : sourceArray) {
+        mapper = mapOne(mapper, source, targets, context);
+      }
+      return targets;
+    }
+
+    // chunks set their own indexes, the list is not resized while they run
+    List<T> targets = new ArrayList<>(sourceArray.length);
+    for (int i = 0; i < sourceArray.length; i++) {
+      targets.add(null);
+    }
+    mapInParallel(mapper, sourceArray, targets);
+    return targets;
+  }
+
+  /**
+   * Maps the first chunk on the calling thread and the others on the executor.
+   * When a chunk fails, the chunks which are not finished stop at their next source,
+   * and the failure is thrown only after every chunk has stopped writing to targets.
+   */
+  private void mapInParallel(TypeMapper<S, T> mapper, Object[] sources, List<T> targets)
+      throws TargetTypeInstantiationException {
+
+    int chunkCount = Math.min(sources.length, getParallelism() * CHUNKS_PER_THREAD);
+    int chunkSize = (sources.length + chunkCount - 1) / chunkCount;
+    AtomicBoolean failed = new AtomicBoolean();
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>(chunkCount);
+    RuntimeException callerFailure = null;
+    try {
+      for (int from = chunkSize; from < sources.length; from += chunkSize) {
+        int start = from;
+        int end = Math.min(from + chunkSize, sources.length);
+        futures.add(CompletableFuture.runAsync(
+            () -> mapChunk(mapper, sources, targets, start, end, failed), executor));
+      }
+      mapChunk(mapper, sources, targets, 0, Math.min(chunkSize, sources.length), failed);
+    } catch (RuntimeException ex) {
+      // e.g. the executor rejected a chunk, submitted chunks are still awaited
+      failed.set(true);
+      callerFailure = ex;
+    }
+
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+    } catch (CompletionException ex) {
+      if (callerFailure == null) {
+        callerFailure = ex;
+      }
+    }
+
+    if (callerFailure instanceof CompletionException) {
+      Throwable cause = callerFailure.getCause();
+      if (cause instanceof TargetTypeInstantiationException) {
+        throw (TargetTypeInstantiationException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+    }
+    if (callerFailure != null) {
+      throw callerFailure;
+    }
+  }
+
+  private void mapChunk(TypeMapper<S, T> mapper, Object[] sources, List<T> targets,
+                        int start, int end, AtomicBoolean failed) {
+
+    TypeMapper<S, T> chunkMapper = mapper;
+    MappingContext context = new MappingContext();
+    try {
+      for (int i = start; i < end && !failed.get(); i++) {
+        chunkMapper = resolveFor(chunkMapper, sources[i]);
+        targets.set(i, chunkMapper.create(castSource(sources[i]), context));
+      }
+    } catch (TargetTypeInstantiationException | RuntimeException ex) {
+      failed.set(true);
+      throw new CompletionException(ex);
+    }
+  }
+
+  private TypeMapper<S, T> mapOne(TypeMapper<S, T> mapper, Object source, List<T> targets,
+                                  MappingContext context)
+      throws TargetTypeInstantiationException {
+
+    TypeMapper<S, T> sourceMapper = resolveFor(mapper, source);
+    targets.add(sourceMapper.create(castSource(source), context));
+    return sourceMapper;
+  }
+
+  private TypeMapper<S, T> resolveFor(TypeMapper<S, T> mapper, Object source) {
+
+    AssertHelper.notNull(source);
+
+    if (source.getClass() == mapper.getSourceType()) {
+      return mapper;
+    }
+    return TypeMapper.resolve(source.getClass(), targetType, targetFieldNames);
+  }
+
+  private int getParallelism() {
+
+    if (executor instanceof ForkJoinPool) {
+      return ((ForkJoinPool) executor).getParallelism();
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  private static Object[] toArray(Iterable<?> sources) {
+
+    if (sources instanceof Collection) {
+      return ((Collection<?>) sources).toArray();
+    }
+    List<Object> list = new ArrayList<>();
+    for (Object source : sources) {
+      list.add(source);
+    }
+    return list.toArray();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <S> S castSource(Object source) {
+    return (S) source;
+  }
+}
@@ -0,0 +1,137 @@
+package com.teammental.memapper.core;
+
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maps a collection of nested objects element by element into a new collection.
+ * The target collection is chosen once from the target property type and created
+ * with the size of the source collection; every element is mapped by the same
+ * element mapper, so the element plan is resolved once per element type.
+ * Sorted sets are created with the natural ordering of the elements, so they are only
+ * mapped when the target element type is Comparable. Elements which are not mapped
+ * because of the max depth are left out of sorted sets and queues, which can not hold null.
+ */
+final class CollectionValueMapper extends ValueMapper {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CollectionValueMapper.class);
+
+  /**
+   * Collections created for the target types they are assignable to, in order of preference.
+   */
+  private static final List<Class<?>> DEFAULT_TYPES = Arrays.asList(ArrayList.class,
+      LinkedHashSet.class, TreeSet.class, ArrayDeque.class);
+
+  private final IntFunction<Collection<Object>> collectionFactory;
+  private final NestedValueMapper elementMapper;
+  private final boolean nullElements;
+
+  private CollectionValueMapper(IntFunction<Collection<Object>> collectionFactory,
+                                NestedValueMapper elementMapper, boolean nullElements) {
+
+    this.collectionFactory = collectionFactory;
+    this.elementMapper = elementMapper;
+    this.nullElements = nullElements;
+  }
+
+  /**
+   * Creates a collection mapper for the target collection type.
+   *
+   * @param collectionType target collection type.
+   * @param elementMapper  mapper of the elements.
+   * @return collection mapper, or null if no collection of the type can be created
+   *         or hold the mapped elements.
+   */
+  static CollectionValueMapper of(Class<?> collectionType, NestedValueMapper elementMapper) {
+
+    Class<?> createdType = findCreatedType(collectionType);
+    if (createdType == null) {
+      LOGGER.debug("No collection of type " + collectionType.getName()
+          + " can be created, elements are not mapped.");
+      return null;
+    }
+    if (SortedSet.class.isAssignableFrom(createdType)
+        && !Comparable.class.isAssignableFrom(elementMapper.getTargetType())) {
+      LOGGER.debug(elementMapper.getTargetType().getName() + " is not Comparable, elements are "
+          + "not mapped to a sorted set of type " + collectionType.getName() + ".");
+      return null;
+    }
+
+    boolean nullElements = !SortedSet.class.isAssignableFrom(createdType)
+        && !Queue.class.isAssignableFrom(createdType);
+    return new CollectionValueMapper(findFactory(createdType), elementMapper, nullElements);
+  }
+
+  @Override
+  Object map(Object value, MappingContext context) throws TargetTypeInstantiationException {
+
+    if (value == null || context.getDepth() >= context.getMaxDepth()) {
+      return null;
+    }
+
+    Collection<?> sources = (Collection<?>) value;
+    Collection<Object> targets = collectionFactory.apply(sources.size());
+    for (Object source : sources) {
+      Object target = elementMapper.map(source, context);
+      if (target != null || nullElements) {
+        targets.add(target);
+      }
+    }
+    return targets;
+  }
+
+  /**
+   * Returns the type of the collections created for the target collection type.
+   */
+  private static Class<?> findCreatedType(Class<?> collectionType) {
+
+    for (Class<?> type : DEFAULT_TYPES) {
+      if (collectionType.isAssignableFrom(type)) {
+        return type;
+      }
+    }
+    return Instantiator.of(collectionType).isInstantiable() ? collectionType : null;
+  }
+
+  private static IntFunction<Collection<Object>> findFactory(Class<?> createdType) {
+
+    if (createdType == ArrayList.class) {
+      return ArrayList::new;
+    }
+    if (createdType == LinkedHashSet.class) {
+      return size -> new LinkedHashSet<>(MapValueMapper.capacity(size));
+    }
+    if (createdType == TreeSet.class) {
+      return size -> new TreeSet<>();
+    }
+    if (createdType == ArrayDeque.class) {
+      return ArrayDeque::new;
+    }
+
+    Instantiator<?> instantiator = Instantiator.of(createdType);
+    return size -> newCollection(instantiator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Collection<Object> newCollection(Instantiator<?> instantiator) {
+
+    try {
+      return (Collection<Object>) instantiator.newInstance();
+    } catch (TargetTypeInstantiationException ex) {
+      throw new IllegalStateException(ex.getLocalizedMessage(), ex);
+    }
+  }
+}
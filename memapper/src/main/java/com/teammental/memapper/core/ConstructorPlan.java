@@ -0,0 +1,253 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.mehelper.PrimitiveHelper;
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.TypeConverter;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+import com.teammental.memapper.util.FieldUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiled constructor mapping of a {@link MapConfiguration}, used for target types
+ * without a public no-arg constructor. Source getters are resolved once for every
+ * parameter of the target's mapping constructor, so a target is created with a
+ * single constructor call and no setters.
+ * Parameters without a readable source property receive null, or zero for primitives.
+ * Parameters of a different bean type than their source property, or collections and maps
+ * of such types, are mapped recursively. Parameters with a converter are converted,
+ * a value which the converter fails on is passed as null, or zero for primitives.
+ */
+public final class ConstructorPlan {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConstructorPlan.class);
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+
+  private final Class<?> targetType;
+  private final TargetConstructor constructor;
+  private final MethodHandle[] getters;
+  private final ValueMapper[] valueMappers;
+  private final TypeConverter<Object, Object>[] converters;
+  private final Class<?>[] argumentTypes;
+  private final Object[] defaults;
+
+  private ConstructorPlan(Class<?> targetType, TargetConstructor constructor,
+                          MethodHandle[] getters, ValueMapper[] valueMappers,
+                          TypeConverter<Object, Object>[] converters) {
+
+    this.targetType = targetType;
+    this.constructor = constructor;
+    this.getters = getters;
+    this.valueMappers = valueMappers;
+    this.converters = converters;
+
+    Class<?>[] parameterTypes = constructor.getParameterTypes();
+    this.argumentTypes = new Class<?>[parameterTypes.length];
+    this.defaults = new Object[parameterTypes.length];
+    for (int i = 0; i < parameterTypes.length; i++) {
+      argumentTypes[i] = parameterTypes[i].isPrimitive()
+          ? PrimitiveHelper.getWrapperClass(parameterTypes[i]) : parameterTypes[i];
+      defaults[i] = parameterTypes[i].isPrimitive()
+          ? Array.get(Array.newInstance(parameterTypes[i], 1), 0) : null;
+    }
+  }
+
+  /**
+   * Compiles the constructor mapping of the given configuration.
+   *
+   * @param configuration mapping configuration.
+   * @return compiled plan, or empty if the target type has no mapping constructor.
+   */
+  public static Optional<ConstructorPlan> compile(MapConfiguration configuration) {
+
+    AssertHelper.notNull(configuration);
+
+    TargetConstructor constructor = TargetConstructor.of(configuration.getTargetType());
+    if (constructor == null) {
+      return Optional.empty();
+    }
+
+    String[] propertyNames = constructor.getPropertyNames();
+    MethodHandle[] getters = new MethodHandle[propertyNames.length];
+    ValueMapper[] valueMappers = new ValueMapper[propertyNames.length];
+    @SuppressWarnings("unchecked")
+    TypeConverter<Object, Object>[] converters =
+        (TypeConverter<Object, Object>[]) new TypeConverter<?, ?>[propertyNames.length];
+    for (int i = 0; i < propertyNames.length; i++) {
+      Optional<Map.Entry<Field, Field>> entry = findEntry(configuration, propertyNames[i]);
+      if (entry.isPresent()) {
+        getters[i] = findGetter(entry.get().getKey());
+        converters[i] = configuration.findConverter(entry.get().getKey()).orElse(null);
+        if (converters[i] == null) {
+          valueMappers[i] = ValueMapper.of(entry.get().getKey(), entry.get().getValue(),
+              constructor.getParameterTypes()[i]);
+        }
+      }
+    }
+
+    return Optional.of(new ConstructorPlan(configuration.getTargetType(), constructor, getters,
+        valueMappers, converters));
+  }
+
+  /**
+   * Creates a target object from the properties of the source.
+   *
+   * @param source mapping source object.
+   * @return new target object.
+   * @throws TargetTypeInstantiationException if the constructor fails.
+   */
+  public Object create(Object source) throws TargetTypeInstantiationException {
+    return create(source, null);
+  }
+
+  /**
+   * Creates a target object from the properties of the source within the context
+   * of a mapping call. Nested arguments are mapped before the target exists, so a
+   * nested reference back to the source is mapped again until the max depth is reached.
+   *
+   * @param source  mapping source object.
+   * @param context context of the mapping call, or null to start a new call.
+   * @return new target object.
+   * @throws TargetTypeInstantiationException if the constructor fails.
+   */
+  public Object create(Object source, MappingContext context)
+      throws TargetTypeInstantiationException {
+
+    MappingContext callContext = context;
+    Object[] arguments = new Object[getters.length];
+    for (int i = 0; i < getters.length; i++) {
+      arguments[i] = getArgument(source, i);
+      if (valueMappers[i] != null && arguments[i] != null) {
+        if (callContext == null) {
+          callContext = new MappingContext();
+        }
+        arguments[i] = valueMappers[i].map(arguments[i], callContext);
+      }
+    }
+
+    Object target;
+    try {
+      target = constructor.newInstance(arguments);
+    } catch (Error error) {
+      throw error;
+    } catch (Throwable throwable) {
+      throw new TargetTypeInstantiationException(targetType, throwable);
+    }
+
+    if (callContext != null && isNested()) {
+      callContext.register(source, target);
+    }
+    return target;
+  }
+
+  /**
+   * Returns the number of constructor parameters which are read from the source.
+   *
+   * @return mapped parameter count.
+   */
+  public int size() {
+
+    int size = 0;
+    for (MethodHandle getter : getters) {
+      if (getter != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Checks whether any constructor argument is mapped recursively.
+   *
+   * @return true if the plan maps nested objects.
+   */
+  public boolean isNested() {
+
+    for (ValueMapper valueMapper : valueMappers) {
+      if (valueMapper != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Object getArgument(Object source, int index) {
+
+    MethodHandle getter = getters[index];
+    if (getter == null) {
+      return defaults[index];
+    }
+
+    Object value;
+    try {
+      value = (Object) getter.invokeExact(source);
+    } catch (Error error) {
+      throw error;
+    } catch (Throwable throwable) {
+      LOGGER.error(throwable.getLocalizedMessage());
+      return defaults[index];
+    }
+
+    if (value == null) {
+      if (defaults[index] != null) {
+        // same outcome as a setter with a null primitive argument
+        throw new IllegalArgumentException("Null value can not be passed to primitive parameter '"
+            + constructor.getPropertyNames()[index] + "'");
+      }
+      return null;
+    }
+    if (converters[index] != null) {
+      try {
+        value = converters[index].convert(value);
+      } catch (RuntimeException ex) {
+        LOGGER.error("Argument '" + constructor.getPropertyNames()[index]
+            + "' can not be converted, the default value is passed. " + ex.getLocalizedMessage());
+        return defaults[index];
+      }
+    }
+    return argumentTypes[index].isInstance(value) || valueMappers[index] != null
+        ? value : defaults[index];
+  }
+
+  private static Optional<Map.Entry<Field, Field>> findEntry(MapConfiguration configuration,
+                                                           String propertyName) {
+
+    return configuration.getFieldMap().entrySet().stream()
+        .filter(entry -> entry.getValue().getName().equals(propertyName))
+        .findFirst();
+  }
+
+  private static MethodHandle findGetter(Field sourceField) {
+
+    Optional<Method> getMethodOptional = FieldUtil.findGetMethod(sourceField);
+    if (!getMethodOptional.isPresent()) {
+      return null;
+    }
+
+    Method getMethod = getMethodOptional.get();
+    try {
+      if (!Modifier.isPublic(getMethod.getDeclaringClass().getModifiers())) {
+        getMethod.setAccessible(true);
+      }
+      return MethodHandles.lookup().unreflect(getMethod).asType(GETTER_TYPE);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      LOGGER.debug("Getter " + getMethod + " is not accessible for mapping: "
+          + ex.getLocalizedMessage());
+      return null;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.teammental.memapper.core;
+
+import com.teammental.memapper.configuration.TypeConverter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies a single property whose source and target types are not assignable,
+ * through the converter resolved for the field pair when the plan is compiled.
+ * Null values are not converted; they are written as null unless the target
+ * property is primitive, in which case the target is left untouched.
+ * A value which the converter fails on is logged and not written,
+ * the other properties of the target are still mapped.
+ */
+class ConvertingPropertyTransfer extends PropertyTransfer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConvertingPropertyTransfer.class);
+
+  private final Method getter;
+  private final Method setter;
+  private final TypeConverter<Object, Object> converter;
+  private final boolean primitive;
+
+  ConvertingPropertyTransfer(Method getter, Method setter,
+                             TypeConverter<Object, Object> converter) {
+
+    this.getter = getter;
+    this.setter = setter;
+    this.converter = converter;
+    this.primitive = setter.getParameterTypes()[0].isPrimitive();
+  }
+
+  @Override
+  void transfer(Object source, Object target) {
+
+    try {
+      Object val = getter.invoke(source);
+      if (val == null && primitive) {
+        return;
+      }
+      if (val == null) {
+        setter.invoke(target, (Object) null);
+        return;
+      }
+      Object converted;
+      try {
+        converted = converter.convert(val);
+      } catch (RuntimeException ex) {
+        LOGGER.error("Value of '" + getter.getName() + "' can not be converted, it is not mapped. "
+            + ex.getLocalizedMessage());
+        return;
+      }
+      setter.invoke(target, converted);
+    } catch (InvocationTargetException | IllegalAccessException ex) {
+      LOGGER.error(ex.getLocalizedMessage());
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Maps one source at a time to a new target object, for lazy mapping of streams and iterators.
+ * The mapping resolved for the last source type is kept and reused as long as
+ * sources of the same type follow, so elements are not resolved one by one.
+ * The function can be shared by the threads of a parallel stream.
+ */
+public final class ElementMapper<S, T> implements Function<S, T> {
+
+  private final Class<T> targetType;
+  private final Set<String> targetFieldNames;
+  private volatile TypeMapper<S, T> lastMapper;
+
+  /**
+   * Creates an element mapper.
+   *
+   * @param targetType target type, must have a public no-arg constructor.
+   */
+  public ElementMapper(Class<T> targetType) {
+    this(targetType, null);
+  }
+
+  /**
+   * Creates an element mapper which maps only the given target fields.
+   *
+   * @param targetType       target type, must have a public no-arg constructor.
+   * @param targetFieldNames names of the target fields to map, or null to map all fields.
+   */
+  public ElementMapper(Class<T> targetType, Set<String> targetFieldNames) {
+
+    AssertHelper.notNull(targetType);
+    this.targetType = targetType;
+    this.targetFieldNames = targetFieldNames;
+  }
+
+  /**
+   * Maps the source to a new target object.
+   *
+   * @param source source object, must not be null.
+   * @return mapped target object.
+   * @throws IllegalStateException if the target type can not be instantiated.
+   */
+  @Override
+  public T apply(S source) {
+
+    AssertHelper.notNull(source);
+
+    TypeMapper<S, T> mapper = lastMapper;
+    if (mapper == null || mapper.getSourceType() != source.getClass()) {
+      mapper = TypeMapper.resolve(source.getClass(), targetType, targetFieldNames);
+      lastMapper = mapper;
+    }
+
+    try {
+      return mapper.create(source);
+    } catch (TargetTypeInstantiationException ex) {
+      throw new IllegalStateException(ex.getLocalizedMessage(), ex);
+    }
+  }
+}
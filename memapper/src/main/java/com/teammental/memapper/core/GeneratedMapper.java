@@ -0,0 +1,34 @@
+package com.teammental.memapper.core;
+
+/**
+ * A mapper implementation generated at compile time by memapper-processor.
+ * Generated mappers are discovered through {@link java.util.ServiceLoader}
+ * and used by {@link MapWorker} before falling back to a reflective mapping plan.
+ *
+ * @param <S> source type
+ * @param <T> target type
+ */
+public interface GeneratedMapper<S, T> {
+
+  /**
+   * Source type of the mapper.
+   *
+   * @return source type.
+   */
+  Class<S> getSourceType();
+
+  /**
+   * Target type of the mapper.
+   *
+   * @return target type.
+   */
+  Class<T> getTargetType();
+
+  /**
+   * Maps source to target.
+   *
+   * @param source mapping source object.
+   * @param target mapping target object.
+   */
+  void map(S source, T target);
+}
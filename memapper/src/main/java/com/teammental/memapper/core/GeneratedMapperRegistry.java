@@ -0,0 +1,83 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the {@link GeneratedMapper}s listed in
+ * {@code META-INF/services/com.teammental.memapper.core.GeneratedMapper}.
+ * The service files are read once, on first use.
+ * Mappers are kept with their source types through a {@link ClassValue},
+ * so registered mappers do not keep unloaded source classes and their class loaders alive.
+ * Unlike the default configurations, mappers are not created per mapped type pair but
+ * registered explicitly, so the registry is not bounded and mappers are never evicted.
+ */
+public final class GeneratedMapperRegistry {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedMapperRegistry.class);
+
+  private static final ClassValue<ConcurrentMap<Class<?>, GeneratedMapper<?, ?>>> MAPPERS =
+      new ClassValue<ConcurrentMap<Class<?>, GeneratedMapper<?, ?>>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, GeneratedMapper<?, ?>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  static {
+    load();
+  }
+
+  private GeneratedMapperRegistry() {
+  }
+
+  /**
+   * Finds the generated mapper between two types.
+   *
+   * @param sourceType source type.
+   * @param targetType target type.
+   * @return the generated mapper, or null if none is generated for the pair.
+   */
+  public static GeneratedMapper<?, ?> find(Class<?> sourceType, Class<?> targetType) {
+
+    return MAPPERS.get(sourceType).get(targetType);
+  }
+
+  /**
+   * Registers a generated mapper, replacing any mapper registered for the same pair.
+   *
+   * @param mapper generated mapper.
+   */
+  public static void register(GeneratedMapper<?, ?> mapper) {
+
+    AssertHelper.notNull(mapper);
+
+    MAPPERS.get(mapper.getSourceType()).put(mapper.getTargetType(), mapper);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static void load() {
+
+    Iterator<GeneratedMapper> iterator = ServiceLoader.load(GeneratedMapper.class).iterator();
+    while (true) {
+      try {
+        if (!iterator.hasNext()) {
+          return;
+        }
+        GeneratedMapper<?, ?> mapper = iterator.next();
+        register(mapper);
+        LOGGER.debug("Generated mapper " + mapper.getClass().getName() + " is registered.");
+      } catch (ServiceConfigurationError error) {
+        LOGGER.error(error.getLocalizedMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates target objects through the public no-arg constructor of a type.
+ * The constructor is looked up and validated once per type; the resulting
+ * instantiator, or the instantiation failure, is cached with the type.
+ * A type which can not be instantiated always fails with the same cached
+ * exception instance, so repeated failures do not build new exceptions.
+ */
+public final class Instantiator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(Instantiator.class);
+
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+  private static final ClassValue<Instantiator<?>> INSTANTIATORS =
+      new ClassValue<Instantiator<?>>() {
+        @Override
+        protected Instantiator<?> computeValue(Class<?> type) {
+          return create(type);
+        }
+      };
+
+  private final Class<T> type;
+  private final MethodHandle constructor;
+  private final TargetTypeInstantiationException failure;
+
+  private Instantiator(Class<T> type, MethodHandle constructor,
+                       TargetTypeInstantiationException failure) {
+
+    this.type = type;
+    this.constructor = constructor;
+    this.failure = failure;
+  }
+
+  /**
+   * Returns the cached instantiator of the type.
+   *
+   * @param type type to instantiate.
+   * @param <T>  type to instantiate.
+   * @return instantiator of the type.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Instantiator<T> of(Class<T> type) {
+
+    AssertHelper.notNull(type);
+    return (Instantiator<T>) INSTANTIATORS.get(type);
+  }
+
+  /**
+   * Creates a new object of the type.
+   *
+   * @return new object.
+   * @throws TargetTypeInstantiationException if the type has no public no-arg constructor,
+   *                                          or the constructor fails.
+   */
+  @SuppressWarnings("unchecked")
+  public T newInstance() throws TargetTypeInstantiationException {
+
+    if (failure != null) {
+      throw failure;
+    }
+    try {
+      return (T) constructor.invokeExact();
+    } catch (Error error) {
+      throw error;
+    } catch (Throwable throwable) {
+      throw new TargetTypeInstantiationException(type, throwable);
+    }
+  }
+
+  /**
+   * Checks whether the type has a usable public no-arg constructor.
+   *
+   * @return true if objects of the type can be created.
+   */
+  public boolean isInstantiable() {
+    return failure == null;
+  }
+
+  /**
+   * Returns the cached failure of a type which can not be instantiated.
+   *
+   * @return instantiation failure, or null if the type is instantiable.
+   */
+  public TargetTypeInstantiationException getFailure() {
+    return failure;
+  }
+
+  private static <T> Instantiator<T> create(Class<T> type) {
+
+    if (type.isInterface() || type.isArray() || type.isPrimitive()
+        || Modifier.isAbstract(type.getModifiers())) {
+      return failed(type, null);
+    }
+
+    try {
+      Constructor<T> declaredConstructor = type.getConstructor();
+      if (!Modifier.isPublic(type.getModifiers())) {
+        declaredConstructor.setAccessible(true);
+      }
+      MethodHandle handle = MethodHandles.lookup().unreflectConstructor(declaredConstructor)
+          .asType(CONSTRUCTOR_TYPE);
+      return new Instantiator<>(type, handle, null);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      return failed(type, ex);
+    }
+  }
+
+  private static <T> Instantiator<T> failed(Class<T> type, Throwable cause) {
+
+    TargetTypeInstantiationException failure = cause == null
+        ? new TargetTypeInstantiationException(type)
+        : new TargetTypeInstantiationException(type, cause);
+    LOGGER.debug(failure.getLocalizedMessage());
+    return new Instantiator<>(type, null, failure);
+  }
+}
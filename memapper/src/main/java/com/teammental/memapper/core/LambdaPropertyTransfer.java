@@ -0,0 +1,58 @@
+package com.teammental.memapper.core;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies a single property through a getter and a setter which are
+ * spun into functional interface implementations by {@link MapEngine#LAMBDA}.
+ * Invocations are plain interface calls, so the JIT can inline them
+ * like hand-written getter/setter code.
+ */
+class LambdaPropertyTransfer extends PropertyTransfer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LambdaPropertyTransfer.class);
+
+  private final Function<Object, Object> getter;
+  private final BiConsumer<Object, Object> setter;
+  private final boolean primitiveSetter;
+  private final String propertyName;
+
+  LambdaPropertyTransfer(Function<Object, Object> getter,
+                         BiConsumer<Object, Object> setter,
+                         boolean primitiveSetter,
+                         String propertyName) {
+
+    this.getter = getter;
+    this.setter = setter;
+    this.primitiveSetter = primitiveSetter;
+    this.propertyName = propertyName;
+  }
+
+  @Override
+  void transfer(Object source, Object target) {
+
+    Object val;
+    try {
+      val = getter.apply(source);
+    } catch (RuntimeException ex) {
+      LOGGER.error(ex.getLocalizedMessage());
+      return;
+    }
+
+    if (val == null && primitiveSetter) {
+      // same outcome as Method.invoke with a null primitive argument
+      throw new IllegalArgumentException("Null value can not be set to primitive property '"
+          + propertyName + "'");
+    }
+
+    try {
+      setter.accept(target, val);
+    } catch (RuntimeException ex) {
+      LOGGER.error(ex.getLocalizedMessage());
+    }
+  }
+}
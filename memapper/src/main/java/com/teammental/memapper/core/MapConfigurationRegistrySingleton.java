@@ -4,24 +4,22 @@ import com.teammental.memapper.configuration.MapConfigurationRegistry;
 
 /**
  * Created by sa on 12/23/2017.
+ * The registry is created eagerly and published through a volatile field,
+ * so every thread sees the same, fully constructed instance.
  */
 public class MapConfigurationRegistrySingleton {
 
-  private static MapConfigurationRegistry registry;
+  private static volatile MapConfigurationRegistry registry = new MapConfigurationRegistry();
 
   /**
    * Returns the singleton instance of the registry.
    * @return registry
    */
   public static MapConfigurationRegistry getSingleton() {
-
-    if (registry == null) {
-      registry = new MapConfigurationRegistry();
-    }
     return registry;
   }
 
   static void clean() {
-    registry = null;
+    registry = new MapConfigurationRegistry();
   }
 }
@@ -0,0 +1,226 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.PrimitiveHelper;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Strategy used by {@link MapPlan} to turn resolved getter and setter
+ * methods into property transfers.
+ * The engine used for new plans is selected by {@link MapperSettings#getEngine()}.
+ */
+public enum MapEngine {
+
+  /**
+   * Invokes getters and setters through {@link Method#invoke}.
+   */
+  REFLECTION {
+    @Override
+    PropertyTransfer createTransfer(Method getter, Method setter) {
+
+      return new ReflectivePropertyTransfer(accessible(getter), accessible(setter));
+    }
+  },
+
+  /**
+   * Spins a dedicated {@link Function} and {@link BiConsumer} implementation
+   * for every getter and setter through {@link LambdaMetafactory}.
+   * When getter and setter share a primitive type, primitive specialized
+   * interfaces such as {@link ToIntFunction} and {@link ObjIntConsumer} are
+   * spun instead, so the value is not boxed.
+   * Falls back to {@link #REFLECTION} for the methods which can not be linked,
+   * e.g. methods of non-public types or of types invisible to memapper's class loader.
+   */
+  LAMBDA {
+    @Override
+    PropertyTransfer createTransfer(Method getter, Method setter) {
+
+      if (!isLinkable(getter) || !isLinkable(setter)) {
+        return REFLECTION.createTransfer(getter, setter);
+      }
+
+      try {
+        Class<?> valueType = getter.getReturnType();
+        if (valueType.isPrimitive() && valueType == setter.getParameterTypes()[0]) {
+          return createPrimitiveTransfer(valueType, getter, setter);
+        }
+        return new LambdaPropertyTransfer(createGetter(getter), createSetter(setter),
+            setter.getParameterTypes()[0].isPrimitive(), setter.getName());
+      } catch (Throwable ex) {
+        LOGGER.debug("Can not generate accessors for '" + getter + "' and '" + setter
+            + "'. Falling back to reflection. " + ex.getLocalizedMessage());
+        return REFLECTION.createTransfer(getter, setter);
+      }
+    }
+  };
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MapEngine.class);
+
+  abstract PropertyTransfer createTransfer(Method getter, Method setter);
+
+  /**
+   * Returns the engine with the given name, ignoring case.
+   * Returns {@link #REFLECTION} when name is null or unknown.
+   *
+   * @param name engine name.
+   * @return engine
+   */
+  public static MapEngine fromName(String name) {
+
+    if (name != null) {
+      for (MapEngine engine : values()) {
+        if (engine.name().equalsIgnoreCase(name.trim())) {
+          return engine;
+        }
+      }
+      LOGGER.warn("Unknown mapping engine '" + name + "'. " + REFLECTION + " is used.");
+    }
+    return REFLECTION;
+  }
+
+  static Method accessible(Method method) {
+
+    try {
+      method.setAccessible(true);
+    } catch (RuntimeException ex) {
+      LOGGER.debug(ex.getLocalizedMessage());
+    }
+    return method;
+  }
+
+  private static boolean isLinkable(Method method) {
+
+    Class<?> declaringClass = method.getDeclaringClass();
+    if (!Modifier.isPublic(method.getModifiers())
+        || !Modifier.isPublic(declaringClass.getModifiers())) {
+      return false;
+    }
+
+    try {
+      return Class.forName(declaringClass.getName(), false,
+          MapEngine.class.getClassLoader()) == declaringClass;
+    } catch (ClassNotFoundException ex) {
+      return false;
+    }
+  }
+
+  private static Function<Object, Object> createGetter(Method getter) throws Throwable {
+
+    return spin(Function.class, "apply", getter,
+        MethodType.methodType(Object.class, Object.class),
+        MethodType.methodType(PrimitiveHelper.getWrapperClass(getter.getReturnType()),
+            getter.getDeclaringClass()));
+  }
+
+  private static BiConsumer<Object, Object> createSetter(Method setter) throws Throwable {
+
+    return spin(BiConsumer.class, "accept", setter,
+        MethodType.methodType(void.class, Object.class, Object.class),
+        MethodType.methodType(void.class, setter.getDeclaringClass(),
+            PrimitiveHelper.getWrapperClass(setter.getParameterTypes()[0])));
+  }
+
+  private static PropertyTransfer createPrimitiveTransfer(Class<?> type,
+                                                          Method getter,
+                                                          Method setter) throws Throwable {
+
+    if (type == int.class) {
+      return new PrimitivePropertyTransfer.IntTransfer(
+          spinGetter(ToIntFunction.class, "applyAsInt", getter),
+          spinSetter(ObjIntConsumer.class, "accept", setter));
+    }
+    if (type == long.class) {
+      return new PrimitivePropertyTransfer.LongTransfer(
+          spinGetter(ToLongFunction.class, "applyAsLong", getter),
+          spinSetter(ObjLongConsumer.class, "accept", setter));
+    }
+    if (type == double.class) {
+      return new PrimitivePropertyTransfer.DoubleTransfer(
+          spinGetter(ToDoubleFunction.class, "applyAsDouble", getter),
+          spinSetter(ObjDoubleConsumer.class, "accept", setter));
+    }
+    if (type == float.class) {
+      return new PrimitivePropertyTransfer.FloatTransfer(
+          spinGetter(PrimitiveAccessors.FloatGetter.class, "get", getter),
+          spinSetter(PrimitiveAccessors.FloatSetter.class, "set", setter));
+    }
+    if (type == boolean.class) {
+      return new PrimitivePropertyTransfer.BooleanTransfer(
+          spinGetter(PrimitiveAccessors.BooleanGetter.class, "get", getter),
+          spinSetter(PrimitiveAccessors.BooleanSetter.class, "set", setter));
+    }
+    if (type == byte.class) {
+      return new PrimitivePropertyTransfer.ByteTransfer(
+          spinGetter(PrimitiveAccessors.ByteGetter.class, "get", getter),
+          spinSetter(PrimitiveAccessors.ByteSetter.class, "set", setter));
+    }
+    if (type == short.class) {
+      return new PrimitivePropertyTransfer.ShortTransfer(
+          spinGetter(PrimitiveAccessors.ShortGetter.class, "get", getter),
+          spinSetter(PrimitiveAccessors.ShortSetter.class, "set", setter));
+    }
+    return new PrimitivePropertyTransfer.CharTransfer(
+        spinGetter(PrimitiveAccessors.CharGetter.class, "get", getter),
+        spinSetter(PrimitiveAccessors.CharSetter.class, "set", setter));
+  }
+
+  private static <F> F spinGetter(Class<?> type, String name, Method getter) throws Throwable {
+
+    Class<?> valueType = getter.getReturnType();
+    return spin(type, name, getter,
+        MethodType.methodType(valueType, Object.class),
+        MethodType.methodType(valueType, getter.getDeclaringClass()));
+  }
+
+  private static <F> F spinSetter(Class<?> type, String name, Method setter) throws Throwable {
+
+    Class<?> valueType = setter.getParameterTypes()[0];
+    return spin(type, name, setter,
+        MethodType.methodType(void.class, Object.class, valueType),
+        MethodType.methodType(void.class, setter.getDeclaringClass(), valueType));
+  }
+
+  /**
+   * Spins an implementation of the functional interface which calls the method.
+   *
+   * @param type             functional interface.
+   * @param name             name of the functional interface method.
+   * @param method           implementation method.
+   * @param samType          erased signature of the functional interface method.
+   * @param instantiatedType signature enforced on the implementation.
+   * @return functional interface instance.
+   */
+  @SuppressWarnings("unchecked")
+  private static <F> F spin(Class<?> type, String name, Method method,
+                            MethodType samType, MethodType instantiatedType) throws Throwable {
+
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle handle = lookup.unreflect(method);
+
+    CallSite site = LambdaMetafactory.metafactory(lookup,
+        name,
+        MethodType.methodType(type),
+        samType,
+        handle,
+        instantiatedType);
+
+    return (F) site.getTarget().invoke();
+  }
+}
@@ -0,0 +1,251 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.PathMapping;
+import com.teammental.memapper.configuration.PropertyMapping;
+import com.teammental.memapper.configuration.TypeConverter;
+import com.teammental.memapper.util.FieldUtil;
+import com.teammental.memapper.util.mapping.CommonMapUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiled form of a {@link MapConfiguration}.
+ * Getter and setter methods of every mapped field are resolved once
+ * when the plan is compiled, so mapping an object is a plain loop
+ * over the resolved transfers. Converters of fields whose types are not assignable
+ * are resolved with the configuration and kept with their transfers.
+ * Nested properties of path mappings are read and written through chains of accessors, and
+ * properties mapped by getter and setter functions call the functions directly.
+ * Fields of different bean types, and collections or maps of them, are mapped recursively
+ * within a {@link MappingContext}, which is only created for plans that have such nested fields.
+ */
+public final class MapPlan {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MapPlan.class);
+
+  private final Class<?> sourceType;
+  private final Class<?> targetType;
+  private final PropertyTransfer[] transfers;
+  private final NestedPropertyTransfer[] nestedTransfers;
+  private final int skippedCount;
+
+  private MapPlan(Class<?> sourceType, Class<?> targetType, PropertyTransfer[] transfers,
+                  NestedPropertyTransfer[] nestedTransfers, int skippedCount) {
+
+    this.sourceType = sourceType;
+    this.targetType = targetType;
+    this.transfers = transfers;
+    this.nestedTransfers = nestedTransfers;
+    this.skippedCount = skippedCount;
+  }
+
+  /**
+   * Compiles a mapping plan from the given configuration.
+   * Fields without a public getter on the source side or
+   * a public setter on the target side are left out of the plan.
+   *
+   * @param configuration mapping configuration.
+   * @return compiled plan.
+   */
+  public static MapPlan compile(MapConfiguration configuration) {
+
+    AssertHelper.notNull(configuration);
+
+    Map<Field, Field> fieldMap = configuration.getFieldMap();
+    List<PropertyTransfer> transfers = new ArrayList<>(fieldMap.size());
+    List<NestedPropertyTransfer> nestedTransfers = new ArrayList<>();
+    MapEngine engine = MapperSettings.getEngine();
+    int skippedCount = 0;
+
+    for (Map.Entry<Field, Field> entry :
+        fieldMap.entrySet()) {
+
+      Optional<Method> getMethodOptional = FieldUtil.findGetMethod(entry.getKey());
+      Optional<Method> setMethodOptional = FieldUtil.findSetMethod(entry.getValue());
+
+      if (!getMethodOptional.isPresent() || !setMethodOptional.isPresent()) {
+        LOGGER.debug("Field '" + entry.getKey().getName() + "' of "
+            + configuration.getSourceType().getName() + " is not accessible for mapping to "
+            + configuration.getTargetType().getName() + ". Field is ignored.");
+        skippedCount++;
+        continue;
+      }
+
+      Method setMethod = setMethodOptional.get();
+      Optional<TypeConverter<Object, Object>> converter =
+          configuration.findConverter(entry.getKey());
+      if (converter.isPresent()) {
+        transfers.add(new ConvertingPropertyTransfer(
+            MapEngine.accessible(getMethodOptional.get()), MapEngine.accessible(setMethod),
+            converter.get()));
+        continue;
+      }
+
+      ValueMapper valueMapper = ValueMapper.of(entry.getKey(), entry.getValue(),
+          setMethod.getParameterTypes()[0]);
+      if (valueMapper != null) {
+        nestedTransfers.add(new NestedPropertyTransfer(
+            MapEngine.accessible(getMethodOptional.get()), MapEngine.accessible(setMethod),
+            valueMapper));
+      } else if (ValueMapper.hasNestedElements(entry.getKey(), entry.getValue())) {
+        // the source collection would be passed as is, with elements of the source type
+        LOGGER.debug("Field '" + entry.getKey().getName() + "' of "
+            + configuration.getSourceType().getName() + " has no collection to map its "
+            + "elements to in " + configuration.getTargetType().getName() + ". Field is ignored.");
+        skippedCount++;
+      } else {
+        transfers.add(engine.createTransfer(getMethodOptional.get(), setMethod));
+      }
+    }
+
+    for (PathMapping pathMapping :
+        configuration.getPathMappings()) {
+      PathPropertyTransfer.of(pathMapping).ifPresent(transfers::add);
+    }
+
+    for (PropertyMapping propertyMapping :
+        configuration.getPropertyMappings()) {
+      transfers.add(new LambdaPropertyTransfer(propertyMapping.getGetter(),
+          propertyMapping.getSetter(), false, "mapped by function"));
+    }
+
+    return new MapPlan(configuration.getSourceType(), configuration.getTargetType(),
+        transfers.toArray(new PropertyTransfer[transfers.size()]),
+        nestedTransfers.toArray(new NestedPropertyTransfer[nestedTransfers.size()]),
+        skippedCount);
+  }
+
+  /**
+   * Compiles a plan which copies the equally named fields of two types whose types are
+   * convertable, see {@link FieldUtil#isConvertable(Field, Field)}.
+   * Nested objects are not mapped and no converters are applied. A property whose
+   * transfer fails, e.g. a null value set to a primitive property, is skipped.
+   *
+   * @param sourceType mapping source type.
+   * @param targetType mapping target type.
+   * @return compiled plan.
+   */
+  public static MapPlan compileByFieldName(Class<?> sourceType, Class<?> targetType) {
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    List<Field> targetFieldList = CommonMapUtil.getAllFields(targetType);
+    Map<String, Field> targetFields =
+        new HashMap<>(MapValueMapper.capacity(targetFieldList.size()));
+    for (Field targetField : targetFieldList) {
+      targetFields.putIfAbsent(targetField.getName(), targetField);
+    }
+
+    List<PropertyTransfer> transfers = new ArrayList<>();
+    MapEngine engine = MapperSettings.getEngine();
+    int skippedCount = 0;
+
+    for (Field sourceField : CommonMapUtil.getAllFields(sourceType)) {
+
+      Field targetField = targetFields.get(sourceField.getName());
+      if (targetField == null || !FieldUtil.isConvertable(sourceField, targetField)) {
+        continue;
+      }
+
+      Optional<Method> getMethodOptional = FieldUtil.findGetMethod(sourceField);
+      Optional<Method> setMethodOptional = FieldUtil.findSetMethod(targetField);
+      if (!getMethodOptional.isPresent() || !setMethodOptional.isPresent()) {
+        LOGGER.debug("Field '" + sourceField.getName() + "' of " + sourceType.getName()
+            + " is not accessible for mapping to " + targetType.getName() + ". Field is ignored.");
+        skippedCount++;
+        continue;
+      }
+
+      transfers.add(new SkippingPropertyTransfer(
+          engine.createTransfer(getMethodOptional.get(), setMethodOptional.get()),
+          sourceField.getName()));
+    }
+
+    return new MapPlan(sourceType, targetType,
+        transfers.toArray(new PropertyTransfer[transfers.size()]),
+        new NestedPropertyTransfer[0], skippedCount);
+  }
+
+  /**
+   * Maps source to target by running every resolved transfer.
+   *
+   * @param source mapping source object.
+   * @param target mapping target object.
+   */
+  public void map(Object source, Object target) {
+    map(source, target, null);
+  }
+
+  /**
+   * Maps source to target within the context of a mapping call.
+   * The target is registered as the mapping of the source before nested fields
+   * are mapped, so nested references back to the source resolve to the target.
+   *
+   * @param source  mapping source object.
+   * @param target  mapping target object.
+   * @param context context of the mapping call, or null to start a new call.
+   */
+  public void map(Object source, Object target, MappingContext context) {
+
+    for (PropertyTransfer transfer : transfers) {
+      transfer.transfer(source, target);
+    }
+
+    if (nestedTransfers.length == 0) {
+      return;
+    }
+
+    MappingContext callContext = context == null ? new MappingContext() : context;
+    callContext.register(source, target);
+    for (NestedPropertyTransfer transfer : nestedTransfers) {
+      transfer.transfer(source, target, callContext);
+    }
+  }
+
+  public Class<?> getSourceType() {
+    return sourceType;
+  }
+
+  public Class<?> getTargetType() {
+    return targetType;
+  }
+
+  /**
+   * Returns the number of properties copied by this plan.
+   *
+   * @return property count.
+   */
+  public int size() {
+    return transfers.length + nestedTransfers.length;
+  }
+
+  /**
+   * Returns the number of configured fields left out of this plan,
+   * because they have no public getter on the source side or setter on the target side.
+   *
+   * @return skipped field count.
+   */
+  public int getSkippedCount() {
+    return skippedCount;
+  }
+
+  /**
+   * Checks whether the plan maps nested objects.
+   *
+   * @return true if any field is mapped recursively.
+   */
+  public boolean isNested() {
+    return nestedTransfers.length > 0;
+  }
+}
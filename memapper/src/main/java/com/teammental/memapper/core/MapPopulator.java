@@ -0,0 +1,210 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.mehelper.CastHelper;
+import com.teammental.mehelper.PrimitiveHelper;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+import com.teammental.memapper.util.FieldUtil;
+import com.teammental.memapper.util.NumberUtil;
+import com.teammental.memapper.util.mapping.CommonMapUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Populates objects of a type from Name-Value pairs, e.g. rows read as
+ * Map&lt;String, Object&gt;. Setters of the type are resolved once per type and cached
+ * with the type in a table keyed by property name, so populating an object costs
+ * a lookup and a setter invocation per entry.
+ * Values which are not instances of the property type are coerced when possible:
+ * strings are cast to primitive, wrapper and enum types, numbers are converted
+ * to other number types when they fit the range of the type, integral types
+ * only take numbers without a fraction. Entries without a matching setter are ignored.
+ */
+public final class MapPopulator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MapPopulator.class);
+
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<MapPopulator<?>> POPULATORS =
+      new ClassValue<MapPopulator<?>>() {
+        @Override
+        protected MapPopulator<?> computeValue(Class<?> type) {
+          return create(type);
+        }
+      };
+
+  private final Instantiator<T> instantiator;
+  private final Map<String, PropertyWriter> writers;
+
+  private MapPopulator(Instantiator<T> instantiator, Map<String, PropertyWriter> writers) {
+
+    this.instantiator = instantiator;
+    this.writers = writers;
+  }
+
+  /**
+   * Returns the cached populator of the type.
+   *
+   * @param type type to populate.
+   * @param <T>  type to populate.
+   * @return populator of the type.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> MapPopulator<T> of(Class<T> type) {
+
+    AssertHelper.notNull(type);
+    return (MapPopulator<T>) POPULATORS.get(type);
+  }
+
+  /**
+   * Creates a new object of the type and populates it from the given values.
+   *
+   * @param values property names and values.
+   * @return new object.
+   * @throws TargetTypeInstantiationException if the type has no public no-arg constructor,
+   *                                          or the constructor fails.
+   */
+  public T create(Map<String, ?> values) throws TargetTypeInstantiationException {
+    return populate(values, instantiator.newInstance());
+  }
+
+  /**
+   * Writes the given values to the matching properties of target.
+   *
+   * @param values property names and values.
+   * @param target object to populate.
+   * @return target.
+   */
+  public T populate(Map<String, ?> values, T target) {
+
+    for (Map.Entry<String, ?> entry : values.entrySet()) {
+      PropertyWriter writer = writers.get(entry.getKey());
+      if (writer != null) {
+        writer.write(target, entry.getValue());
+      }
+    }
+    return target;
+  }
+
+  /**
+   * Returns the number of properties which can be populated.
+   *
+   * @return property count.
+   */
+  public int size() {
+    return writers.size();
+  }
+
+  private static <T> MapPopulator<T> create(Class<T> type) {
+
+    List<Field> fields = CommonMapUtil.getAllFields(type);
+    Map<String, PropertyWriter> writers = new HashMap<>(MapValueMapper.capacity(fields.size()));
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    for (Field field : fields) {
+      Optional<Method> setMethodOptional = FieldUtil.findSetMethod(field);
+      if (!setMethodOptional.isPresent()) {
+        continue;
+      }
+      Method setMethod = MapEngine.accessible(setMethodOptional.get());
+      try {
+        writers.putIfAbsent(field.getName(), new PropertyWriter(field.getName(),
+            setMethod.getParameterTypes()[0], lookup.unreflect(setMethod).asType(SETTER_TYPE)));
+      } catch (IllegalAccessException ex) {
+        LOGGER.debug(ex.getLocalizedMessage());
+      }
+    }
+
+    return new MapPopulator<>(Instantiator.of(type), writers);
+  }
+
+  /**
+   * Converts value to the given wrapper, enum or reference type.
+   *
+   * @param value value to convert.
+   * @param type  wrapper, enum or reference type.
+   * @return converted value, null if value can not be converted.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static Object coerce(Object value, Class<?> type) {
+
+    if (type.isInstance(value)) {
+      return value;
+    }
+    if (value instanceof String) {
+      String string = (String) value;
+      if (type.isEnum()) {
+        try {
+          return Enum.valueOf((Class<? extends Enum>) type, string);
+        } catch (IllegalArgumentException ex) {
+          return null;
+        }
+      }
+      return CastHelper.castFromString(string, type);
+    }
+    if (value instanceof Number && NumberUtil.NUMBER_TYPES.contains(type)) {
+      try {
+        return NumberUtil.convert((Number) value, type);
+      } catch (ArithmeticException ex) {
+        return null;
+      }
+    }
+    if (type.equals(String.class)) {
+      return value.toString();
+    }
+    return null;
+  }
+
+  private static final class PropertyWriter {
+
+    private final String name;
+    private final Class<?> type;
+    private final boolean primitive;
+    private final MethodHandle setter;
+
+    private PropertyWriter(String name, Class<?> type, MethodHandle setter) {
+
+      this.name = name;
+      this.primitive = type.isPrimitive();
+      this.type = primitive ? PrimitiveHelper.getWrapperClass(type) : type;
+      this.setter = setter;
+    }
+
+    private void write(Object target, Object value) {
+
+      Object val = value;
+      if (val == null) {
+        if (primitive) {
+          return;
+        }
+      } else if (!type.isInstance(val)) {
+        val = coerce(val, type);
+        if (val == null) {
+          LOGGER.debug("Value of '" + name + "' can not be converted to " + type.getName());
+          return;
+        }
+      }
+
+      try {
+        setter.invokeExact(target, val);
+      } catch (Error error) {
+        throw error;
+      } catch (Throwable throwable) {
+        LOGGER.error(throwable.getLocalizedMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.teammental.memapper.core;
+
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maps the values of a map of nested objects into a new map with the same keys.
+ * The target map is chosen once from the target property type and created with
+ * the size of the source map; every value is mapped by the same value mapper.
+ */
+final class MapValueMapper extends ValueMapper {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MapValueMapper.class);
+
+  private final IntFunction<Map<Object, Object>> mapFactory;
+  private final NestedValueMapper valueMapper;
+
+  private MapValueMapper(IntFunction<Map<Object, Object>> mapFactory,
+                         NestedValueMapper valueMapper) {
+
+    this.mapFactory = mapFactory;
+    this.valueMapper = valueMapper;
+  }
+
+  /**
+   * Creates a map mapper for the target map type.
+   *
+   * @param mapType     target map type.
+   * @param valueMapper mapper of the values.
+   * @return map mapper, or null if no map of the type can be created.
+   */
+  static MapValueMapper of(Class<?> mapType, NestedValueMapper valueMapper) {
+
+    IntFunction<Map<Object, Object>> factory = findFactory(mapType);
+    if (factory == null) {
+      LOGGER.debug("No map of type " + mapType.getName()
+          + " can be created, values are not mapped.");
+      return null;
+    }
+    return new MapValueMapper(factory, valueMapper);
+  }
+
+  @Override
+  Object map(Object value, MappingContext context) throws TargetTypeInstantiationException {
+
+    if (value == null || context.getDepth() >= context.getMaxDepth()) {
+      return null;
+    }
+
+    Map<?, ?> sources = (Map<?, ?>) value;
+    Map<Object, Object> targets = mapFactory.apply(sources.size());
+    for (Map.Entry<?, ?> entry :
+        sources.entrySet()) {
+      targets.put(entry.getKey(), valueMapper.map(entry.getValue(), context));
+    }
+    return targets;
+  }
+
+  /**
+   * Returns the initial capacity of a hash based collection which holds
+   * the given number of entries without rehashing.
+   */
+  static int capacity(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+
+  private static IntFunction<Map<Object, Object>> findFactory(Class<?> mapType) {
+
+    if (mapType.isAssignableFrom(LinkedHashMap.class)) {
+      return size -> new LinkedHashMap<>(capacity(size));
+    }
+    if (mapType.isAssignableFrom(TreeMap.class)) {
+      return size -> new TreeMap<>();
+    }
+
+    Instantiator<?> instantiator = Instantiator.of(mapType);
+    if (!instantiator.isInstantiable()) {
+      return null;
+    }
+    return size -> newMap(instantiator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Object, Object> newMap(Instantiator<?> instantiator) {
+
+    try {
+      return (Map<Object, Object>) instantiator.newInstance();
+    } catch (TargetTypeInstantiationException ex) {
+      throw new IllegalStateException(ex.getLocalizedMessage(), ex);
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+
+/**
+ * Global settings of memapper.
+ * Initial values are read from system properties, so they can be
+ * switched per deployment without code changes.
+ */
+public final class MapperSettings {
+
+  /**
+   * System property which selects the {@link MapEngine}, e.g. {@code -Dmemapper.engine=lambda}.
+   */
+  public static final String ENGINE_PROPERTY = "memapper.engine";
+
+  /**
+   * System property which sets the minimum list size mapped in parallel,
+   * e.g. {@code -Dmemapper.parallelThreshold=5000}.
+   */
+  public static final String PARALLEL_THRESHOLD_PROPERTY = "memapper.parallelThreshold";
+
+  /**
+   * System property which sets how deep nested objects are mapped,
+   * e.g. {@code -Dmemapper.maxDepth=3}.
+   */
+  public static final String MAX_DEPTH_PROPERTY = "memapper.maxDepth";
+
+  /**
+   * System property which sets how many field mask projections are cached per type pair,
+   * e.g. {@code -Dmemapper.projectionCacheSize=16}.
+   */
+  public static final String PROJECTION_CACHE_SIZE_PROPERTY = "memapper.projectionCacheSize";
+
+  /**
+   * System property which sets how many default configurations a registry keeps,
+   * e.g. {@code -Dmemapper.configurationCacheSize=1024}.
+   */
+  public static final String CONFIGURATION_CACHE_SIZE_PROPERTY =
+      "memapper.configurationCacheSize";
+
+  /**
+   * System property which enables mapping metrics, e.g. {@code -Dmemapper.metrics=true}.
+   */
+  public static final String METRICS_PROPERTY = "memapper.metrics";
+
+  private static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+  private static final int DEFAULT_MAX_DEPTH = 5;
+
+  private static final int DEFAULT_PROJECTION_CACHE_SIZE = 32;
+
+  private static final int DEFAULT_CONFIGURATION_CACHE_SIZE = 4096;
+
+  private static volatile MapEngine engine = MapEngine.fromName(System.getProperty(ENGINE_PROPERTY));
+
+  private static volatile int parallelThreshold =
+      Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD);
+
+  private static volatile int maxDepth =
+      Integer.getInteger(MAX_DEPTH_PROPERTY, DEFAULT_MAX_DEPTH);
+
+  private static volatile int projectionCacheSize =
+      Integer.getInteger(PROJECTION_CACHE_SIZE_PROPERTY, DEFAULT_PROJECTION_CACHE_SIZE);
+
+  private static volatile int configurationCacheSize =
+      Integer.getInteger(CONFIGURATION_CACHE_SIZE_PROPERTY, DEFAULT_CONFIGURATION_CACHE_SIZE);
+
+  private static volatile boolean metricsEnabled = Boolean.getBoolean(METRICS_PROPERTY);
+
+  private MapperSettings() {
+  }
+
+  /**
+   * Returns the engine used to compile new mapping plans.
+   *
+   * @return mapping engine.
+   */
+  public static MapEngine getEngine() {
+    return engine;
+  }
+
+  /**
+   * Sets the engine used to compile new mapping plans.
+   * Plans which are already compiled keep their engine.
+   *
+   * @param mapEngine mapping engine.
+   */
+  public static void setEngine(MapEngine mapEngine) {
+
+    AssertHelper.notNull(mapEngine);
+    engine = mapEngine;
+  }
+
+  /**
+   * Returns the minimum number of sources for which a parallel list mapping
+   * is actually split across threads. Smaller lists are mapped on the calling thread.
+   *
+   * @return parallel threshold.
+   */
+  public static int getParallelThreshold() {
+    return parallelThreshold;
+  }
+
+  /**
+   * Sets the minimum number of sources for which a parallel list mapping
+   * is actually split across threads.
+   *
+   * @param threshold parallel threshold, must be positive.
+   */
+  public static void setParallelThreshold(int threshold) {
+
+    if (threshold < 1) {
+      throw new IllegalArgumentException("Parallel threshold must be positive: " + threshold);
+    }
+    parallelThreshold = threshold;
+  }
+
+  /**
+   * Returns how many levels of nested objects are mapped below the mapped object.
+   * Nested properties deeper than this are left unset.
+   *
+   * @return maximum nesting depth.
+   */
+  public static int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Sets how many levels of nested objects are mapped below the mapped object.
+   * Zero disables nested mapping.
+   *
+   * @param depth maximum nesting depth, must not be negative.
+   */
+  public static void setMaxDepth(int depth) {
+
+    if (depth < 0) {
+      throw new IllegalArgumentException("Max depth must not be negative: " + depth);
+    }
+    maxDepth = depth;
+  }
+
+  /**
+   * Returns how many field mask projections are cached per type pair.
+   * The oldest projection is evicted when the cache is full.
+   *
+   * @return projection cache size.
+   */
+  public static int getProjectionCacheSize() {
+    return projectionCacheSize;
+  }
+
+  /**
+   * Sets how many field mask projections are cached per type pair.
+   * Caches which are already full shrink as new projections are added.
+   *
+   * @param size projection cache size, must be positive.
+   */
+  public static void setProjectionCacheSize(int size) {
+
+    if (size < 1) {
+      throw new IllegalArgumentException("Projection cache size must be positive: " + size);
+    }
+    projectionCacheSize = size;
+  }
+
+  /**
+   * Returns how many default configurations are kept per registry.
+   * The oldest default configuration is evicted when the cache is full.
+   *
+   * @return configuration cache size.
+   */
+  public static int getConfigurationCacheSize() {
+    return configurationCacheSize;
+  }
+
+  /**
+   * Sets how many default configurations are kept per registry.
+   * Caches which are already full shrink as new configurations are created.
+   *
+   * @param size configuration cache size, must be positive.
+   */
+  public static void setConfigurationCacheSize(int size) {
+
+    if (size < 1) {
+      throw new IllegalArgumentException("Configuration cache size must be positive: " + size);
+    }
+    configurationCacheSize = size;
+  }
+
+  /**
+   * Checks whether mappings are recorded in
+   * {@link com.teammental.memapper.metrics.MappingMetrics}. Disabled by default.
+   *
+   * @return true if metrics are enabled.
+   */
+  public static boolean isMetricsEnabled() {
+    return metricsEnabled;
+  }
+
+  /**
+   * Enables or disables recording mappings in
+   * {@link com.teammental.memapper.metrics.MappingMetrics}.
+   * When disabled, mappings do not read the clock and do not look up their metrics.
+   *
+   * @param enabled true to record mappings.
+   */
+  public static void setMetricsEnabled(boolean enabled) {
+    metricsEnabled = enabled;
+  }
+}
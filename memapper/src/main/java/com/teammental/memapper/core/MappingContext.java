@@ -0,0 +1,117 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * State of one mapping call which maps nested objects.
+ * Every source object is mapped to a target of a type only once: shared references
+ * in the source graph stay shared in the target graph, and cyclic references are
+ * resolved to the already created target instead of being mapped again.
+ * The nesting depth is bounded by {@link MapperSettings#getMaxDepth()}.
+ * A context is not thread-safe, it belongs to the thread which runs the mapping.
+ */
+public final class MappingContext {
+
+  private final int maxDepth;
+  private Map<Object, Object> targets;
+  private int depth;
+
+  /**
+   * Creates a context with the global max depth.
+   */
+  public MappingContext() {
+    this(MapperSettings.getMaxDepth());
+  }
+
+  /**
+   * Creates a context with the given max depth.
+   *
+   * @param maxDepth maximum nesting depth, must not be negative.
+   */
+  public MappingContext(int maxDepth) {
+
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("Max depth must not be negative: " + maxDepth);
+    }
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * Returns the target already mapped from the source object, if it is of the given type.
+   *
+   * @param source     mapping source object.
+   * @param targetType mapping target type.
+   * @return mapped target, or null if the source is not mapped to the type yet.
+   */
+  Object findTarget(Object source, Class<?> targetType) {
+
+    if (targets == null) {
+      return null;
+    }
+    Object target = targets.get(source);
+    return targetType.isInstance(target) ? target : null;
+  }
+
+  /**
+   * Registers the target of a source object, before its properties are mapped,
+   * so references back to the source are resolved to the target.
+   *
+   * @param source mapping source object.
+   * @param target mapping target object.
+   */
+  void register(Object source, Object target) {
+
+    AssertHelper.notNull(source, target);
+
+    if (targets == null) {
+      targets = new IdentityHashMap<>();
+    }
+    targets.put(source, target);
+  }
+
+  /**
+   * Steps one level deeper, unless the max depth is reached.
+   *
+   * @return true if the next level can be mapped.
+   */
+  boolean enter() {
+
+    if (depth >= maxDepth) {
+      return false;
+    }
+    depth++;
+    return true;
+  }
+
+  /**
+   * Steps one level back after a nested object is mapped.
+   */
+  void exit() {
+    depth--;
+  }
+
+  /**
+   * Returns the current nesting depth, zero while the root object is mapped.
+   *
+   * @return current depth.
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Returns the number of source objects mapped through this context.
+   *
+   * @return mapped object count.
+   */
+  public int size() {
+    return targets == null ? 0 : targets.size();
+  }
+}
@@ -0,0 +1,51 @@
+package com.teammental.memapper.core;
+
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies a property whose source and target types differ by mapping the
+ * source value to a new object of the target property type, see {@link ValueMapper}.
+ */
+final class NestedPropertyTransfer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NestedPropertyTransfer.class);
+
+  private final Method getter;
+  private final Method setter;
+  private final ValueMapper valueMapper;
+
+  NestedPropertyTransfer(Method getter, Method setter, ValueMapper valueMapper) {
+
+    this.getter = getter;
+    this.setter = setter;
+    this.valueMapper = valueMapper;
+  }
+
+  /**
+   * Maps the property of source and writes it to target.
+   * The target property is left unset if the max depth of the context is reached.
+   *
+   * @param source  mapping source object.
+   * @param target  mapping target object.
+   * @param context context of the mapping call.
+   */
+  void transfer(Object source, Object target, MappingContext context) {
+
+    try {
+      Object value = getter.invoke(source);
+      Object mapped = valueMapper.map(value, context);
+      if (value == null || mapped != null) {
+        setter.invoke(target, mapped);
+      }
+    } catch (InvocationTargetException | IllegalAccessException
+        | TargetTypeInstantiationException ex) {
+      LOGGER.error(ex.getLocalizedMessage());
+    }
+  }
+}
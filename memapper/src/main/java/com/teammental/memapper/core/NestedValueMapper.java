@@ -0,0 +1,61 @@
+package com.teammental.memapper.core;
+
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maps the value of a nested property, or an element of a nested collection,
+ * to the target type. The type mapping resolved for the last value type is kept,
+ * so the values of a property are not resolved one by one.
+ */
+final class NestedValueMapper extends ValueMapper {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NestedValueMapper.class);
+
+  private final Class<?> targetType;
+  private volatile TypeMapper<Object, Object> lastMapper;
+
+  NestedValueMapper(Class<?> targetType) {
+    this.targetType = targetType;
+  }
+
+  @Override
+  Object map(Object value, MappingContext context) throws TargetTypeInstantiationException {
+
+    if (value == null) {
+      return null;
+    }
+
+    Object mapped = context.findTarget(value, targetType);
+    if (mapped != null) {
+      return mapped;
+    }
+
+    if (!context.enter()) {
+      LOGGER.debug("Max depth " + context.getMaxDepth() + " is reached, "
+          + value.getClass().getName() + " is not mapped to " + targetType.getName() + ".");
+      return null;
+    }
+    try {
+      return resolve(value.getClass()).create(value, context);
+    } finally {
+      context.exit();
+    }
+  }
+
+  Class<?> getTargetType() {
+    return targetType;
+  }
+
+  private TypeMapper<Object, Object> resolve(Class<?> valueType) {
+
+    TypeMapper<Object, Object> mapper = lastMapper;
+    if (mapper == null || mapper.getSourceType() != valueType) {
+      mapper = TypeMapper.resolve(valueType, targetType);
+      lastMapper = mapper;
+    }
+    return mapper;
+  }
+}
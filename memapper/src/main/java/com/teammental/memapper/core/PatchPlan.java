@@ -0,0 +1,169 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.TypeConverter;
+import com.teammental.memapper.util.FieldUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiled partial mapping of a {@link MapConfiguration}, used to apply updates to an
+ * existing target. Only non-null source properties which differ from the current
+ * target property are written, and the names of the written properties are reported,
+ * so callers can skip or narrow the persistence of unchanged targets.
+ * Nested properties of different bean types are not patched.
+ */
+public final class PatchPlan {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PatchPlan.class);
+
+  private final PatchTransfer[] transfers;
+
+  private PatchPlan(PatchTransfer[] transfers) {
+    this.transfers = transfers;
+  }
+
+  /**
+   * Compiles a patch plan from the given configuration.
+   * Fields without a public getter on the source side or
+   * a public setter on the target side are left out of the plan.
+   *
+   * @param configuration mapping configuration.
+   * @return compiled plan.
+   */
+  public static PatchPlan compile(MapConfiguration configuration) {
+
+    AssertHelper.notNull(configuration);
+
+    Map<Field, Field> fieldMap = configuration.getFieldMap();
+    List<PatchTransfer> transfers = new ArrayList<>(fieldMap.size());
+
+    for (Map.Entry<Field, Field> entry :
+        fieldMap.entrySet()) {
+
+      Optional<Method> getMethodOptional = FieldUtil.findGetMethod(entry.getKey());
+      Optional<Method> setMethodOptional = FieldUtil.findSetMethod(entry.getValue());
+
+      if (!getMethodOptional.isPresent() || !setMethodOptional.isPresent()) {
+        continue;
+      }
+
+      Method setMethod = setMethodOptional.get();
+      TypeConverter<Object, Object> converter =
+          configuration.findConverter(entry.getKey()).orElse(null);
+      if (converter == null
+          && ValueMapper.of(entry.getKey(), entry.getValue(), setMethod.getParameterTypes()[0])
+          != null) {
+        LOGGER.debug("Nested field '" + entry.getKey().getName() + "' of "
+            + configuration.getSourceType().getName() + " is not patched.");
+        continue;
+      }
+
+      Method targetGetMethod = FieldUtil.findGetMethod(entry.getValue()).orElse(null);
+      transfers.add(new PatchTransfer(entry.getValue().getName(),
+          MapEngine.accessible(getMethodOptional.get()),
+          targetGetMethod == null ? null : MapEngine.accessible(targetGetMethod),
+          MapEngine.accessible(setMethod), converter));
+    }
+
+    return new PatchPlan(transfers.toArray(new PatchTransfer[transfers.size()]));
+  }
+
+  /**
+   * Writes the non-null properties of source which differ from target's properties.
+   *
+   * @param source mapping source object.
+   * @param target mapping target object.
+   * @return names of the changed target properties, empty if target is not changed.
+   */
+  public Set<String> patch(Object source, Object target) {
+
+    Set<String> changedFields = new LinkedHashSet<>();
+    for (PatchTransfer transfer : transfers) {
+      if (transfer.transfer(source, target)) {
+        changedFields.add(transfer.name);
+      }
+    }
+    return changedFields;
+  }
+
+  /**
+   * Returns the number of properties which can be patched by this plan.
+   *
+   * @return property count.
+   */
+  public int size() {
+    return transfers.length;
+  }
+
+  private static final class PatchTransfer {
+
+    private final String name;
+    private final Method getter;
+    private final Method targetGetter;
+    private final Method setter;
+    private final TypeConverter<Object, Object> converter;
+
+    private PatchTransfer(String name, Method getter, Method targetGetter, Method setter,
+                          TypeConverter<Object, Object> converter) {
+
+      this.name = name;
+      this.getter = getter;
+      this.targetGetter = targetGetter;
+      this.setter = setter;
+      this.converter = converter;
+    }
+
+    /**
+     * Writes the source property, converted if the field types differ, to target
+     * if it is not null and differs from the target property.
+     * Properties without a target getter are always written.
+     * A property which can not be read or converted is skipped, the other properties
+     * are still patched.
+     *
+     * @return true if the target property is written.
+     */
+    private boolean transfer(Object source, Object target) {
+
+      try {
+        Object value = getter.invoke(source);
+        if (value != null && converter != null) {
+          value = convert(value);
+        }
+        if (value == null
+            || targetGetter != null && Objects.deepEquals(value, targetGetter.invoke(target))) {
+          return false;
+        }
+        setter.invoke(target, value);
+        return true;
+      } catch (InvocationTargetException | IllegalAccessException ex) {
+        LOGGER.error(ex.getLocalizedMessage());
+        return false;
+      }
+    }
+
+    private Object convert(Object value) {
+
+      try {
+        return converter.convert(value);
+      } catch (RuntimeException ex) {
+        LOGGER.error("Field '" + name + "' can not be converted, it is not patched. "
+            + ex.getLocalizedMessage());
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.teammental.memapper.core;
+
+import com.teammental.memapper.configuration.PathMapping;
+import com.teammental.memapper.configuration.PropertyPath;
+import com.teammental.memapper.configuration.TypeConverter;
+import com.teammental.memapper.util.FieldUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies a nested property through chains of accessors resolved when the plan is compiled,
+ * e.g. {@code source.getCustomer().getAddress().getCity()} to
+ * {@code target.setCustomerAddressCity(city)}.
+ * Reading stops at the first null property of the source chain, which maps as a null value.
+ * Null target properties of the chain are instantiated, unless the mapped value is null.
+ */
+final class PathPropertyTransfer extends PropertyTransfer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PathPropertyTransfer.class);
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final String name;
+  private final MethodHandle[] sourceGetters;
+  private final MethodHandle[] targetGetters;
+  private final MethodHandle[] targetSetters;
+  private final Instantiator<?>[] instantiators;
+  private final TypeConverter<Object, Object> converter;
+  private final boolean primitive;
+
+  private PathPropertyTransfer(String name, MethodHandle[] sourceGetters,
+                               MethodHandle[] targetGetters, MethodHandle[] targetSetters,
+                               Instantiator<?>[] instantiators,
+                               TypeConverter<Object, Object> converter, boolean primitive) {
+
+    this.name = name;
+    this.sourceGetters = sourceGetters;
+    this.targetGetters = targetGetters;
+    this.targetSetters = targetSetters;
+    this.instantiators = instantiators;
+    this.converter = converter;
+    this.primitive = primitive;
+  }
+
+  /**
+   * Resolves the accessors of a path mapping.
+   *
+   * @param pathMapping path mapping.
+   * @return an Optional of the transfer, empty if an accessor of the paths is not accessible.
+   */
+  static Optional<PathPropertyTransfer> of(PathMapping pathMapping) {
+
+    List<Field> sourceFields = pathMapping.getSourcePath().getFields();
+    List<Field> targetFields = pathMapping.getTargetPath().getFields();
+    int last = targetFields.size() - 1;
+
+    MethodHandle[] sourceGetters = new MethodHandle[sourceFields.size()];
+    MethodHandle[] targetGetters = new MethodHandle[last];
+    MethodHandle[] targetSetters = new MethodHandle[targetFields.size()];
+    Instantiator<?>[] instantiators = new Instantiator<?>[last];
+
+    try {
+      for (int i = 0; i < sourceFields.size(); i++) {
+        sourceGetters[i] = unreflect(FieldUtil.findGetMethod(sourceFields.get(i)), GETTER_TYPE);
+      }
+      for (int i = 0; i < targetFields.size(); i++) {
+        targetSetters[i] = unreflect(FieldUtil.findSetMethod(targetFields.get(i)), SETTER_TYPE);
+        if (i < last) {
+          targetGetters[i] = unreflect(FieldUtil.findGetMethod(targetFields.get(i)), GETTER_TYPE);
+          instantiators[i] = Instantiator.of(targetFields.get(i).getType());
+        }
+      }
+    } catch (IllegalAccessException ex) {
+      LOGGER.debug("Path '" + pathMapping.getSourcePath() + "' is not accessible for mapping to '"
+          + pathMapping.getTargetPath() + "': " + ex.getLocalizedMessage());
+      return Optional.empty();
+    }
+
+    PropertyPath targetPath = pathMapping.getTargetPath();
+    return Optional.of(new PathPropertyTransfer(targetPath.getName(), sourceGetters,
+        targetGetters, targetSetters, instantiators, pathMapping.getConverter(),
+        targetPath.getLeaf().getType().isPrimitive()));
+  }
+
+  @Override
+  void transfer(Object source, Object target) {
+
+    try {
+      Object value = source;
+      for (MethodHandle getter : sourceGetters) {
+        value = (Object) getter.invokeExact(value);
+        if (value == null) {
+          break;
+        }
+      }
+
+      if (value == null && primitive) {
+        return;
+      }
+      if (value != null && converter != null) {
+        value = converter.convert(value);
+      }
+
+      Object owner = target;
+      for (int i = 0; i < targetGetters.length; i++) {
+        Object next = (Object) targetGetters[i].invokeExact(owner);
+        if (next == null) {
+          if (value == null) {
+            return;
+          }
+          next = instantiators[i].newInstance();
+          targetSetters[i].invokeExact(owner, next);
+        }
+        owner = next;
+      }
+      targetSetters[targetGetters.length].invokeExact(owner, value);
+    } catch (Error error) {
+      throw error;
+    } catch (Throwable throwable) {
+      LOGGER.error("Property '" + name + "' is not mapped: " + throwable.getLocalizedMessage());
+    }
+  }
+
+  private static MethodHandle unreflect(Optional<Method> method, MethodType type)
+      throws IllegalAccessException {
+
+    if (!method.isPresent()) {
+      throw new IllegalAccessException("no public accessor");
+    }
+    return MethodHandles.lookup().unreflect(MapEngine.accessible(method.get())).asType(type);
+  }
+}
@@ -0,0 +1,63 @@
+package com.teammental.memapper.core;
+
+/**
+ * Getter and setter shapes for the primitive types which have no
+ * specialized functional interface in {@code java.util.function}.
+ * Implementations are spun by {@link MapEngine#LAMBDA}, so primitive
+ * values are passed from getter to setter without boxing.
+ */
+final class PrimitiveAccessors {
+
+  private PrimitiveAccessors() {
+  }
+
+  @FunctionalInterface
+  interface BooleanGetter {
+    boolean get(Object source);
+  }
+
+  @FunctionalInterface
+  interface BooleanSetter {
+    void set(Object target, boolean value);
+  }
+
+  @FunctionalInterface
+  interface ByteGetter {
+    byte get(Object source);
+  }
+
+  @FunctionalInterface
+  interface ByteSetter {
+    void set(Object target, byte value);
+  }
+
+  @FunctionalInterface
+  interface ShortGetter {
+    short get(Object source);
+  }
+
+  @FunctionalInterface
+  interface ShortSetter {
+    void set(Object target, short value);
+  }
+
+  @FunctionalInterface
+  interface CharGetter {
+    char get(Object source);
+  }
+
+  @FunctionalInterface
+  interface CharSetter {
+    void set(Object target, char value);
+  }
+
+  @FunctionalInterface
+  interface FloatGetter {
+    float get(Object source);
+  }
+
+  @FunctionalInterface
+  interface FloatSetter {
+    void set(Object target, float value);
+  }
+}
@@ -0,0 +1,267 @@
+package com.teammental.memapper.core;
+
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies a primitive property whose getter returns and whose setter accepts
+ * the same primitive type. Getter and setter are spun by {@link MapEngine#LAMBDA}
+ * into primitive specialized functional interfaces, so the value is never boxed
+ * and mapping an object allocates nothing.
+ */
+abstract class PrimitivePropertyTransfer extends PropertyTransfer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PrimitivePropertyTransfer.class);
+
+  static void logFailure(RuntimeException ex) {
+    LOGGER.error(ex.getLocalizedMessage());
+  }
+
+  static final class IntTransfer extends PrimitivePropertyTransfer {
+
+    private final ToIntFunction<Object> getter;
+    private final ObjIntConsumer<Object> setter;
+
+    IntTransfer(ToIntFunction<Object> getter, ObjIntConsumer<Object> setter) {
+
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void transfer(Object source, Object target) {
+
+      int val;
+      try {
+        val = getter.applyAsInt(source);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+        return;
+      }
+
+      try {
+        setter.accept(target, val);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+      }
+    }
+  }
+
+  static final class LongTransfer extends PrimitivePropertyTransfer {
+
+    private final ToLongFunction<Object> getter;
+    private final ObjLongConsumer<Object> setter;
+
+    LongTransfer(ToLongFunction<Object> getter, ObjLongConsumer<Object> setter) {
+
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void transfer(Object source, Object target) {
+
+      long val;
+      try {
+        val = getter.applyAsLong(source);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+        return;
+      }
+
+      try {
+        setter.accept(target, val);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+      }
+    }
+  }
+
+  static final class DoubleTransfer extends PrimitivePropertyTransfer {
+
+    private final ToDoubleFunction<Object> getter;
+    private final ObjDoubleConsumer<Object> setter;
+
+    DoubleTransfer(ToDoubleFunction<Object> getter, ObjDoubleConsumer<Object> setter) {
+
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void transfer(Object source, Object target) {
+
+      double val;
+      try {
+        val = getter.applyAsDouble(source);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+        return;
+      }
+
+      try {
+        setter.accept(target, val);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+      }
+    }
+  }
+
+  static final class FloatTransfer extends PrimitivePropertyTransfer {
+
+    private final PrimitiveAccessors.FloatGetter getter;
+    private final PrimitiveAccessors.FloatSetter setter;
+
+    FloatTransfer(PrimitiveAccessors.FloatGetter getter, PrimitiveAccessors.FloatSetter setter) {
+
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void transfer(Object source, Object target) {
+
+      float val;
+      try {
+        val = getter.get(source);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+        return;
+      }
+
+      try {
+        setter.set(target, val);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+      }
+    }
+  }
+
+  static final class BooleanTransfer extends PrimitivePropertyTransfer {
+
+    private final PrimitiveAccessors.BooleanGetter getter;
+    private final PrimitiveAccessors.BooleanSetter setter;
+
+    BooleanTransfer(PrimitiveAccessors.BooleanGetter getter,
+                    PrimitiveAccessors.BooleanSetter setter) {
+
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void transfer(Object source, Object target) {
+
+      boolean val;
+      try {
+        val = getter.get(source);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+        return;
+      }
+
+      try {
+        setter.set(target, val);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+      }
+    }
+  }
+
+  static final class ByteTransfer extends PrimitivePropertyTransfer {
+
+    private final PrimitiveAccessors.ByteGetter getter;
+    private final PrimitiveAccessors.ByteSetter setter;
+
+    ByteTransfer(PrimitiveAccessors.ByteGetter getter, PrimitiveAccessors.ByteSetter setter) {
+
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void transfer(Object source, Object target) {
+
+      byte val;
+      try {
+        val = getter.get(source);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+        return;
+      }
+
+      try {
+        setter.set(target, val);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+      }
+    }
+  }
+
+  static final class ShortTransfer extends PrimitivePropertyTransfer {
+
+    private final PrimitiveAccessors.ShortGetter getter;
+    private final PrimitiveAccessors.ShortSetter setter;
+
+    ShortTransfer(PrimitiveAccessors.ShortGetter getter, PrimitiveAccessors.ShortSetter setter) {
+
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void transfer(Object source, Object target) {
+
+      short val;
+      try {
+        val = getter.get(source);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+        return;
+      }
+
+      try {
+        setter.set(target, val);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+      }
+    }
+  }
+
+  static final class CharTransfer extends PrimitivePropertyTransfer {
+
+    private final PrimitiveAccessors.CharGetter getter;
+    private final PrimitiveAccessors.CharSetter setter;
+
+    CharTransfer(PrimitiveAccessors.CharGetter getter, PrimitiveAccessors.CharSetter setter) {
+
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    @Override
+    void transfer(Object source, Object target) {
+
+      char val;
+      try {
+        val = getter.get(source);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+        return;
+      }
+
+      try {
+        setter.set(target, val);
+      } catch (RuntimeException ex) {
+        logFailure(ex);
+      }
+    }
+  }
+}
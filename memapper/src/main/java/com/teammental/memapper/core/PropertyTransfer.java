@@ -0,0 +1,16 @@
+package com.teammental.memapper.core;
+
+/**
+ * Copies a single property from a source object to a target object.
+ * Implementations are created by a {@link MapEngine} when a {@link MapPlan} is compiled.
+ */
+abstract class PropertyTransfer {
+
+  /**
+   * Reads the property from source and writes it to target.
+   *
+   * @param source mapping source object.
+   * @param target mapping target object.
+   */
+  abstract void transfer(Object source, Object target);
+}
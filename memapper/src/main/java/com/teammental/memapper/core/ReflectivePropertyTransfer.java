@@ -0,0 +1,36 @@
+package com.teammental.memapper.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies a single property through reflective invocation of
+ * an already resolved getter and setter pair.
+ */
+class ReflectivePropertyTransfer extends PropertyTransfer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReflectivePropertyTransfer.class);
+
+  private final Method getter;
+  private final Method setter;
+
+  ReflectivePropertyTransfer(Method getter, Method setter) {
+
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  @Override
+  void transfer(Object source, Object target) {
+
+    try {
+      Object val = getter.invoke(source);
+      setter.invoke(target, val);
+    } catch (InvocationTargetException | IllegalAccessException ex) {
+      LOGGER.error(ex.getLocalizedMessage());
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.teammental.memapper.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a property transfer and skips the property if the transfer fails,
+ * e.g. when a null value is set to a primitive property.
+ * Used by the plans of {@link MapPlan#compileByFieldName(Class, Class)}, which map
+ * every property they can instead of failing on the first one they can not.
+ */
+class SkippingPropertyTransfer extends PropertyTransfer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SkippingPropertyTransfer.class);
+
+  private final PropertyTransfer transfer;
+  private final String propertyName;
+
+  SkippingPropertyTransfer(PropertyTransfer transfer, String propertyName) {
+
+    this.transfer = transfer;
+    this.propertyName = propertyName;
+  }
+
+  @Override
+  void transfer(Object source, Object target) {
+
+    try {
+      transfer.transfer(source, target);
+    } catch (RuntimeException ex) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Property '" + propertyName + "' is not mapped. " + ex.getLocalizedMessage());
+      }
+    }
+  }
+}
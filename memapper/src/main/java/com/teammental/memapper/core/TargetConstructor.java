@@ -0,0 +1,156 @@
+package com.teammental.memapper.core;
+
+import com.teammental.memapper.annotation.MapConstructor;
+import com.teammental.memapper.util.mapping.CommonMapUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The constructor of a target type which MeMapper passes mapped properties to.
+ * It is either the public constructor annotated with {@link MapConstructor},
+ * or the canonical constructor whose parameter types are the types of the
+ * instance fields in declaration order. Lookups are cached per type.
+ */
+final class TargetConstructor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TargetConstructor.class);
+
+  private static final ClassValue<TargetConstructor> CONSTRUCTORS =
+      new ClassValue<TargetConstructor>() {
+        @Override
+        protected TargetConstructor computeValue(Class<?> type) {
+          return find(type);
+        }
+      };
+
+  private final MethodHandle constructor;
+  private final String[] propertyNames;
+  private final Class<?>[] parameterTypes;
+
+  private TargetConstructor(MethodHandle constructor, String[] propertyNames,
+                            Class<?>[] parameterTypes) {
+
+    this.constructor = constructor;
+    this.propertyNames = propertyNames;
+    this.parameterTypes = parameterTypes;
+  }
+
+  /**
+   * Returns the mapping constructor of the type.
+   *
+   * @param type target type.
+   * @return mapping constructor, or null if the type has none.
+   */
+  static TargetConstructor of(Class<?> type) {
+    return CONSTRUCTORS.get(type);
+  }
+
+  /**
+   * Invokes the constructor with the given arguments.
+   *
+   * @param arguments constructor arguments, in parameter order.
+   * @return new object.
+   * @throws Throwable anything the constructor throws.
+   */
+  Object newInstance(Object[] arguments) throws Throwable {
+    return (Object) constructor.invokeExact(arguments);
+  }
+
+  String[] getPropertyNames() {
+    return propertyNames;
+  }
+
+  Class<?>[] getParameterTypes() {
+    return parameterTypes;
+  }
+
+  private static TargetConstructor find(Class<?> type) {
+
+    if (type.isInterface() || type.isArray() || type.isPrimitive()
+        || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+
+    Constructor<?>[] constructors = type.getConstructors();
+
+    for (Constructor<?> constructor : constructors) {
+      MapConstructor annotation = constructor.getAnnotation(MapConstructor.class);
+      if (annotation != null) {
+        String[] names = getAnnotatedNames(constructor, annotation);
+        return names == null ? null : create(type, constructor, names);
+      }
+    }
+
+    List<Field> fields = CommonMapUtil.getAllFields(type).stream()
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+        .collect(Collectors.toList());
+    Class<?>[] fieldTypes = fields.stream()
+        .map(Field::getType)
+        .toArray(Class<?>[]::new);
+
+    for (Constructor<?> constructor : constructors) {
+      if (fieldTypes.length > 0 && Arrays.equals(constructor.getParameterTypes(), fieldTypes)) {
+        String[] names = fields.stream()
+            .map(Field::getName)
+            .toArray(String[]::new);
+        return create(type, constructor, names);
+      }
+    }
+    return null;
+  }
+
+  private static String[] getAnnotatedNames(Constructor<?> constructor,
+                                            MapConstructor annotation) {
+
+    if (annotation.value().length > 0) {
+      if (annotation.value().length != constructor.getParameterCount()) {
+        LOGGER.warn("@MapConstructor of " + constructor.getDeclaringClass().getName()
+            + " names " + annotation.value().length + " properties for "
+            + constructor.getParameterCount() + " parameters. Constructor is ignored.");
+        return null;
+      }
+      return annotation.value();
+    }
+
+    Parameter[] parameters = constructor.getParameters();
+    if (parameters.length > 0 && !parameters[0].isNamePresent()) {
+      LOGGER.warn("Parameter names of the @MapConstructor of "
+          + constructor.getDeclaringClass().getName() + " are not available. Name the "
+          + "properties in the annotation or compile with -parameters. Constructor is ignored.");
+      return null;
+    }
+    return Arrays.stream(parameters)
+        .map(Parameter::getName)
+        .toArray(String[]::new);
+  }
+
+  private static TargetConstructor create(Class<?> type, Constructor<?> constructor,
+                                          String[] names) {
+
+    try {
+      if (!Modifier.isPublic(type.getModifiers())) {
+        constructor.setAccessible(true);
+      }
+      MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+          .asSpreader(Object[].class, constructor.getParameterCount())
+          .asType(MethodType.methodType(Object.class, Object[].class));
+      return new TargetConstructor(handle, names, constructor.getParameterTypes());
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      LOGGER.debug("Constructor of " + type.getName() + " is not accessible for mapping: "
+          + ex.getLocalizedMessage());
+      return null;
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.teammental.memapper.core;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+import com.teammental.memapper.metrics.MappingMetrics;
+import com.teammental.memapper.metrics.TypePairMetrics;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Mapping between one source type and one target type, resolved once
+ * and reusable for any number of source/target object pairs.
+ * A compile-time generated mapper is preferred for the type pair,
+ * unless a configuration is registered for the pair.
+ */
+public final class TypeMapper<S, T> {
+
+  private final Class<?> sourceType;
+  private final Class<?> targetType;
+  private final MapConfiguration configuration;
+  private final MapPlan plan;
+  private final GeneratedMapper<S, T> generatedMapper;
+  private final Instantiator<T> instantiator;
+  private TypePairMetrics metrics;
+
+  @SuppressWarnings("unchecked")
+  private TypeMapper(Class<?> sourceType, Class<?> targetType, MapConfiguration configuration,
+                     GeneratedMapper<S, T> generatedMapper) {
+
+    this.sourceType = sourceType;
+    this.targetType = targetType;
+    this.configuration = configuration;
+    this.plan = configuration == null ? null : configuration.getPlan();
+    this.generatedMapper = generatedMapper;
+    this.instantiator = (Instantiator<T>) Instantiator.of(targetType);
+  }
+
+  /**
+   * Resolves the mapping between two types.
+   *
+   * @param sourceType mapping source type.
+   * @param targetType mapping target type.
+   * @param <S>        source type.
+   * @param <T>        target type.
+   * @return resolved mapping.
+   */
+  @SuppressWarnings("unchecked")
+  public static <S, T> TypeMapper<S, T> resolve(Class<?> sourceType, Class<?> targetType) {
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    MapConfigurationRegistry registry = MapConfigurationRegistrySingleton.getSingleton();
+
+    GeneratedMapper<?, ?> generated = GeneratedMapperRegistry.find(sourceType, targetType);
+    if (generated != null
+        && !registry.findRegisteredConfiguration(sourceType, targetType).isPresent()) {
+      return new TypeMapper<>(sourceType, targetType, null, (GeneratedMapper<S, T>) generated);
+    }
+    return new TypeMapper<>(sourceType, targetType,
+        registry.getConfiguration(sourceType, targetType), null);
+  }
+
+  /**
+   * Resolves the mapping between two types which maps only the given target fields.
+   * The projected plans are cached with the type pair's configuration,
+   * see {@link MapConfiguration#project(Set)}.
+   *
+   * @param sourceType       mapping source type.
+   * @param targetType       mapping target type.
+   * @param targetFieldNames names of the target fields to map, or null to map all fields.
+   * @param <S>              source type.
+   * @param <T>              target type.
+   * @return resolved mapping.
+   */
+  public static <S, T> TypeMapper<S, T> resolve(Class<?> sourceType, Class<?> targetType,
+                                                Set<String> targetFieldNames) {
+
+    if (targetFieldNames == null) {
+      return resolve(sourceType, targetType);
+    }
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    MapConfiguration configuration = MapConfigurationRegistrySingleton.getSingleton()
+        .getConfiguration(sourceType, targetType).project(targetFieldNames);
+    return new TypeMapper<>(sourceType, targetType, configuration, null);
+  }
+
+  /**
+   * Creates a new target object from the source.
+   * Targets with a public no-arg constructor are instantiated and mapped through
+   * their setters. Otherwise the target's mapping constructor is called with the
+   * source properties, see {@link ConstructorPlan}.
+   *
+   * @param source mapping source object.
+   * @return new target object.
+   * @throws TargetTypeInstantiationException if the target type can not be instantiated.
+   */
+  public T create(S source) throws TargetTypeInstantiationException {
+    return create(source, null);
+  }
+
+  /**
+   * Creates a new target object from the source within the context of a mapping call.
+   *
+   * @param source  mapping source object.
+   * @param context context of the mapping call, or null to start a new call.
+   * @return new target object.
+   * @throws TargetTypeInstantiationException if the target type can not be instantiated.
+   */
+  public T create(S source, MappingContext context) throws TargetTypeInstantiationException {
+
+    if (!MapperSettings.isMetricsEnabled()) {
+      return doCreate(source, context);
+    }
+    long start = System.nanoTime();
+    T target = doCreate(source, context);
+    record(start, context);
+    return target;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T doCreate(S source, MappingContext context) throws TargetTypeInstantiationException {
+
+    if (instantiator.isInstantiable()) {
+      T target = instantiator.newInstance();
+      doMap(source, target, context);
+      return target;
+    }
+
+    MapConfiguration constructorConfiguration = configuration != null ? configuration
+        : MapConfigurationRegistrySingleton.getSingleton()
+            .getConfiguration(sourceType, targetType);
+    Optional<ConstructorPlan> constructorPlan = constructorConfiguration.getConstructorPlan();
+    if (!constructorPlan.isPresent()) {
+      throw instantiator.getFailure();
+    }
+    return (T) constructorPlan.get().create(source, context);
+  }
+
+  /**
+   * Maps source to target.
+   *
+   * @param source mapping source object.
+   * @param target mapping target object.
+   */
+  public void map(S source, T target) {
+    map(source, target, null);
+  }
+
+  /**
+   * Maps source to target within the context of a mapping call.
+   * Generated mappers do not map nested objects, so they ignore the context.
+   *
+   * @param source  mapping source object.
+   * @param target  mapping target object.
+   * @param context context of the mapping call, or null to start a new call.
+   */
+  public void map(S source, T target, MappingContext context) {
+
+    if (!MapperSettings.isMetricsEnabled()) {
+      doMap(source, target, context);
+      return;
+    }
+    long start = System.nanoTime();
+    doMap(source, target, context);
+    record(start, context);
+  }
+
+  private void doMap(S source, T target, MappingContext context) {
+
+    if (generatedMapper != null) {
+      generatedMapper.map(source, target);
+    } else {
+      plan.map(source, target, context);
+    }
+  }
+
+  /**
+   * Writes the non-null properties of source which differ from target's properties,
+   * see {@link PatchPlan}. Generated mappers do not patch, the configuration's
+   * patch plan is used for every type pair.
+   *
+   * @param source mapping source object.
+   * @param target mapping target object.
+   * @return names of the changed target properties, empty if target is not changed.
+   */
+  public Set<String> patch(S source, T target) {
+
+    MapConfiguration patchConfiguration = configuration != null ? configuration
+        : MapConfigurationRegistrySingleton.getSingleton()
+            .getConfiguration(sourceType, targetType);
+    return patchConfiguration.getPatchPlan().patch(source, target);
+  }
+
+  /**
+   * Records a mapped object in the metrics of the type pair.
+   * Objects mapped within a context, i.e. nested objects and list elements,
+   * are not counted as invocations.
+   */
+  private void record(long start, MappingContext context) {
+
+    long nanos = System.nanoTime() - start;
+    TypePairMetrics pairMetrics = metrics;
+    if (pairMetrics == null) {
+      pairMetrics = MappingMetrics.of(sourceType, targetType);
+      metrics = pairMetrics;
+    }
+    pairMetrics.recordMapping(nanos, context == null, plan == null ? 0 : plan.getSkippedCount());
+  }
+
+  /**
+   * Returns the configuration which maps the type pair.
+   *
+   * @return the configuration, empty if the pair is mapped by a generated mapper.
+   */
+  public Optional<MapConfiguration> getConfiguration() {
+    return Optional.ofNullable(configuration);
+  }
+
+  public Class<?> getSourceType() {
+    return sourceType;
+  }
+
+  public Class<?> getTargetType() {
+    return targetType;
+  }
+}
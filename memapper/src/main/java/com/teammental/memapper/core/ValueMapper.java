@@ -0,0 +1,100 @@
+package com.teammental.memapper.core;
+
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+import com.teammental.memapper.util.FieldUtil;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maps the value of a property whose target type differs from its source type
+ * by more than assignability: a nested bean, or a collection or map of nested beans.
+ * Value mappers are created when a plan is compiled and reused for every mapped object.
+ */
+abstract class ValueMapper {
+
+  /**
+   * Maps the value within the context.
+   *
+   * @param value   source value, may be null.
+   * @param context context of the mapping call.
+   * @return mapped value, or null if the value is null or the max depth is reached.
+   * @throws TargetTypeInstantiationException if a target object can not be instantiated.
+   */
+  abstract Object map(Object value, MappingContext context)
+      throws TargetTypeInstantiationException;
+
+  /**
+   * Creates the value mapper of a field pair.
+   *
+   * @param sourceField source field.
+   * @param targetField target field.
+   * @param targetType  type of the value passed to the target, e.g. the setter parameter type.
+   * @return value mapper, or null if the source value is copied as is.
+   */
+  static ValueMapper of(Field sourceField, Field targetField, Class<?> targetType) {
+
+    if (FieldUtil.isNestedMappable(sourceField, targetField)) {
+      return new NestedValueMapper(targetType);
+    }
+
+    if (Collection.class.isAssignableFrom(sourceField.getType())
+        && Collection.class.isAssignableFrom(targetType)) {
+
+      Optional<Class<?>> elementType = nestedArgument(sourceField, targetField, 0);
+      if (elementType.isPresent()) {
+        return CollectionValueMapper.of(targetType, new NestedValueMapper(elementType.get()));
+      }
+    }
+
+    if (Map.class.isAssignableFrom(sourceField.getType())
+        && Map.class.isAssignableFrom(targetType)) {
+
+      Optional<Class<?>> sourceKeyType = FieldUtil.getTypeArgument(sourceField, 0);
+      Optional<Class<?>> targetKeyType = FieldUtil.getTypeArgument(targetField, 0);
+      Optional<Class<?>> valueType = nestedArgument(sourceField, targetField, 1);
+      if (valueType.isPresent() && sourceKeyType.isPresent() && targetKeyType.isPresent()
+          && targetKeyType.get().isAssignableFrom(sourceKeyType.get())) {
+        return MapValueMapper.of(targetType, new NestedValueMapper(valueType.get()));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks whether two collection or map fields have elements, or values,
+   * which are mapped recursively.
+   *
+   * @param sourceField source field.
+   * @param targetField target field.
+   * @return true if the elements of the fields are nested mappable.
+   */
+  static boolean hasNestedElements(Field sourceField, Field targetField) {
+
+    if (Collection.class.isAssignableFrom(sourceField.getType())
+        && Collection.class.isAssignableFrom(targetField.getType())) {
+      return nestedArgument(sourceField, targetField, 0).isPresent();
+    }
+    return Map.class.isAssignableFrom(sourceField.getType())
+        && Map.class.isAssignableFrom(targetField.getType())
+        && nestedArgument(sourceField, targetField, 1).isPresent();
+  }
+
+  /**
+   * Returns the target type argument of two parameterized fields,
+   * if their type arguments at the index are nested mappable.
+   */
+  private static Optional<Class<?>> nestedArgument(Field sourceField, Field targetField,
+                                                   int index) {
+
+    Optional<Class<?>> sourceArgument = FieldUtil.getTypeArgument(sourceField, index);
+    Optional<Class<?>> targetArgument = FieldUtil.getTypeArgument(targetField, index);
+    if (sourceArgument.isPresent() && targetArgument.isPresent()
+        && FieldUtil.isNestedMappable(sourceArgument.get(), targetArgument.get())) {
+      return targetArgument;
+    }
+    return Optional.empty();
+  }
+}
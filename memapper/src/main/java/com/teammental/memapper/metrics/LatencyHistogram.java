@@ -0,0 +1,68 @@
+package com.teammental.memapper.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ * Every power of two is split into four buckets, so a percentile is reported
+ * with at most 25% error, and recording a duration is one atomic increment.
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKETS = 4;
+
+  private static final int BUCKET_COUNT = 62 * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  void record(long nanos) {
+    counts.incrementAndGet(index(Math.max(nanos, 0)));
+  }
+
+  /**
+   * Returns the duration which the given ratio of the recorded durations does not exceed.
+   *
+   * @param percentile ratio between 0 and 1, e.g. 0.99.
+   * @return upper bound of the percentile's bucket in nanoseconds, 0 if nothing is recorded.
+   */
+  long percentile(double percentile) {
+
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      total += counts.get(i);
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percentile * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return upperBound(i);
+      }
+    }
+    return upperBound(BUCKET_COUNT - 1);
+  }
+
+  static int index(long nanos) {
+
+    if (nanos < SUB_BUCKETS) {
+      return (int) nanos;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+    int subBucket = (int) (nanos >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+    return (exponent - 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBound(int index) {
+
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKETS + 1;
+    long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - 2);
+    return lowerBound + (1L << (exponent - 2)) - 1;
+  }
+}
@@ -0,0 +1,149 @@
+package com.teammental.memapper.metrics;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.util.TypePairCache;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the {@link TypePairMetrics} of every mapped source/target type pair.
+ * Mappings are recorded only while {@link MapperSettings#isMetricsEnabled()} is true;
+ * otherwise mappings neither read the clock nor look up their metrics.
+ * Metrics are kept with their source types, see {@link TypePairCache}, so they never pin
+ * the class loaders of the mapped types. At most
+ * {@link MapperSettings#getConfigurationCacheSize()} pairs are kept; the metrics of the
+ * oldest pair are dropped first and start over when the pair is recorded next.
+ */
+public final class MappingMetrics {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MappingMetrics.class);
+
+  private static final TypePairCache<TypePairMetrics> METRICS =
+      new TypePairCache<>(MapperSettings::getConfigurationCacheSize);
+
+  private static final List<MetricsReporter> REPORTERS = new CopyOnWriteArrayList<>();
+
+  private static final Object REPORTER_LOCK = new Object();
+
+  static {
+    load();
+  }
+
+  private MappingMetrics() {
+  }
+
+  /**
+   * Returns the metrics of a type pair, creating them on first use.
+   *
+   * @param sourceType source type.
+   * @param targetType target type.
+   * @return metrics of the pair.
+   */
+  public static TypePairMetrics of(Class<?> sourceType, Class<?> targetType) {
+
+    TypePairMetrics metrics = METRICS.get(sourceType, targetType);
+    if (metrics != null) {
+      return metrics;
+    }
+    synchronized (REPORTER_LOCK) {
+      return METRICS.computeIfAbsent(sourceType, targetType, MappingMetrics::create);
+    }
+  }
+
+  /**
+   * Finds the metrics of a type pair, if any mapping of the pair is recorded.
+   *
+   * @param sourceType source type.
+   * @param targetType target type.
+   * @return an Optional of the metrics.
+   */
+  public static Optional<TypePairMetrics> find(Class<?> sourceType, Class<?> targetType) {
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    return Optional.ofNullable(METRICS.get(sourceType, targetType));
+  }
+
+  /**
+   * Returns the metrics of every recorded type pair.
+   *
+   * @return metrics list.
+   */
+  public static List<TypePairMetrics> getAll() {
+    return METRICS.values();
+  }
+
+  /**
+   * Drops the metrics of every type pair. Meant for tests; mappers which already hold
+   * the metrics of their pair keep recording to the dropped metrics.
+   */
+  public static void reset() {
+    METRICS.clear();
+  }
+
+  /**
+   * Adds a reporter, which is called for the already recorded pairs and for every new pair.
+   *
+   * @param reporter metrics reporter.
+   */
+  public static void addReporter(MetricsReporter reporter) {
+
+    AssertHelper.notNull(reporter);
+
+    synchronized (REPORTER_LOCK) {
+      REPORTERS.add(reporter);
+      for (TypePairMetrics metrics :
+          getAll()) {
+        reporter.register(metrics);
+      }
+    }
+  }
+
+  public static void removeReporter(MetricsReporter reporter) {
+    REPORTERS.remove(reporter);
+  }
+
+  /**
+   * Creates the metrics of a pair and registers them to the reporters.
+   * Called once per pair by the cache, under the reporter lock.
+   */
+  private static TypePairMetrics create(Class<?> sourceType, Class<?> targetType) {
+
+    TypePairMetrics metrics = new TypePairMetrics(sourceType, targetType);
+    for (MetricsReporter reporter :
+        REPORTERS) {
+      try {
+        reporter.register(metrics);
+      } catch (RuntimeException ex) {
+        LOGGER.error(ex.getLocalizedMessage());
+      }
+    }
+    return metrics;
+  }
+
+  private static void load() {
+
+    Iterator<MetricsReporter> iterator = ServiceLoader.load(MetricsReporter.class).iterator();
+    while (true) {
+      try {
+        if (!iterator.hasNext()) {
+          return;
+        }
+        MetricsReporter reporter = iterator.next();
+        REPORTERS.add(reporter);
+        LOGGER.debug("Metrics reporter " + reporter.getClass().getName() + " is registered.");
+      } catch (ServiceConfigurationError error) {
+        LOGGER.error(error.getLocalizedMessage());
+      }
+    }
+  }
+}
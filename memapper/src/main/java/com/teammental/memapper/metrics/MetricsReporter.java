@@ -0,0 +1,23 @@
+package com.teammental.memapper.metrics;
+
+/**
+ * Publishes {@link TypePairMetrics} to a monitoring system.
+ * Reporters are listed in
+ * {@code META-INF/services/com.teammental.memapper.metrics.MetricsReporter},
+ * or added with {@link MappingMetrics#addReporter(MetricsReporter)}.
+ * Metrics are live objects, so a reporter usually binds them to gauges or counters once,
+ * and reads them whenever the monitoring system polls.
+ */
+@FunctionalInterface
+public interface MetricsReporter {
+
+  /**
+   * Called once for every type pair, when the first mapping of the pair is recorded.
+   * Called for the already recorded pairs when the reporter is added.
+   * A pair whose metrics are evicted is registered again with new metrics when it is
+   * recorded next, so a reporter which binds the metrics once per pair should rebind them.
+   *
+   * @param metrics metrics of the type pair.
+   */
+  void register(TypePairMetrics metrics);
+}
@@ -0,0 +1,143 @@
+package com.teammental.memapper.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram of the mappings between one source type and one target type.
+ * Counters are {@link LongAdder}s, so recording does not contend across threads.
+ * Mapping times include the nested objects mapped with an object.
+ */
+public final class TypePairMetrics {
+
+  private final Class<?> sourceType;
+  private final Class<?> targetType;
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder objects = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAdder skippedFields = new LongAdder();
+  private final LongAdder planCacheHits = new LongAdder();
+  private final LongAdder planCacheMisses = new LongAdder();
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  TypePairMetrics(Class<?> sourceType, Class<?> targetType) {
+
+    this.sourceType = sourceType;
+    this.targetType = targetType;
+  }
+
+  /**
+   * Records one mapped object.
+   *
+   * @param nanos         time taken to map the object.
+   * @param invocation    true if the object is mapped by a call of its own,
+   *                      false if it is a nested object or an element of a list.
+   * @param skippedFields number of configured fields which could not be mapped.
+   */
+  public void recordMapping(long nanos, boolean invocation, int skippedFields) {
+
+    if (invocation) {
+      invocations.increment();
+    }
+    objects.increment();
+    totalNanos.add(nanos);
+    if (skippedFields > 0) {
+      this.skippedFields.add(skippedFields);
+    }
+    histogram.record(nanos);
+  }
+
+  /**
+   * Records a call which maps many objects of the pair, e.g. a list.
+   */
+  public void recordInvocation() {
+    invocations.increment();
+  }
+
+  public void recordPlanCacheHit() {
+    planCacheHits.increment();
+  }
+
+  public void recordPlanCacheMiss() {
+    planCacheMisses.increment();
+  }
+
+  public Class<?> getSourceType() {
+    return sourceType;
+  }
+
+  public Class<?> getTargetType() {
+    return targetType;
+  }
+
+  /**
+   * Returns the number of mapping calls, a list mapping counts once.
+   *
+   * @return invocation count.
+   */
+  public long getInvocationCount() {
+    return invocations.sum();
+  }
+
+  /**
+   * Returns the number of mapped objects, including nested objects and list elements.
+   *
+   * @return mapped object count.
+   */
+  public long getObjectCount() {
+    return objects.sum();
+  }
+
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * Returns how many times a configured field was left out of a mapping,
+   * because it has no public getter on the source side or setter on the target side.
+   *
+   * @return skipped field count.
+   */
+  public long getSkippedFieldCount() {
+    return skippedFields.sum();
+  }
+
+  public long getPlanCacheHitCount() {
+    return planCacheHits.sum();
+  }
+
+  /**
+   * Returns how many times the default configuration and plan of the pair were built.
+   *
+   * @return plan cache miss count.
+   */
+  public long getPlanCacheMissCount() {
+    return planCacheMisses.sum();
+  }
+
+  /**
+   * Returns the time which the given ratio of the object mappings did not exceed.
+   *
+   * @param percentile ratio between 0 and 1, e.g. 0.99.
+   * @return mapping time in nanoseconds, with at most 25% error.
+   */
+  public long getPercentileNanos(double percentile) {
+
+    if (percentile < 0 || percentile > 1) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 1: " + percentile);
+    }
+    return histogram.percentile(percentile);
+  }
+
+  @Override
+  public String toString() {
+
+    return sourceType.getName() + " -> " + targetType.getName()
+        + " {invocations=" + getInvocationCount()
+        + ", objects=" + getObjectCount()
+        + ", totalNanos=" + getTotalNanos()
+        + ", p99Nanos=" + getPercentileNanos(0.99)
+        + ", skippedFields=" + getSkippedFieldCount()
+        + ", planCacheHits=" + getPlanCacheHitCount()
+        + ", planCacheMisses=" + getPlanCacheMissCount() + "}";
+  }
+}
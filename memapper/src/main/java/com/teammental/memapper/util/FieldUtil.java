@@ -7,8 +7,11 @@ import com.teammental.memapper.util.mapping.CommonMapUtil;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -42,11 +45,109 @@ public class FieldUtil {
 
     AssertHelper.notNull(firstField, secondField);
 
-    return firstField.getType().equals(secondField.getType())
-        || firstField.getType().equals(PrimitiveHelper.getOppositeClass(secondField.getType()))
-        || PrimitiveHelper.getOppositeClass(firstField.getType()).equals(secondField.getType())
-        || firstField.getType().isAssignableFrom(secondField.getType())
-        || secondField.getType().isAssignableFrom(firstField.getType());
+    return isConvertable(firstField.getType(), secondField.getType());
+  }
+
+  /**
+   * Checks if two types equals or are assignable from each other.
+   *
+   * @param firstType  first type
+   * @param secondType second type
+   * @return true if two types equals or are assignable.
+   */
+  public static boolean isConvertable(final Class<?> firstType,
+                                      final Class<?> secondType) {
+
+    AssertHelper.notNull(firstType, secondType);
+
+    return firstType.equals(secondType)
+        || firstType.equals(PrimitiveHelper.getOppositeClass(secondType))
+        || PrimitiveHelper.getOppositeClass(firstType).equals(secondType)
+        || firstType.isAssignableFrom(secondType)
+        || secondType.isAssignableFrom(firstType);
+  }
+
+  /**
+   * Checks if the source field's value can be mapped to the target field's type
+   * as a nested object, i.e. both types are distinct, not convertable bean types.
+   * Primitives, arrays, enums, interfaces, collections, maps and types of the
+   * {@code java} and {@code javax} packages are not bean types.
+   *
+   * @param sourceField source field
+   * @param targetField target field
+   * @return true if the source field is mapped recursively to the target field.
+   */
+  public static boolean isNestedMappable(final Field sourceField,
+                                         final Field targetField) {
+
+    AssertHelper.notNull(sourceField, targetField);
+
+    return isNestedMappable(sourceField.getType(), targetField.getType());
+  }
+
+  /**
+   * Checks if objects of the source type can be mapped to the target type
+   * as nested objects, see {@link #isNestedMappable(Field, Field)}.
+   *
+   * @param sourceType source type
+   * @param targetType target type
+   * @return true if the source type is mapped recursively to the target type.
+   */
+  public static boolean isNestedMappable(final Class<?> sourceType,
+                                         final Class<?> targetType) {
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    return isBeanType(sourceType)
+        && isBeanType(targetType)
+        && !isConvertable(sourceType, targetType);
+  }
+
+  /**
+   * Returns a type argument of a field's parameterized type,
+   * e.g. {@code ChildDto} for index 0 of a {@code List<ChildDto>} field.
+   *
+   * @param field field
+   * @param index index of the type argument.
+   * @return an Optional of the type argument, empty if the field's type is not parameterized
+   *     or the argument is not a plain class.
+   */
+  public static Optional<Class<?>> getTypeArgument(final Field field, final int index) {
+
+    AssertHelper.notNull(field);
+
+    Type genericType = field.getGenericType();
+    if (!(genericType instanceof ParameterizedType)) {
+      return Optional.empty();
+    }
+
+    Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+    if (index >= arguments.length || !(arguments[index] instanceof Class)) {
+      return Optional.empty();
+    }
+    return Optional.of((Class<?>) arguments[index]);
+  }
+
+  /**
+   * Checks if the type is a bean type whose properties can be mapped,
+   * see {@link #isNestedMappable(Field, Field)}.
+   *
+   * @param type type
+   * @return true if the type is a bean type.
+   */
+  public static boolean isBeanType(final Class<?> type) {
+
+    AssertHelper.notNull(type);
+
+    String typeName = type.getName();
+    return !type.isPrimitive()
+        && !type.isArray()
+        && !type.isEnum()
+        && !type.isInterface()
+        && !Iterable.class.isAssignableFrom(type)
+        && !Map.class.isAssignableFrom(type)
+        && !typeName.startsWith("java.")
+        && !typeName.startsWith("javax.");
   }
 
   /**
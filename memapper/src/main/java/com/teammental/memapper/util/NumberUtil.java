@@ -0,0 +1,143 @@
+package com.teammental.memapper.util;
+
+import com.teammental.mehelper.AssertHelper;
+import com.teammental.memapper.configuration.TypeConverter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversions between the number wrapper types which never truncate a value.
+ */
+public final class NumberUtil {
+
+  /**
+   * Number wrapper types which can be converted to each other.
+   */
+  public static final List<Class<?>> NUMBER_TYPES = Collections.unmodifiableList(
+      Arrays.asList(Byte.class, Short.class, Integer.class, Long.class, Float.class,
+          Double.class));
+
+  /**
+   * Target types which every value of a source type converts to exactly.
+   */
+  private static final Map<Class<?>, List<Class<?>>> WIDENINGS = new HashMap<>();
+
+  static {
+    WIDENINGS.put(Byte.class, Arrays.asList(Short.class, Integer.class, Long.class,
+        Float.class, Double.class));
+    WIDENINGS.put(Short.class, Arrays.asList(Integer.class, Long.class, Float.class,
+        Double.class));
+    WIDENINGS.put(Integer.class, Arrays.asList(Long.class, Double.class));
+    WIDENINGS.put(Float.class, Collections.singletonList(Double.class));
+  }
+
+  private NumberUtil() {
+  }
+
+  /**
+   * Checks whether every value of the source type converts to the target type
+   * without losing range or precision, e.g. Integer to Long, but not Long to Integer
+   * nor Long to Double.
+   *
+   * @param sourceType number wrapper type.
+   * @param targetType number wrapper type.
+   * @return true if the conversion is lossless.
+   */
+  public static boolean isWidening(Class<?> sourceType, Class<?> targetType) {
+
+    AssertHelper.notNull(sourceType, targetType);
+
+    List<Class<?>> targetTypes = WIDENINGS.get(sourceType);
+    return targetTypes != null && targetTypes.contains(targetType);
+  }
+
+  /**
+   * Converts a number to one of the {@link #NUMBER_TYPES}. Integral target types get
+   * the exact value, floating point target types get the nearest value.
+   *
+   * @param number     number to convert.
+   * @param targetType number wrapper type.
+   * @return converted number.
+   * @throws ArithmeticException      if the number is out of the range of the target type,
+   *                                  or it has a fraction and the target type is integral.
+   * @throws IllegalArgumentException if the target type is not a number wrapper type.
+   */
+  public static Number convert(Number number, Class<?> targetType) {
+
+    AssertHelper.notNull(number, targetType);
+
+    if (targetType.isInstance(number)) {
+      return number;
+    }
+    if (targetType.equals(Double.class) || targetType.equals(Float.class)) {
+      return convertFloating(number, targetType.equals(Float.class));
+    }
+    if (!NUMBER_TYPES.contains(targetType)) {
+      throw new IllegalArgumentException(targetType.getName() + " is not a number type");
+    }
+
+    long value = toBigDecimal(number).longValueExact();
+    if (targetType.equals(Integer.class)) {
+      return Math.toIntExact(value);
+    } else if (targetType.equals(Short.class) && value == (short) value) {
+      return (short) value;
+    } else if (targetType.equals(Byte.class) && value == (byte) value) {
+      return (byte) value;
+    } else if (targetType.equals(Long.class)) {
+      return value;
+    }
+    throw new ArithmeticException(number + " is out of the range of "
+        + targetType.getSimpleName());
+  }
+
+  /**
+   * Returns a converter to one of the {@link #NUMBER_TYPES}, for registering
+   * conversions which may fail, e.g. from Long to Integer.
+   *
+   * @param targetType number wrapper type.
+   * @param <T>        number wrapper type.
+   * @return converter which throws an ArithmeticException instead of truncating a value.
+   * @see #convert(Number, Class)
+   */
+  public static <T extends Number> TypeConverter<Number, T> converter(Class<T> targetType) {
+
+    AssertHelper.notNull(targetType);
+    return number -> targetType.cast(convert(number, targetType));
+  }
+
+  private static Number convertFloating(Number number, boolean toFloat) {
+
+    double value = number.doubleValue();
+    boolean finite = !Double.isInfinite(value) && !Double.isNaN(value);
+    if (toFloat && finite && Math.abs(value) > Float.MAX_VALUE
+        || !finite && !(number instanceof Double || number instanceof Float)) {
+      throw new ArithmeticException(number + " is out of the range of "
+          + (toFloat ? "Float" : "Double"));
+    }
+    return toFloat ? (Number) (float) value : (Number) value;
+  }
+
+  private static BigDecimal toBigDecimal(Number number) {
+
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    }
+    if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    if (number instanceof Double || number instanceof Float) {
+      double value = number.doubleValue();
+      if (Double.isInfinite(value) || Double.isNaN(value)) {
+        throw new ArithmeticException(number + " is not a finite number");
+      }
+      return new BigDecimal(value);
+    }
+    return BigDecimal.valueOf(number.longValue());
+  }
+}
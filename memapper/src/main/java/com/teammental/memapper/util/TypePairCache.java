@@ -0,0 +1,226 @@
+package com.teammental.memapper.util;
+
+import com.teammental.mehelper.AssertHelper;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * Values computed per source/target type pair, kept with their source types through
+ * a {@link ClassValue}. A value never pins the class loader of its source type,
+ * so values of unloaded classes, e.g. after a hot redeploy, are collected together
+ * with the classes. Values are also queued in insertion order through weak references,
+ * which bounds the cache by evicting the oldest values first.
+ * Reads are lock-free; the size is counted as values are added and removed.
+ *
+ * @param <V> cached value type.
+ */
+public final class TypePairCache<V> {
+
+  private final ClassValue<ConcurrentMap<Class<?>, Entry<V>>> entries =
+      new ClassValue<ConcurrentMap<Class<?>, Entry<V>>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, Entry<V>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private final Queue<Node<V>> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger size = new AtomicInteger();
+  private final LongAdder creations = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final IntSupplier maxSize;
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxSize supplies the number of values kept before the oldest is evicted.
+   */
+  public TypePairCache(IntSupplier maxSize) {
+
+    AssertHelper.notNull(maxSize);
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the cached value of the type pair.
+   *
+   * @param sourceType source type.
+   * @param targetType target type.
+   * @return cached value, null if none is cached.
+   */
+  public V get(Class<?> sourceType, Class<?> targetType) {
+
+    Entry<V> entry = entries.get(sourceType).get(targetType);
+    return entry == null ? null : entry.value;
+  }
+
+  /**
+   * Returns the cached value of the type pair, computes and caches it if none is cached.
+   * The value of a type pair is computed only once, even if it is looked up concurrently.
+   *
+   * @param sourceType source type.
+   * @param targetType target type.
+   * @param factory    computes the value of the type pair.
+   * @return cached value.
+   */
+  public V computeIfAbsent(Class<?> sourceType, Class<?> targetType,
+                           BiFunction<Class<?>, Class<?>, ? extends V> factory) {
+
+    ConcurrentMap<Class<?>, Entry<V>> targets = entries.get(sourceType);
+    Entry<V> entry = targets.get(targetType);
+    if (entry != null) {
+      return entry.value;
+    }
+
+    boolean[] created = new boolean[1];
+    entry = targets.computeIfAbsent(targetType, type -> {
+      created[0] = true;
+      return new Entry<>(sourceType, type, factory.apply(sourceType, type));
+    });
+    if (created[0]) {
+      creations.increment();
+      size.incrementAndGet();
+      insertionOrder.add(entry.node);
+      if (queued.incrementAndGet() > maxSize.getAsInt()) {
+        evict();
+      }
+    }
+    return entry.value;
+  }
+
+  /**
+   * Removes the cached value of the type pair.
+   *
+   * @param sourceType source type.
+   * @param targetType target type.
+   */
+  public void remove(Class<?> sourceType, Class<?> targetType) {
+
+    Entry<V> entry = entries.get(sourceType).remove(targetType);
+    if (entry != null) {
+      entry.node.release(size);
+    }
+  }
+
+  /**
+   * Removes all cached values. Counters are not reset.
+   */
+  public void clear() {
+
+    Node<V> node;
+    while ((node = insertionOrder.poll()) != null) {
+      queued.decrementAndGet();
+      Entry<V> entry = node.get();
+      if (entry != null) {
+        entries.get(entry.sourceType).remove(entry.targetType, entry);
+      }
+      node.release(size);
+    }
+  }
+
+  /**
+   * Returns the cached values in insertion order.
+   *
+   * @return cached values.
+   */
+  public List<V> values() {
+
+    List<V> values = new ArrayList<>();
+    for (Node<V> node :
+        insertionOrder) {
+      Entry<V> entry = node.get();
+      if (entry != null && !node.released.get()) {
+        values.add(entry.value);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Returns the number of cached values. Values collected with their source types
+   * are counted until they leave the insertion queue.
+   *
+   * @return cached value count.
+   */
+  public int size() {
+    return size.get();
+  }
+
+  public long getCreationCount() {
+    return creations.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Removes the oldest queued values until the queue fits the max size.
+   * Queued nodes of collected or removed values are dropped on the way.
+   */
+  private void evict() {
+
+    while (queued.get() > maxSize.getAsInt()) {
+      Node<V> eldest = insertionOrder.poll();
+      if (eldest == null) {
+        return;
+      }
+      queued.decrementAndGet();
+      Entry<V> entry = eldest.get();
+      if (eldest.release(size) && entry != null
+          && entries.get(entry.sourceType).remove(entry.targetType, entry)) {
+        evictions.increment();
+      }
+    }
+  }
+
+  private static final class Entry<V> {
+
+    private final Class<?> sourceType;
+    private final Class<?> targetType;
+    private final V value;
+    private final Node<V> node;
+
+    private Entry(Class<?> sourceType, Class<?> targetType, V value) {
+
+      this.sourceType = sourceType;
+      this.targetType = targetType;
+      this.value = value;
+      this.node = new Node<>(this);
+    }
+  }
+
+  /**
+   * Queued weak reference to an entry. An entry is counted in the size until its node
+   * is released, either when the entry is removed or when the node leaves the queue.
+   */
+  private static final class Node<V> extends WeakReference<Entry<V>> {
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Node(Entry<V> entry) {
+      super(entry);
+    }
+
+    private boolean release(AtomicInteger size) {
+
+      if (released.compareAndSet(false, true)) {
+        size.decrementAndGet();
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -1,10 +1,12 @@
 package com.teammental.memapper.util.mapping;
 
-import java.lang.reflect.Field;
+import com.teammental.mehelper.AssertHelper;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -19,6 +21,20 @@ public class CommonMapUtil {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CommonMapUtil.class);
 
+  private static final ClassValue<ClassFields> ALL_FIELDS = new ClassValue<ClassFields>() {
+    @Override
+    protected ClassFields computeValue(Class<?> type) {
+      return new ClassFields(collectFields(type, true));
+    }
+  };
+
+  private static final ClassValue<ClassFields> DECLARED_FIELDS = new ClassValue<ClassFields>() {
+    @Override
+    protected ClassFields computeValue(Class<?> type) {
+      return new ClassFields(collectFields(type, false));
+    }
+  };
+
   /**
    * Gets all public, private, protected fields of the given type.
    * If the given type has superclass, gets it's fields too using recursive call of self.
@@ -32,6 +48,7 @@ public class CommonMapUtil {
 
   /**
    * Gets all public, private, protected fields of the given type.
+   * Fields are collected once per type and copied into the returned list.
    *
    * @param type               The type which's fields will be returned.
    * @param includeSuperFields if false, fields of superclass will not be included;
@@ -39,23 +56,7 @@ public class CommonMapUtil {
    * @return List of the fields of the given type.
    */
   public static List<Field> getAllFields(Class<?> type, boolean includeSuperFields) {
-    List<Field> fields = new ArrayList<>();
-    if (includeSuperFields && type.getSuperclass() != null) {
-      List<Field> fieldsOfSuper = getAllFields(type.getSuperclass());
-      fields.addAll(fieldsOfSuper);
-    }
-
-    List<Field> fieldsOfCurrent = Arrays.stream(type.getDeclaredFields())
-        .filter(field -> !field.isSynthetic())
-        .collect(Collectors.toList());
-
-    fields = fields.stream()
-        .filter(field -> !fieldsOfCurrent.stream()
-            .anyMatch(superField -> superField.getName().equals(field.getName())))
-        .collect(Collectors.toList());
-    fields.addAll(fieldsOfCurrent);
-
-    return fields;
+    return new ArrayList<>(getClassFields(type, includeSuperFields).fields);
   }
 
   /**
@@ -99,21 +100,96 @@ public class CommonMapUtil {
    * @return a Map object which contains extracted fields names and values from the given object
    */
   public static <T> Map<String, Object> getFieldsMap(final T source, boolean includeSuperFields) {
-    final Map<String, Object> map = new HashMap<>();
-    final List<Field> fields = getAllFields(source.getClass(), includeSuperFields);
+    final Field[] fields = getClassFields(source.getClass(), includeSuperFields).accessibleFields;
+    final Map<String, Object> map = new HashMap<>((int) (fields.length / 0.75f) + 1);
     for (final Field field : fields) {
-      final boolean isFieldAccessible = field.isAccessible();
-      field.setAccessible(true);
       try {
         map.put(field.getName(), field.get(source));
       } catch (IllegalAccessException ex) {
         LOGGER.error(ex.getLocalizedMessage());
-        continue;
       }
-      field.setAccessible(isFieldAccessible);
     }
     return map;
   }
 
+  /**
+   * Returns a read-only map view of the fields in given T object.
+   * Field values are read from the object when they are accessed, so the view
+   * reflects later changes of the object and nothing is copied up front.
+   *
+   * @param source             The object which's fields are viewed.
+   * @param includeSuperFields if false, fields of superclass will not be included;
+   *                           if true, fields of superclass will be included.
+   * @param <T>                Generic type of source object.
+   * @return a read-only Map view of field names and values of the given object
+   */
+  public static <T> Map<String, Object> getFieldsView(final T source,
+                                                      boolean includeSuperFields) {
+
+    AssertHelper.notNull(source);
+
+    ClassFields classFields = getClassFields(source.getClass(), includeSuperFields);
+    return new FieldMapView(source, classFields.accessibleFields, classFields.indexes);
+  }
+
+  private static ClassFields getClassFields(Class<?> type, boolean includeSuperFields) {
+    return includeSuperFields ? ALL_FIELDS.get(type) : DECLARED_FIELDS.get(type);
+  }
 
+  /**
+   * Collects the fields of the type, fields of a sub class hide
+   * super class fields with the same name.
+   */
+  private static List<Field> collectFields(Class<?> type, boolean includeSuperFields) {
+
+    Map<String, Field> fields = new LinkedHashMap<>();
+    if (includeSuperFields && type.getSuperclass() != null) {
+      for (Field superField : ALL_FIELDS.get(type.getSuperclass()).fields) {
+        fields.put(superField.getName(), superField);
+      }
+    }
+
+    for (Field field : type.getDeclaredFields()) {
+      if (!field.isSynthetic()) {
+        fields.remove(field.getName());
+        fields.put(field.getName(), field);
+      }
+    }
+    return new ArrayList<>(fields.values());
+  }
+
+  /**
+   * Fields of a type, collected once. The accessible copies are only used
+   * to read values, the fields handed out to callers are left as they are.
+   */
+  private static final class ClassFields {
+
+    private final List<Field> fields;
+    private final Field[] accessibleFields;
+    private final Map<String, Integer> indexes;
+
+    private ClassFields(List<Field> fields) {
+
+      this.fields = Collections.unmodifiableList(fields);
+      this.accessibleFields = new Field[fields.size()];
+      this.indexes = new HashMap<>((int) (fields.size() / 0.75f) + 1);
+
+      for (int i = 0; i < fields.size(); i++) {
+        accessibleFields[i] = accessibleCopy(fields.get(i));
+        indexes.put(fields.get(i).getName(), i);
+      }
+    }
+
+    private static Field accessibleCopy(Field field) {
+
+      try {
+        Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+        copy.setAccessible(true);
+        return copy;
+      } catch (java.lang.NoSuchFieldException | RuntimeException ex) {
+        LOGGER.debug(ex.getLocalizedMessage());
+        return field;
+      }
+    }
+  }
 }
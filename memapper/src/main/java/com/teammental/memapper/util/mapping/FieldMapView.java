@@ -0,0 +1,101 @@
+package com.teammental.memapper.util.mapping;
+
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-only map of the field names and values of an object.
+ * Values are read from the object on access; nothing is copied when the view is created.
+ */
+final class FieldMapView extends AbstractMap<String, Object> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FieldMapView.class);
+
+  private final Object source;
+  private final Field[] fields;
+  private final Map<String, Integer> indexes;
+  private Set<Entry<String, Object>> entrySet;
+
+  FieldMapView(Object source, Field[] fields, Map<String, Integer> indexes) {
+
+    this.source = source;
+    this.fields = fields;
+    this.indexes = indexes;
+  }
+
+  @Override
+  public int size() {
+    return fields.length;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexes.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+
+    Integer index = indexes.get(key);
+    return index == null ? null : read(fields[index]);
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private Object read(Field field) {
+
+    try {
+      return field.get(source);
+    } catch (IllegalAccessException ex) {
+      LOGGER.error(ex.getLocalizedMessage());
+      return null;
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public int size() {
+      return fields.length;
+    }
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+
+      return new Iterator<Entry<String, Object>>() {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < fields.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          Field field = fields[index++];
+          return new SimpleImmutableEntry<>(field.getName(), read(field));
+        }
+      };
+    }
+  }
+}
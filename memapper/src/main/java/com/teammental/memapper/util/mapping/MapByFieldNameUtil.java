@@ -1,18 +1,14 @@
 package com.teammental.memapper.util.mapping;
 
-import com.teammental.mehelper.PrimitiveHelper;
-import com.teammental.mehelper.StringHelper;
+import com.teammental.memapper.core.Instantiator;
+import com.teammental.memapper.core.MapPlan;
+import com.teammental.memapper.core.MapperSettings;
 import com.teammental.memapper.exception.TargetTypeInstantiationException;
-import com.teammental.memapper.util.FieldUtil;
+import com.teammental.memapper.util.TypePairCache;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +21,14 @@ public class MapByFieldNameUtil {
 
   private static final Logger logger = LoggerFactory.getLogger(MapByFieldNameUtil.class);
 
+  /**
+   * Plans of the mapped type pairs, see {@link MapPlan#compileByFieldName(Class, Class)},
+   * bounded like the default configurations by
+   * {@link MapperSettings#getConfigurationCacheSize()}.
+   */
+  private static final TypePairCache<MapPlan> PLANS =
+      new TypePairCache<>(MapperSettings::getConfigurationCacheSize);
+
   /**
    * Maps given source object's suitable fields
    * to a newly instantiated object of type targetType.
@@ -44,21 +48,13 @@ public class MapByFieldNameUtil {
       return null;
     }
 
-    Class<?> sourceType = source.getClass();
-    logger.debug("Started mapping from source type '"
-        + sourceType.getName() + "' to target type '" + targetType.getName() + "'.");
-
-    TargetT target;
-
-    try {
-      target = (TargetT) targetType.newInstance();
-    } catch (Exception ex) {
-      TargetTypeInstantiationException exception =
-          new TargetTypeInstantiationException(targetType, ex);
-      logger.debug(exception.getMessage());
-      throw exception;
+    if (logger.isDebugEnabled()) {
+      logger.debug("Started mapping from source type '" + source.getClass().getName()
+          + "' to target type '" + targetType.getName() + "'.");
     }
 
+    TargetT target = Instantiator.of(targetType).newInstance();
+
     target = map(source, target);
 
     return target;
@@ -68,6 +64,7 @@ public class MapByFieldNameUtil {
   /**
    * Maps from source to target.
    * Both source and target must be Mappable.
+   * Fields are resolved once per type pair and the plan is cached.
    *
    * @param source    the object which's fields will be taken as map source.
    * @param target    the object which's fields will be taken as map target.
@@ -80,122 +77,32 @@ public class MapByFieldNameUtil {
     if (source == null || target == null) {
       return null;
     }
-    Class<?> sourceType = source.getClass();
-    List<Field> sourceFields = CommonMapUtil.getAllFields(sourceType);
-
-    logger.debug("Found fields in the source type: " + sourceFields);
-
-    Class<?> targetType = target.getClass();
-    List<Field> targetFields = CommonMapUtil.getAllFields(targetType);
-
-    logger.debug("Found fields in the target type: " + targetFields);
-
-    for (Field sourceField :
-        sourceFields) {
-      String sourceFieldName = sourceField.getName();
-      Class<?> sourceFieldType = sourceField.getType();
-
-      Stream<Field> targetFieldsStream = targetFields.stream();
-      Optional<Field> targetFieldOptional = targetFieldsStream
-          .filter(field ->
-              field.getName().equals(sourceFieldName))
-          .findFirst();
-
-      if (targetFieldOptional.isPresent()) {
-
-        Class<?> targetFieldType = targetFieldOptional.get().getType();
-
-        if (sourceFieldType.equals(targetFieldType)
-            || (sourceFieldType.isPrimitive()
-            && PrimitiveHelper.getWrapperClass(sourceFieldType).equals(targetFieldType))
-            || (targetFieldType.isPrimitive()
-            && PrimitiveHelper.getWrapperClass(targetFieldType).equals(sourceFieldType))
-            || sourceFieldType.isAssignableFrom(targetFieldType)
-            || targetFieldType.isAssignableFrom(sourceFieldType)
-            ) {
-
-          String fieldNameCapitalized = StringHelper.capitalizeFirstLetter(sourceFieldName);
-
-
-          Method sourceGetMethod = null;
-          String sourceGetMethodName = "";
-          if (FieldUtil.isBoolean(sourceField)) {
-            sourceGetMethodName = "is" + fieldNameCapitalized;
-            try {
-              sourceGetMethod = sourceType.getMethod(sourceGetMethodName);
-            } catch (NoSuchMethodException ex) {
-              logger.debug("Field '" + sourceType.getName() + " "
-                  + sourceFieldName + "' does not have a getter method named " + sourceGetMethodName
-                  + ".");
-            }
-          }
-
-          if (sourceGetMethod == null) {
-            sourceGetMethodName = "get" + fieldNameCapitalized;
-            try {
-              sourceGetMethod = sourceType.getMethod(sourceGetMethodName);
-            } catch (NoSuchMethodException ex) {
-              logger.debug("Field '" + sourceType.getName() + " "
-                  + sourceFieldName + "' does not have a getter method."
-                  + " Field is ignored.");
-              continue;
-            }
-          }
-
-          Object sourceFieldVal;
-          try {
-            sourceFieldVal = sourceGetMethod.invoke(source);
-          } catch (InvocationTargetException ex) {
-            logger.debug("Invokation of  '" + sourceType.getName()
-                + " " + sourceGetMethodName + "' failed. "
-                + "Probably it requires at least 1 arg.");
-            continue;
-          } catch (IllegalAccessException ex) {
-            logger.debug("Invokation of  '"
-                + sourceType.getName() + " " + sourceGetMethodName + "' failed. "
-                + "It has restricted access.");
-            continue;
-          } catch (IllegalArgumentException ex) {
-            logger.debug("Invokation of  '"
-                + sourceType.getName() + " " + sourceGetMethodName + "' failed. "
-                + "Illegal argument.");
-            continue;
-          }
-
-          Method targetSetMethod;
-          String targetSetMethodName = "set" + fieldNameCapitalized;
-          try {
-            targetSetMethod = targetType.getMethod(targetSetMethodName, targetFieldType);
-          } catch (NoSuchMethodException ex) {
-            logger.debug("Field '" + targetType.getName() + " "
-                + sourceFieldName + "' does not have a setter method.");
-            continue;
-          }
+    getPlan(source.getClass(), target.getClass()).map(source, target);
+    return target;
+  }
 
+  /**
+   * Returns the number of cached plans.
+   *
+   * @return cached plan count.
+   */
+  public static int getCachedPlanCount() {
+    return PLANS.size();
+  }
 
-          try {
-            targetSetMethod.invoke(target, sourceFieldVal);
-          } catch (InvocationTargetException ex) {
-            logger.debug("Invokation of  '" + targetType.getName()
-                + " " + targetSetMethodName + "' failed. "
-                + "Probably it requires at least 1 arg.");
-            continue;
-          } catch (IllegalAccessException ex) {
-            logger.debug("Invokation of  '" + targetType.getName()
-                + " " + targetSetMethodName + "' failed. "
-                + "It has restricted access.");
-            continue;
-          } catch (IllegalArgumentException ex) {
-            logger.debug("Invokation of  '" + targetType.getName()
-                + " " + targetSetMethodName + "' failed. "
-                + "Illegal argument.");
-            continue;
-          }
+  /**
+   * Returns how many plans are evicted as the cache is full.
+   * An eviction count growing with the mapped objects means the cache is too small,
+   * see {@link MapperSettings#setConfigurationCacheSize(int)}.
+   *
+   * @return evicted plan count.
+   */
+  public static long getEvictedPlanCount() {
+    return PLANS.getEvictionCount();
+  }
 
-        }
-      }
-    }
-    return target;
+  static MapPlan getPlan(Class<?> sourceType, Class<?> targetType) {
+    return PLANS.computeIfAbsent(sourceType, targetType, MapPlan::compileByFieldName);
   }
 
   /**
@@ -228,19 +135,15 @@ public class MapByFieldNameUtil {
                                                          Class<TargetT> targetType)
       throws TargetTypeInstantiationException {
 
-    try {
-      targetType.newInstance();
-    } catch (Exception ex) {
-      TargetTypeInstantiationException exception =
-          new TargetTypeInstantiationException(targetType, ex);
-      logger.debug(exception.getMessage());
-      throw exception;
+    Instantiator<TargetT> instantiator = Instantiator.of(targetType);
+    if (!instantiator.isInstantiable()) {
+      throw instantiator.getFailure();
     }
 
     return map(sources, () -> {
       try {
-        return targetType.newInstance();
-      } catch (Exception ex) {
+        return instantiator.newInstance();
+      } catch (TargetTypeInstantiationException ex) {
         return null;
       }
     });
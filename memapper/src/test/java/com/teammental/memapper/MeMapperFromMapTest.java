@@ -0,0 +1,147 @@
+package com.teammental.memapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.teammental.memapper.to.EnumGender;
+import com.teammental.memapper.to.PrimitiveTypeTo;
+import com.teammental.memapper.to.TargetPersonNoEmptyConstructorTo;
+import com.teammental.memapper.to.TrainerPersonTo;
+import com.teammental.memapper.to.WrapperTypeTo;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+@RunWith(Enclosed.class)
+public class MeMapperFromMapTest {
+
+  public static class WhenTargetClassIsGiven {
+
+    @Test
+    public void shouldPopulateFields_includingSuperFields() {
+
+      Map<String, Object> row = new HashMap<>();
+      row.put("id", 1);
+      row.put("title", "title");
+      row.put("gender", EnumGender.FEMALE);
+      row.put("salary", 10.5);
+      row.put("lessons", Arrays.asList("math", "physics"));
+      row.put("unknown", "ignored");
+
+      TrainerPersonTo target = (TrainerPersonTo) MeMapper.fromMap(row).to(TrainerPersonTo.class);
+
+      assertEquals(Integer.valueOf(1), target.getId());
+      assertEquals("title", target.getTitle());
+      assertEquals(EnumGender.FEMALE, target.getGender());
+      assertEquals(Double.valueOf(10.5), target.getSalary());
+      assertEquals(Arrays.asList("math", "physics"), target.getLessons());
+    }
+
+    @Test
+    public void shouldCoerceValues_whenTypesDiffer() {
+
+      Map<String, Object> row = new HashMap<>();
+      row.put("id", 1L);
+      row.put("lid", new BigDecimal("2"));
+      row.put("did", "3.5");
+      row.put("bid", "true");
+      row.put("cid", "c");
+
+      PrimitiveTypeTo target = (PrimitiveTypeTo) MeMapper.fromMap(row)
+          .to(PrimitiveTypeTo.class);
+
+      assertEquals(1, target.getId());
+      assertEquals(2L, target.getLid());
+      assertEquals(3.5, target.getDid(), 0);
+      assertEquals(true, target.getBid());
+      assertEquals('c', target.getCid());
+    }
+
+    @Test
+    public void shouldCoerceStringToEnum() {
+
+      Map<String, Object> row = new HashMap<>();
+      row.put("gender", "MALE");
+
+      TrainerPersonTo target = (TrainerPersonTo) MeMapper.fromMap(row).to(TrainerPersonTo.class);
+
+      assertEquals(EnumGender.MALE, target.getGender());
+    }
+
+    @Test
+    public void shouldSkipValues_whichCanNotBeConverted() {
+
+      Map<String, Object> row = new HashMap<>();
+      row.put("id", null);
+      row.put("sid", "not a number");
+      row.put("lid", 3);
+
+      PrimitiveTypeTo target = (PrimitiveTypeTo) MeMapper.fromMap(row)
+          .to(PrimitiveTypeTo.class);
+
+      assertEquals(0, target.getId());
+      assertEquals(0, target.getSid());
+      assertEquals(3L, target.getLid());
+    }
+
+    @Test
+    public void shouldSkipNumbers_whichDoNotFitFieldType() {
+
+      Map<String, Object> row = new HashMap<>();
+      row.put("id", 5_000_000_000L);
+      row.put("sid", 2.5);
+      row.put("byid", 300);
+      row.put("lid", 4.0);
+
+      WrapperTypeTo target = (WrapperTypeTo) MeMapper.fromMap(row).to(WrapperTypeTo.class);
+
+      assertNull(target.getId());
+      assertNull(target.getSid());
+      assertNull(target.getByid());
+      assertEquals(Long.valueOf(4), target.getLid());
+    }
+
+    @Test
+    public void shouldReturnNull_whenTargetCanNotBeInstantiated() {
+
+      assertNull(MeMapper.fromMap(new HashMap<>()).to(TargetPersonNoEmptyConstructorTo.class));
+      assertFalse(MeMapper.fromMap(new HashMap<>())
+          .toOptional(TargetPersonNoEmptyConstructorTo.class).isPresent());
+    }
+  }
+
+  public static class WhenTargetObjectIsGiven {
+
+    @Test
+    public void shouldOverwriteOnlyGivenFields() {
+
+      WrapperTypeTo target = new WrapperTypeTo();
+      target.setId(1);
+      target.setLid(2L);
+      Map<String, Object> row = new HashMap<>();
+      row.put("lid", null);
+      row.put("did", 4);
+
+      assertSame(target, MeMapper.fromMap(row).to(target));
+      assertEquals(Integer.valueOf(1), target.getId());
+      assertNull(target.getLid());
+      assertEquals(Double.valueOf(4), target.getDid());
+    }
+
+    @Test
+    public void shouldReturnTarget_whenSourceIsNull() {
+
+      WrapperTypeTo target = new WrapperTypeTo();
+
+      assertSame(target, MeMapper.fromMap(null).to(target));
+    }
+  }
+}
@@ -8,12 +8,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.teammental.memapper.to.EnumGender;
 import com.teammental.memapper.to.NameTo;
+import com.teammental.memapper.to.PersonTo;
+import com.teammental.memapper.to.StudentPersonTo;
 import com.teammental.memapper.to.TargetPersonNoEmptyConstructorTo;
 import com.teammental.memapper.to.TargetPersonTo;
 import com.teammental.memapper.to.TrainerPersonTo;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
@@ -67,6 +73,102 @@ public class MeMapperToListTest {
       }
     }
 
+    public static class WithFieldMaskUsage {
+
+      @Test
+      public void shouldMapOnlyGivenFields() {
+        List<TrainerPersonTo> trainerPersonTos = prepareTrainerList(20);
+
+        List<TargetPersonTo> targetPersonTos = (List<TargetPersonTo>) MeMapper
+            .from(trainerPersonTos)
+            .only("id")
+            .to(TargetPersonTo.class);
+
+        assertEquals(20, targetPersonTos.size());
+        assertEquals(trainerPersonTos.get(19).getId(), targetPersonTos.get(19).getId());
+        assertNull(targetPersonTos.get(19).getTitle());
+        assertNull(targetPersonTos.get(19).getSalary());
+      }
+    }
+
+    public static class WithParallelUsage {
+
+      private static ExecutorService executor;
+
+      @BeforeClass
+      public static void setUpClass() {
+        executor = Executors.newFixedThreadPool(3);
+      }
+
+      @AfterClass
+      public static void tearDownClass() {
+        executor.shutdown();
+      }
+
+      @Test
+      public void shouldKeepOrder_whenAboveThreshold() {
+        final int size = 1000;
+        List<TrainerPersonTo> trainerPersonTos = prepareTrainerList(size);
+
+        List<TargetPersonTo> targetPersonTos = (List<TargetPersonTo>) MeMapper
+            .from(trainerPersonTos)
+            .parallel(executor, 10)
+            .to(TargetPersonTo.class);
+
+        assertEquals(size, targetPersonTos.size());
+        for (int i = 0; i < size; i++) {
+          assertEquals(trainerPersonTos.get(i).getId(), targetPersonTos.get(i).getId());
+          assertEquals(trainerPersonTos.get(i).getTitle(), targetPersonTos.get(i).getTitle());
+        }
+      }
+
+      @Test
+      public void shouldMapAllItemInList_whenBelowThreshold() {
+        final int size = 20;
+        List<TrainerPersonTo> trainerPersonTos = prepareTrainerList(size);
+
+        List<TargetPersonTo> targetPersonTos = (List<TargetPersonTo>) MeMapper
+            .from(trainerPersonTos)
+            .parallel()
+            .to(TargetPersonTo.class);
+
+        assertEquals(size, targetPersonTos.size());
+        assertEquals(trainerPersonTos.get(size - 1).getId(),
+            targetPersonTos.get(size - 1).getId());
+      }
+
+      @Test
+      public void shouldMapEachSourceType_whenSourceTypesAreMixed() {
+        List<PersonTo> sources = new ArrayList<>(prepareTrainerList(50));
+        StudentPersonTo student = new StudentPersonTo();
+        student.setId(ID);
+        student.setLessons(LESSONS);
+        sources.add(25, student);
+
+        List<TargetPersonTo> targetPersonTos = (List<TargetPersonTo>) MeMapper
+            .from(sources)
+            .parallel(executor, 10)
+            .to(TargetPersonTo.class);
+
+        assertEquals(51, targetPersonTos.size());
+        assertEquals(LESSONS, targetPersonTos.get(25).getLessons());
+        assertNull(targetPersonTos.get(25).getSalary());
+        assertEquals(SALARY, targetPersonTos.get(26).getSalary());
+      }
+
+      @Test
+      public void shouldReturnNull_whenTargetCanNotBeInstantiated() {
+        List<TrainerPersonTo> trainerPersonTos = prepareTrainerList(100);
+
+        Iterable<TargetPersonNoEmptyConstructorTo> targets = MeMapper
+            .from(trainerPersonTos)
+            .parallel(executor, 10)
+            .to(TargetPersonNoEmptyConstructorTo.class);
+
+        assertNull(targets);
+      }
+    }
+
 
     private static List<TrainerPersonTo> prepareTrainerList(int size) {
       List<TrainerPersonTo> trainers = new ArrayList<>();
@@ -0,0 +1,149 @@
+package com.teammental.memapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.to.TargetPersonNoEmptyConstructorTo;
+import com.teammental.memapper.to.TargetPersonTo;
+import com.teammental.memapper.to.TrainerPersonTo;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+@RunWith(Enclosed.class)
+public class MeMapperToStreamTest {
+
+  private static final Integer ID = 31648;
+  private static final String TITLE = "TITLE";
+
+  public static class WhenSourceIsStream {
+
+    @Test
+    public void shouldMapElementsOnDemand() {
+      AtomicInteger created = new AtomicInteger();
+      Stream<TrainerPersonTo> sources = IntStream.range(0, 1000)
+          .peek(i -> created.incrementAndGet())
+          .mapToObj(WhenSourceIsStream::prepareTrainer);
+
+      Stream<TargetPersonTo> targets = MeMapper.from(sources).toStream(TargetPersonTo.class);
+      assertEquals(0, created.get());
+
+      List<TargetPersonTo> firstTwo = targets.limit(2).collect(Collectors.toList());
+
+      assertEquals(2, created.get());
+      assertEquals(Integer.valueOf(ID + 1), firstTwo.get(1).getId());
+      assertEquals(TITLE + "_1", firstTwo.get(1).getTitle());
+    }
+
+    @Test
+    public void shouldCloseSourceStream_whenTargetStreamIsClosed() {
+      AtomicBoolean closed = new AtomicBoolean();
+      Stream<TrainerPersonTo> sources = Stream.of(prepareTrainer(0))
+          .onClose(() -> closed.set(true));
+
+      try (Stream<TargetPersonTo> targets =
+               MeMapper.from(sources).toStream(TargetPersonTo.class)) {
+        assertEquals(1, targets.count());
+      }
+
+      assertTrue(closed.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateException_whenTargetCanNotBeInstantiated() {
+      Stream<TrainerPersonTo> sources = Stream.of(prepareTrainer(0));
+
+      MeMapper.from(sources).toStream(TargetPersonNoEmptyConstructorTo.class)
+          .forEach(target -> { });
+    }
+
+    static TrainerPersonTo prepareTrainer(int index) {
+      TrainerPersonTo trainer = new TrainerPersonTo();
+      trainer.setId(ID + index);
+      trainer.setTitle(TITLE + "_" + index);
+      return trainer;
+    }
+  }
+
+  public static class WhenSourceIsIterator {
+
+    @Test
+    public void shouldMapElementsOnDemand() {
+      List<TrainerPersonTo> trainers = new ArrayList<>();
+      trainers.add(WhenSourceIsStream.prepareTrainer(0));
+      trainers.add(WhenSourceIsStream.prepareTrainer(1));
+
+      Iterator<TargetPersonTo> targets = MeMapper.from(trainers.iterator())
+          .toIterator(TargetPersonTo.class);
+      trainers.get(1).setTitle("CHANGED");
+
+      assertEquals(ID, targets.next().getId());
+      assertEquals("CHANGED", targets.next().getTitle());
+      assertFalse(targets.hasNext());
+    }
+  }
+
+  public static class WhenSourceIsIterable {
+
+    @Test
+    public void shouldMapElementsOnDemand() {
+      List<TrainerPersonTo> trainers = new ArrayList<>();
+      trainers.add(WhenSourceIsStream.prepareTrainer(0));
+
+      Iterator<TargetPersonTo> targets = MeMapper.from(trainers).toIterator(TargetPersonTo.class);
+      trainers.get(0).setTitle("CHANGED");
+
+      assertEquals("CHANGED", targets.next().getTitle());
+      assertFalse(targets.hasNext());
+    }
+
+    @Test
+    public void shouldKeepOrder_whenParallel() {
+      List<TrainerPersonTo> trainers = IntStream.range(0, 500)
+          .mapToObj(WhenSourceIsStream::prepareTrainer)
+          .collect(Collectors.toList());
+
+      List<TargetPersonTo> targets = ((Stream<TargetPersonTo>) MeMapper.from(trainers)
+          .parallel()
+          .toStream(TargetPersonTo.class))
+          .collect(Collectors.toList());
+
+      for (int i = 0; i < trainers.size(); i++) {
+        assertEquals(trainers.get(i).getId(), targets.get(i).getId());
+      }
+    }
+
+    @Test
+    public void shouldMapOnGivenExecutor_whenParallel() {
+      List<TrainerPersonTo> trainers = IntStream.range(0, 100)
+          .mapToObj(WhenSourceIsStream::prepareTrainer)
+          .collect(Collectors.toList());
+      AtomicInteger executed = new AtomicInteger();
+
+      Stream<TargetPersonTo> stream = ((ToList<TargetPersonTo>) MeMapper.from(trainers))
+          .parallel(task -> {
+            executed.incrementAndGet();
+            task.run();
+          }, 10)
+          .toStream(TargetPersonTo.class);
+      assertEquals(0, executed.get());
+
+      List<TargetPersonTo> targets = stream.collect(Collectors.toList());
+      assertTrue(executed.get() > 0);
+      for (int i = 0; i < trainers.size(); i++) {
+        assertEquals(trainers.get(i).getId(), targets.get(i).getId());
+      }
+    }
+  }
+}
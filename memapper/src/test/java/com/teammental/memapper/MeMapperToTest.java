@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import com.teammental.memapper.exception.NoSuchFieldException;
 import com.teammental.memapper.to.BooleanTypesTo;
 import com.teammental.memapper.to.EnumGender;
 import com.teammental.memapper.to.NameTo;
@@ -101,6 +102,42 @@ public class MeMapperToTest {
 
     }
 
+    public static class WithFieldMaskUsage {
+
+      @Test
+      public void shouldMapOnlyGivenFields() {
+        TrainerPersonTo trainerPersonTo = prepareTrainer();
+
+        TargetPersonTo targetPersonTo = (TargetPersonTo) MeMapper.from(trainerPersonTo)
+            .only("id", "title")
+            .to(TargetPersonTo.class);
+
+        assertEquals(trainerPersonTo.getId(), targetPersonTo.getId());
+        assertEquals(trainerPersonTo.getTitle(), targetPersonTo.getTitle());
+        assertNull(targetPersonTo.getSalary());
+        assertNull(targetPersonTo.getLessons());
+        assertNull(targetPersonTo.getName());
+      }
+
+      @Test
+      public void shouldLeaveOtherFieldsUntouched_whenTargetObjectIsGiven() {
+        TrainerPersonTo trainerPersonTo = prepareTrainer();
+        TargetPersonTo targetPersonTo = new TargetPersonTo();
+        targetPersonTo.setSalary(1.0);
+
+        MeMapper.from(trainerPersonTo).only("lessons").to(targetPersonTo);
+
+        assertEquals(trainerPersonTo.getLessons(), targetPersonTo.getLessons());
+        assertEquals(Double.valueOf(1.0), targetPersonTo.getSalary());
+        assertNull(targetPersonTo.getId());
+      }
+
+      @Test(expected = NoSuchFieldException.class)
+      public void shouldFail_whenTargetHasNoSuchField() {
+        MeMapper.from(prepareTrainer()).only("unknown").to(new TargetPersonTo());
+      }
+    }
+
     private static TrainerPersonTo prepareTrainer() {
       TrainerPersonTo trainer = new TrainerPersonTo();
 
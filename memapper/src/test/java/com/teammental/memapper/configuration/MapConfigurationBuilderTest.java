@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import com.teammental.memapper.exception.FieldTypesAreNotAssignableException;
 import com.teammental.memapper.exception.NoSuchFieldException;
+import com.teammental.memapper.to.NameTo;
 import com.teammental.memapper.to.TargetPersonTo;
 import com.teammental.memapper.to.TeacherPersonTo;
 import org.junit.Test;
@@ -111,4 +112,47 @@ public class MapConfigurationBuilderTest {
         .build();
   }
 
-}
\ No newline at end of file
+  @Test
+  public void shouldMapProperties_throughGetterAndSetterFunctions() {
+    MapConfiguration configuration = MapConfigurationBuilder
+        .oneWayMapping()
+        .between(TeacherPersonTo.class)
+        .and(TargetPersonTo.class)
+        .mapProperty(TeacherPersonTo::getTitle)
+        .with(TargetPersonTo::setTitle2)
+        .mapProperty(teacher -> teacher.getName().getFirstName())
+        .with(TargetPersonTo::setTitle)
+        .mapField("id")
+        .with("id")
+        .build();
+
+    TeacherPersonTo source = new TeacherPersonTo();
+    source.setId(1);
+    source.setTitle("title");
+    source.setName(new NameTo("first", null, "last"));
+    TargetPersonTo target = new TargetPersonTo();
+    configuration.getPlan().map(source, target);
+
+    assertEquals(2, configuration.getPropertyMappings().size());
+    assertEquals(3, configuration.getPlan().size());
+    assertEquals(Integer.valueOf(1), target.getId());
+    assertEquals("title", target.getTitle2());
+    assertEquals("first", target.getTitle());
+  }
+
+  @Test
+  public void shouldNotReversePropertyMappings() {
+    MapConfiguration configuration = MapConfigurationBuilder
+        .twoWayMapping()
+        .between(TeacherPersonTo.class)
+        .and(TargetPersonTo.class)
+        .mapProperty(TeacherPersonTo::getTitle)
+        .with(TargetPersonTo::setTitle2)
+        .build();
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    registry.register(configuration);
+
+    assertTrue(registry.findConfiguration(TargetPersonTo.class, TeacherPersonTo.class).get()
+        .getPropertyMappings().isEmpty());
+  }
+}
@@ -0,0 +1,254 @@
+package com.teammental.memapper.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.to.PersonTo;
+import com.teammental.memapper.to.TargetPersonTo;
+import com.teammental.memapper.to.TeacherPersonTo;
+import com.teammental.memapper.to.TrainerPersonTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MapConfigurationRegistryTest {
+
+  private final int configurationCacheSize = MapperSettings.getConfigurationCacheSize();
+
+  @After
+  public void tearDown() {
+    MapperSettings.setConfigurationCacheSize(configurationCacheSize);
+  }
+
+  @Test
+  public void shouldCreateDefaultConfigurationOnlyOnce() {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+
+    MapConfiguration first = registry.getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+    MapConfiguration second = registry.getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+
+    assertSame(first, second);
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  public void shouldReturnRegisteredConfiguration_whenRegisteredAfterDefault() {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    registry.getConfiguration(TeacherPersonTo.class, TargetPersonTo.class);
+
+    MapConfiguration configuration = MapConfigurationBuilder
+        .oneWayMapping()
+        .between(TeacherPersonTo.class)
+        .and(TargetPersonTo.class)
+        .mapField("title")
+        .with("title2")
+        .build();
+    registry.register(configuration);
+
+    assertSame(configuration,
+        registry.getConfiguration(TeacherPersonTo.class, TargetPersonTo.class));
+  }
+
+  @Test
+  public void shouldRegisterReverseConfiguration_whenTwoWayMapping() {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+
+    MapConfiguration configuration = MapConfigurationBuilder
+        .twoWayMapping()
+        .between(TeacherPersonTo.class)
+        .and(TargetPersonTo.class)
+        .mapField("title")
+        .with("title2")
+        .build();
+    registry.register(configuration);
+
+    MapConfiguration reverse = registry.getConfiguration(TargetPersonTo.class,
+        TeacherPersonTo.class);
+
+    assertEquals(2, registry.size());
+    assertEquals(TargetPersonTo.class, reverse.getSourceType());
+    assertEquals(1, reverse.getFieldMap().size());
+  }
+
+  @Test
+  public void shouldMergeConfigurations() {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    MapConfigurationRegistry other = new MapConfigurationRegistry();
+
+    MapConfiguration configuration = MapConfigurationBuilder
+        .oneWayMapping()
+        .between(TeacherPersonTo.class)
+        .and(TargetPersonTo.class)
+        .mapField("title")
+        .with("title2")
+        .build();
+    other.register(configuration);
+
+    registry.merge(other);
+
+    assertSame(configuration,
+        registry.getConfiguration(TeacherPersonTo.class, TargetPersonTo.class));
+  }
+
+  @Test
+  public void shouldReturnSameConfiguration_whenLookedUpConcurrently() throws Exception {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    final int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch ready = new CountDownLatch(threads);
+    CountDownLatch start = new CountDownLatch(1);
+
+    try {
+      List<Future<MapConfiguration>> lookups = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        lookups.add(executor.submit(() -> {
+          ready.countDown();
+          start.await();
+          return registry.getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+        }));
+      }
+
+      // every thread races the first creation of the pair
+      ready.await();
+      start.countDown();
+
+      MapConfiguration expected = lookups.get(0).get();
+      for (Future<MapConfiguration> lookup :
+          lookups) {
+        assertSame(expected, lookup.get());
+      }
+      assertEquals(1, registry.getStatistics().getCreationCount());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldReadConsistently_whileConfigurationsAreRegistered() throws Exception {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      List<Callable<Integer>> tasks = new ArrayList<>();
+      tasks.add(() -> {
+        for (int i = 0; i < 500; i++) {
+          registry.register(MapConfigurationBuilder
+              .twoWayMapping()
+              .between(TeacherPersonTo.class)
+              .and(TargetPersonTo.class)
+              .mapField("title")
+              .with("title2")
+              .build());
+        }
+        return 0;
+      });
+      for (int i = 0; i < 3; i++) {
+        tasks.add(() -> {
+          int reverseMisses = 0;
+          for (int j = 0; j < 5000; j++) {
+            // a two-way registration is published at once with its reverse
+            if (registry.findConfiguration(TeacherPersonTo.class, TargetPersonTo.class)
+                .isPresent()
+                && !registry.findConfiguration(TargetPersonTo.class, TeacherPersonTo.class)
+                .isPresent()) {
+              reverseMisses++;
+            }
+            registry.getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+          }
+          return reverseMisses;
+        });
+      }
+
+      for (Future<Integer> future :
+          executor.invokeAll(tasks)) {
+        assertEquals(Integer.valueOf(0), future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(2, registry.getStatistics().getRegisteredCount());
+  }
+
+  @Test
+  public void shouldEvictOldestDefaultConfiguration_whenCacheIsFull() {
+
+    MapperSettings.setConfigurationCacheSize(2);
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+
+    MapConfiguration first = registry.getConfiguration(TrainerPersonTo.class,
+        TargetPersonTo.class);
+    registry.getConfiguration(TeacherPersonTo.class, TargetPersonTo.class);
+    registry.getConfiguration(PersonTo.class, TargetPersonTo.class);
+
+    assertEquals(2, registry.size());
+    assertFalse(registry.findConfiguration(TrainerPersonTo.class, TargetPersonTo.class)
+        .isPresent());
+    assertNotSame(first, registry.getConfiguration(TrainerPersonTo.class,
+        TargetPersonTo.class));
+  }
+
+  @Test
+  public void shouldNotEvictRegisteredConfigurations() {
+
+    MapperSettings.setConfigurationCacheSize(1);
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+
+    MapConfiguration configuration = MapConfigurationBuilder
+        .oneWayMapping()
+        .between(TeacherPersonTo.class)
+        .and(TargetPersonTo.class)
+        .mapField("title")
+        .with("title2")
+        .build();
+    registry.register(configuration);
+    registry.getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+    registry.getConfiguration(PersonTo.class, TargetPersonTo.class);
+
+    assertSame(configuration,
+        registry.getConfiguration(TeacherPersonTo.class, TargetPersonTo.class));
+    assertTrue(registry.findConfiguration(PersonTo.class, TargetPersonTo.class).isPresent());
+    assertEquals(2, registry.size());
+  }
+
+  @Test
+  public void shouldReportCreationsAndEvictions() {
+
+    MapperSettings.setConfigurationCacheSize(1);
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+
+    registry.getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+    registry.getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+    registry.getConfiguration(PersonTo.class, TargetPersonTo.class);
+
+    RegistryStatistics statistics = registry.getStatistics();
+    assertEquals(0, statistics.getRegisteredCount());
+    assertEquals(1, statistics.getDefaultCount());
+    assertEquals(1, statistics.getMaxDefaultCount());
+    assertEquals(2, statistics.getCreationCount());
+    assertEquals(1, statistics.getEvictionCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldFail_whenConfigurationCacheSizeIsNotPositive() {
+    MapperSettings.setConfigurationCacheSize(0);
+  }
+}
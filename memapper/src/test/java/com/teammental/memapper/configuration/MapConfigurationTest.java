@@ -0,0 +1,96 @@
+package com.teammental.memapper.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.exception.NoSuchFieldException;
+import com.teammental.memapper.to.TargetPersonTo;
+import com.teammental.memapper.to.TeacherPersonTo;
+import com.teammental.memapper.to.TrainerPersonTo;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MapConfigurationTest {
+
+  private final int projectionCacheSize = MapperSettings.getProjectionCacheSize();
+
+  @After
+  public void tearDown() {
+    MapperSettings.setProjectionCacheSize(projectionCacheSize);
+  }
+
+  @Test
+  public void shouldProjectToGivenFields() {
+
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+
+    MapConfiguration projection = configuration.project(
+        new HashSet<>(Arrays.asList("id", "salary")));
+
+    assertEquals(2, projection.getFieldMap().size());
+    assertEquals(2, projection.getPlan().size());
+  }
+
+  @Test
+  public void shouldCacheProjection_whenFieldSetsAreEqual() {
+
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+
+    assertSame(configuration.project(new HashSet<>(Arrays.asList("id", "title"))),
+        configuration.project(new HashSet<>(Arrays.asList("title", "id"))));
+  }
+
+  @Test
+  public void shouldEvictOldestProjection() {
+
+    MapperSettings.setProjectionCacheSize(2);
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(TrainerPersonTo.class, TargetPersonTo.class);
+
+    MapConfiguration id = configuration.project(Collections.singleton("id"));
+    MapConfiguration title = configuration.project(Collections.singleton("title"));
+    configuration.project(Collections.singleton("id"));
+    configuration.project(Collections.singleton("salary"));
+
+    assertSame(title, configuration.project(Collections.singleton("title")));
+    assertNotSame(id, configuration.project(Collections.singleton("id")));
+  }
+
+  @Test
+  public void shouldNotProjectPropertyMappings() {
+
+    MapConfiguration configuration = MapConfigurationBuilder
+        .oneWayMapping()
+        .between(TeacherPersonTo.class)
+        .and(TargetPersonTo.class)
+        .mapProperty(TeacherPersonTo::getTitle)
+        .with(TargetPersonTo::setTitle2)
+        .mapField("id")
+        .with("id")
+        .build();
+
+    MapConfiguration projection = configuration.project(
+        new HashSet<>(Arrays.asList("id", "title2")));
+
+    assertTrue(projection.getPropertyMappings().isEmpty());
+    assertEquals(1, projection.getPlan().size());
+  }
+
+  @Test(expected = NoSuchFieldException.class)
+  public void shouldFail_whenTargetHasNoSuchField() {
+
+    new MapConfigurationRegistry()
+        .getConfiguration(TrainerPersonTo.class, TargetPersonTo.class)
+        .project(Collections.singleton("unknown"));
+  }
+}
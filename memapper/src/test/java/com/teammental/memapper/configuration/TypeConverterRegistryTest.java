@@ -0,0 +1,180 @@
+package com.teammental.memapper.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import com.teammental.memapper.exception.FieldTypesAreNotAssignableException;
+import com.teammental.memapper.to.EnumGender;
+import com.teammental.memapper.to.converter.CounterRow;
+import com.teammental.memapper.to.converter.CounterTo;
+import com.teammental.memapper.to.converter.PersonRecordTo;
+import com.teammental.memapper.to.converter.PersonRow;
+import com.teammental.memapper.util.NumberUtil;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.junit.Test;
+
+public class TypeConverterRegistryTest {
+
+  @Test
+  public void shouldFindDefaultConverters() {
+
+    TypeConverterRegistry registry = TypeConverterRegistry.withDefaults();
+
+    assertEquals(42L, registry.findConverter(String.class, Long.class).get().convert(" 42 "));
+    assertEquals(42L, registry.findConverter(int.class, long.class).get().convert(42));
+    assertEquals(1.5, registry.findConverter(Float.class, Double.class).get().convert(1.5f));
+    assertEquals(EnumGender.MALE, registry.findConverter(String.class, EnumGender.class).get()
+        .convert("MALE"));
+    assertEquals("FEMALE", registry.findConverter(EnumGender.class, String.class).get()
+        .convert(EnumGender.FEMALE));
+    assertFalse(registry.findConverter(String.class, Date.class).isPresent());
+  }
+
+  @Test
+  public void shouldNotFindLossyNumberConverters_byDefault() {
+
+    TypeConverterRegistry registry = TypeConverterRegistry.withDefaults();
+
+    assertFalse(registry.findConverter(long.class, int.class).isPresent());
+    assertFalse(registry.findConverter(Double.class, Integer.class).isPresent());
+    assertFalse(registry.findConverter(Long.class, Double.class).isPresent());
+    assertFalse(registry.findConverter(BigDecimal.class, Double.class).isPresent());
+  }
+
+  @Test
+  public void shouldNotMapNarrowerNumberField_ofDefaultConfiguration() {
+
+    CounterRow row = new CounterRow();
+    row.setTotal(5_000_000_000L);
+    row.setVisits(12);
+
+    CounterTo target = map(new MapConfigurationRegistry(), row, new CounterTo());
+
+    assertNull(target.getTotal());
+    assertEquals(Long.valueOf(12), target.getVisits());
+  }
+
+  @Test
+  public void shouldSkipOnlyFailedField_whenRegisteredNarrowingConverterFails() {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    registry.registerConverter(Long.class, Integer.class, NumberUtil.converter(Integer.class));
+    CounterRow row = new CounterRow();
+    row.setTotal(5_000_000_000L);
+    row.setVisits(12);
+
+    CounterTo target = map(registry, row, new CounterTo());
+
+    assertNull(target.getTotal());
+    assertEquals(Long.valueOf(12), target.getVisits());
+
+    row.setTotal(42L);
+    assertEquals(Integer.valueOf(42), map(registry, row, new CounterTo()).getTotal());
+  }
+
+  @Test
+  public void shouldSkipOnlyFailedField_whenDefaultConverterFails() {
+
+    PersonRow row = new PersonRow();
+    row.setId("not a number");
+    row.setGender("FEMALE");
+
+    PersonRecordTo target = map(new MapConfigurationRegistry(), row, new PersonRecordTo());
+
+    assertNull(target.getId());
+    assertEquals(EnumGender.FEMALE, target.getGender());
+  }
+
+  @Test
+  public void shouldUseConverterOfSuperclass() {
+
+    LocalDateTime dateTime = LocalDateTime.of(2018, 1, 2, 3, 4, 5);
+    Timestamp timestamp = Timestamp.valueOf(dateTime);
+
+    assertEquals(dateTime, TypeConverterRegistry.withDefaults()
+        .findConverter(Timestamp.class, LocalDateTime.class).get().convert(timestamp));
+  }
+
+  @Test
+  public void shouldConvertFields_ofDefaultConfiguration() {
+
+    LocalDateTime birthDate = LocalDateTime.of(1990, 5, 6, 7, 8);
+    PersonRow row = new PersonRow();
+    row.setId("7");
+    row.setBirthDate(Date.from(birthDate.atZone(ZoneId.systemDefault()).toInstant()));
+    row.setGender("FEMALE");
+    row.setScore(90);
+
+    PersonRecordTo target = map(new MapConfigurationRegistry(), row, new PersonRecordTo());
+
+    assertEquals(Long.valueOf(7), target.getId());
+    assertEquals(birthDate, target.getBirthDate());
+    assertEquals(EnumGender.FEMALE, target.getGender());
+    assertEquals("90", target.getScore());
+  }
+
+  @Test
+  public void shouldMapNullWithoutConversion() {
+
+    PersonRecordTo target = map(new MapConfigurationRegistry(), new PersonRow(),
+        new PersonRecordTo());
+
+    assertNull(target.getId());
+    assertNull(target.getBirthDate());
+  }
+
+  @Test
+  public void shouldUseRegisteredConverter() {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    registry.registerConverter(String.class, Long.class, value -> Long.valueOf(value, 16));
+    PersonRow row = new PersonRow();
+    row.setId("ff");
+
+    assertEquals(Long.valueOf(255), map(registry, row, new PersonRecordTo()).getId());
+  }
+
+  @Test
+  public void shouldMapFieldThroughConverter_ofBuilder() {
+
+    MapConfiguration configuration = MapConfigurationBuilder.twoWayMapping()
+        .between(PersonRow.class)
+        .and(PersonRecordTo.class)
+        .mapField("id")
+        .with("id", (String value) -> Long.valueOf(value.substring(1)))
+        .build();
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    registry.register(configuration);
+    PersonRow row = new PersonRow();
+    row.setId("#12");
+    PersonRecordTo record = new PersonRecordTo();
+    record.setId(13L);
+
+    assertEquals(Long.valueOf(12), map(registry, row, new PersonRecordTo()).getId());
+    // mapped back by the default Long to String converter
+    assertEquals("13", map(registry, record, new PersonRow()).getId());
+  }
+
+  @Test(expected = FieldTypesAreNotAssignableException.class)
+  public void shouldFail_whenBuilderFieldTypesDifferWithoutConverter() {
+
+    MapConfigurationBuilder.oneWayMapping()
+        .between(PersonRow.class)
+        .and(PersonRecordTo.class)
+        .mapField("id")
+        .with("id");
+  }
+
+  private static <T> T map(MapConfigurationRegistry registry, Object source, T target) {
+
+    registry.getConfiguration(source.getClass(), target.getClass()).getPlan().map(source, target);
+    return target;
+  }
+}
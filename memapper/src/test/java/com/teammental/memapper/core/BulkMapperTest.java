@@ -0,0 +1,137 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BulkMapperTest {
+
+  private static ExecutorService executor;
+
+  @BeforeClass
+  public static void setUpClass() {
+
+    executor = Executors.newFixedThreadPool(2);
+    MapConfigurationRegistrySingleton.getSingleton()
+        .registerConverter(SlowId.class, Integer.class, SlowId::read);
+  }
+
+  @AfterClass
+  public static void tearDownClass() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void shouldMapInOrder_whenMappedInParallel() throws TargetTypeInstantiationException {
+
+    List<SlowSource> sources = prepareSources(100, -1);
+
+    List<PlainTarget> targets = new BulkMapper<SlowSource, PlainTarget>(PlainTarget.class,
+        executor, 10).map(sources);
+
+    assertEquals(100, targets.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Integer.valueOf(i), targets.get(i).getId());
+    }
+  }
+
+  @Test
+  public void shouldAwaitSubmittedChunks_whenCallerChunkFails() throws Exception {
+
+    BulkMapper<SlowSource, PlainTarget> bulkMapper = new BulkMapper<>(PlainTarget.class,
+        executor, 10);
+
+    try {
+      bulkMapper.map(prepareSources(200, 0));
+      fail("the failure of the first source is expected to be thrown");
+    } catch (TargetTypeInstantiationException ex) {
+      // no chunk is left reading sources once the failure is thrown
+      int reads = SlowId.READS.get();
+      Thread.sleep(50);
+      assertEquals(reads, SlowId.READS.get());
+    }
+  }
+
+  private static List<SlowSource> prepareSources(int size, int failingId) {
+
+    List<SlowSource> sources = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      sources.add(new SlowSource(i, i == failingId));
+    }
+    return sources;
+  }
+
+  public static class SlowSource {
+
+    private final SlowId id;
+
+    SlowSource(Integer id, boolean failing) {
+      this.id = new SlowId(id, failing);
+    }
+
+    public SlowId getId() {
+      return id;
+    }
+  }
+
+  public static class SlowId {
+
+    private static final AtomicInteger READS = new AtomicInteger();
+
+    private final Integer value;
+    private final boolean failing;
+
+    SlowId(Integer value, boolean failing) {
+      this.value = value;
+      this.failing = failing;
+    }
+
+    /**
+     * Takes a while, the failing id is read as a negative value.
+     */
+    Integer read() {
+
+      if (failing) {
+        return -1;
+      }
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      READS.incrementAndGet();
+      return value;
+    }
+  }
+
+  public static class PlainTarget {
+
+    private final Integer id;
+
+    /**
+     * Created through the canonical constructor, fails for negative ids.
+     */
+    public PlainTarget(Integer id) {
+
+      if (id < 0) {
+        throw new IllegalArgumentException("id can not be negative");
+      }
+      this.id = id;
+    }
+
+    public Integer getId() {
+      return id;
+    }
+  }
+}
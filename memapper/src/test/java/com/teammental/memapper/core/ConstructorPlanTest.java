@@ -0,0 +1,107 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+import com.teammental.memapper.to.AnnotatedConstructorPersonTo;
+import com.teammental.memapper.to.ImmutablePersonTo;
+import com.teammental.memapper.to.TargetPersonNoEmptyConstructorTo;
+import com.teammental.memapper.to.TeacherPersonTo;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ConstructorPlanTest {
+
+  @Test
+  public void shouldCompilePlanOnlyOnce() {
+
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(TeacherPersonTo.class, ImmutablePersonTo.class);
+
+    assertSame(configuration.getConstructorPlan().get(),
+        configuration.getConstructorPlan().get());
+    assertEquals(4, configuration.getConstructorPlan().get().size());
+  }
+
+  @Test
+  public void shouldNotCompilePlan_whenNoMappingConstructor() {
+
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(TeacherPersonTo.class, TargetPersonNoEmptyConstructorTo.class);
+
+    assertFalse(configuration.getConstructorPlan().isPresent());
+  }
+
+  @Test
+  public void shouldMapThroughCanonicalConstructor() {
+
+    TeacherPersonTo source = prepareTeacherDto();
+
+    ImmutablePersonTo target = (ImmutablePersonTo) MeMapper.from(source)
+        .to(ImmutablePersonTo.class);
+
+    assertEquals(source.getId(), target.getId());
+    assertEquals(source.getTitle(), target.getTitle());
+    assertSame(source.getName(), target.getName());
+    assertEquals(source.getSalary(), target.getSalary(), 0);
+  }
+
+  @Test
+  public void shouldMapThroughAnnotatedConstructor() {
+
+    TeacherPersonTo source = prepareTeacherDto();
+
+    AnnotatedConstructorPersonTo target = (AnnotatedConstructorPersonTo) MeMapper.from(source)
+        .to(AnnotatedConstructorPersonTo.class);
+
+    assertEquals(source.getId(), target.getId());
+    assertEquals(source.getTitle(), target.getTitle());
+    assertEquals("default", target.getCode());
+  }
+
+  @Test
+  public void shouldMapListThroughConstructor() {
+
+    List<TeacherPersonTo> sources = Arrays.asList(prepareTeacherDto(), prepareTeacherDto());
+
+    List<ImmutablePersonTo> targets = (List<ImmutablePersonTo>) MeMapper.from(sources)
+        .to(ImmutablePersonTo.class);
+
+    assertEquals(2, targets.size());
+    assertEquals(sources.get(1).getId(), targets.get(1).getId());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldFail_whenNullIsPassedToPrimitive() throws TargetTypeInstantiationException {
+
+    TeacherPersonTo source = prepareTeacherDto();
+    source.setSalary(null);
+
+    new MapConfigurationRegistry()
+        .getConfiguration(TeacherPersonTo.class, ImmutablePersonTo.class)
+        .getConstructorPlan().get()
+        .create(source);
+  }
+
+  @Test
+  public void shouldReturnNull_whenNoMappingConstructor() {
+
+    assertNull(MeMapper.from(prepareTeacherDto()).to(TargetPersonNoEmptyConstructorTo.class));
+  }
+
+  private static TeacherPersonTo prepareTeacherDto() {
+
+    TeacherPersonTo source = MapWorkerTest.prepareTeacherDto();
+    source.setSalary(10.5);
+    return source;
+  }
+}
@@ -0,0 +1,120 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.configuration.MapConfigurationBuilder;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class GeneratedMapperRegistryTest {
+
+  private static final GeneratedMapper<SourceTo, TargetTo> MAPPER =
+      new GeneratedMapper<SourceTo, TargetTo>() {
+        @Override
+        public Class<SourceTo> getSourceType() {
+          return SourceTo.class;
+        }
+
+        @Override
+        public Class<TargetTo> getTargetType() {
+          return TargetTo.class;
+        }
+
+        @Override
+        public void map(SourceTo source, TargetTo target) {
+          target.setName("generated:" + source.getName());
+        }
+      };
+
+  @BeforeClass
+  public static void setUpClass() {
+
+    GeneratedMapperRegistry.register(MAPPER);
+  }
+
+  @After
+  public void cleanUp() {
+
+    MapConfigurationRegistrySingleton.clean();
+  }
+
+  @Test
+  public void shouldFindRegisteredMapper() {
+
+    assertSame(MAPPER, GeneratedMapperRegistry.find(SourceTo.class, TargetTo.class));
+    assertNull(GeneratedMapperRegistry.find(TargetTo.class, SourceTo.class));
+  }
+
+  @Test
+  public void shouldMapWithGeneratedMapper() {
+
+    SourceTo source = new SourceTo();
+    source.setName("name");
+
+    TargetTo target = (TargetTo) MeMapper.from(source).to(TargetTo.class);
+
+    assertEquals("generated:name", target.getName());
+  }
+
+  @Test
+  public void shouldMapWithGeneratedMapper_whenDefaultConfigurationIsCreated() {
+
+    MapConfigurationRegistrySingleton.getSingleton()
+        .getConfiguration(SourceTo.class, TargetTo.class);
+
+    SourceTo source = new SourceTo();
+    source.setName("name");
+
+    TargetTo target = (TargetTo) MeMapper.from(source).to(TargetTo.class);
+
+    assertEquals("generated:name", target.getName());
+  }
+
+  @Test
+  public void shouldMapWithRegisteredConfiguration_whenConfigurationIsRegistered() {
+
+    MapConfigurationRegistrySingleton.getSingleton().register(MapConfigurationBuilder
+        .oneWayMapping()
+        .between(SourceTo.class)
+        .and(TargetTo.class)
+        .mapField("name")
+        .with("name")
+        .build());
+
+    SourceTo source = new SourceTo();
+    source.setName("name");
+
+    TargetTo target = (TargetTo) MeMapper.from(source).to(TargetTo.class);
+
+    assertEquals("name", target.getName());
+  }
+
+  public static class SourceTo {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class TargetTo {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+}
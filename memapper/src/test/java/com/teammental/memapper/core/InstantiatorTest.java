@@ -0,0 +1,92 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.teammental.memapper.exception.TargetTypeInstantiationException;
+import com.teammental.memapper.to.PersonTo;
+import com.teammental.memapper.to.TargetPersonNoEmptyConstructorTo;
+
+import java.io.Serializable;
+
+import org.junit.Test;
+
+public class InstantiatorTest {
+
+  @Test
+  public void shouldCreateNewInstances() throws TargetTypeInstantiationException {
+
+    Instantiator<PersonTo> instantiator = Instantiator.of(PersonTo.class);
+
+    PersonTo first = instantiator.newInstance();
+    PersonTo second = instantiator.newInstance();
+
+    assertTrue(instantiator.isInstantiable());
+    assertNotNull(first);
+    assertNotSame(first, second);
+    assertSame(instantiator, Instantiator.of(PersonTo.class));
+  }
+
+  @Test
+  public void shouldCreateInstance_whenTypeIsNotPublic() throws TargetTypeInstantiationException {
+
+    assertNotNull(Instantiator.of(HiddenTo.class).newInstance());
+  }
+
+  @Test
+  public void shouldReuseFailure_whenNoPublicNoArgConstructor() {
+
+    Instantiator<TargetPersonNoEmptyConstructorTo> instantiator =
+        Instantiator.of(TargetPersonNoEmptyConstructorTo.class);
+
+    assertFalse(instantiator.isInstantiable());
+    assertSame(instantiator.getFailure(), newInstanceFailure(instantiator));
+    assertSame(instantiator.getFailure(), newInstanceFailure(instantiator));
+  }
+
+  @Test
+  public void shouldFail_whenTypeIsAbstractOrInterface() {
+
+    assertFalse(Instantiator.of(AbstractTo.class).isInstantiable());
+    assertFalse(Instantiator.of(Serializable.class).isInstantiable());
+  }
+
+  @Test
+  public void shouldWrapConstructorException() {
+
+    Instantiator<FailingTo> instantiator = Instantiator.of(FailingTo.class);
+
+    assertTrue(instantiator.isInstantiable());
+    assertTrue(newInstanceFailure(instantiator).getCause() instanceof IllegalStateException);
+  }
+
+  private static TargetTypeInstantiationException newInstanceFailure(
+      Instantiator<?> instantiator) {
+
+    try {
+      instantiator.newInstance();
+    } catch (TargetTypeInstantiationException ex) {
+      return ex;
+    }
+    fail();
+    return null;
+  }
+
+  static class HiddenTo {
+    public HiddenTo() {
+    }
+  }
+
+  public abstract static class AbstractTo {
+  }
+
+  public static class FailingTo {
+    public FailingTo() {
+      throw new IllegalStateException();
+    }
+  }
+}
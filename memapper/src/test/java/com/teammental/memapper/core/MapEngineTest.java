@@ -0,0 +1,160 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.to.AllPrimitivesTo;
+import com.teammental.memapper.to.BooleanTypesTo;
+import com.teammental.memapper.to.PrimitiveTypeTo;
+import com.teammental.memapper.to.TargetPersonTo;
+import com.teammental.memapper.to.TeacherPersonTo;
+import com.teammental.memapper.to.WrapperTypeTo;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MapEngineTest {
+
+  @Before
+  public void setUp() {
+
+    MapperSettings.setEngine(MapEngine.LAMBDA);
+  }
+
+  @After
+  public void cleanUp() {
+
+    MapperSettings.setEngine(MapEngine.REFLECTION);
+  }
+
+  @Test
+  public void shouldResolveEngineByName() {
+
+    assertEquals(MapEngine.LAMBDA, MapEngine.fromName(" Lambda "));
+    assertEquals(MapEngine.REFLECTION, MapEngine.fromName("reflection"));
+    assertEquals(MapEngine.REFLECTION, MapEngine.fromName(null));
+    assertEquals(MapEngine.REFLECTION, MapEngine.fromName("unknown"));
+  }
+
+  @Test
+  public void shouldMapFields_whenLambdaEngine() {
+
+    TeacherPersonTo source = MapWorkerTest.prepareTeacherDto();
+    source.setSalary(10.5);
+    TargetPersonTo target = new TargetPersonTo();
+
+    plan(TeacherPersonTo.class, TargetPersonTo.class).map(source, target);
+
+    assertEquals(source.getId(), target.getId());
+    assertEquals(source.getTitle(), target.getTitle());
+    assertEquals(source.getTitle2(), target.getTitle2());
+    assertEquals(source.getSalary(), target.getSalary());
+  }
+
+  @Test
+  public void shouldMapPrimitivesToWrappers_whenLambdaEngine() {
+
+    PrimitiveTypeTo source = new PrimitiveTypeTo();
+    source.setId(1);
+    source.setLid(2L);
+    source.setDid(3.0);
+    source.setBid(true);
+    source.setCid('c');
+    WrapperTypeTo target = new WrapperTypeTo();
+
+    plan(PrimitiveTypeTo.class, WrapperTypeTo.class).map(source, target);
+
+    assertEquals(Integer.valueOf(1), target.getId());
+    assertEquals(Long.valueOf(2L), target.getLid());
+    assertEquals(Double.valueOf(3.0), target.getDid());
+    assertEquals(Boolean.TRUE, target.getBid());
+    assertEquals(Character.valueOf('c'), target.getCid());
+  }
+
+  @Test
+  public void shouldMapPrimitivesWithoutBoxing_whenLambdaEngine() throws Exception {
+
+    AllPrimitivesTo source = new AllPrimitivesTo();
+    source.setBid((byte) 1);
+    source.setSid((short) 2);
+    source.setIid(3);
+    source.setLid(4L);
+    source.setFid(5.5f);
+    source.setDid(6.5);
+    source.setActive(true);
+    source.setCid('c');
+    AllPrimitivesTo target = new AllPrimitivesTo();
+
+    plan(AllPrimitivesTo.class, AllPrimitivesTo.class).map(source, target);
+
+    assertEquals(1, target.getBid());
+    assertEquals(2, target.getSid());
+    assertEquals(3, target.getIid());
+    assertEquals(4L, target.getLid());
+    assertEquals(5.5f, target.getFid(), 0);
+    assertEquals(6.5, target.getDid(), 0);
+    assertEquals(true, target.isActive());
+    assertEquals('c', target.getCid());
+
+    assertTrue(MapEngine.LAMBDA.createTransfer(AllPrimitivesTo.class.getMethod("getLid"),
+        AllPrimitivesTo.class.getMethod("setLid", long.class))
+        instanceof PrimitivePropertyTransfer.LongTransfer);
+    assertTrue(MapEngine.LAMBDA.createTransfer(AllPrimitivesTo.class.getMethod("isActive"),
+        AllPrimitivesTo.class.getMethod("setActive", boolean.class))
+        instanceof PrimitivePropertyTransfer.BooleanTransfer);
+  }
+
+  @Test
+  public void shouldMapBooleanGetters_whenLambdaEngine() {
+
+    BooleanTypesTo source = new BooleanTypesTo();
+    source.setNameBeginsWithIsAndPrimitive(true);
+    source.setNameBeginsWithIsAndWrapper(true);
+    BooleanTypesTo target = new BooleanTypesTo();
+
+    plan(BooleanTypesTo.class, BooleanTypesTo.class).map(source, target);
+
+    assertEquals(true, target.isNameBeginsWithIsAndPrimitive());
+    assertEquals(true, target.isNameBeginsWithIsAndWrapper());
+  }
+
+  @Test
+  public void shouldFallBackToReflection_whenTypeIsNotPublic() {
+
+    HiddenTo source = new HiddenTo();
+    source.setName("name");
+    HiddenTo target = new HiddenTo();
+
+    plan(HiddenTo.class, HiddenTo.class).map(source, target);
+
+    assertEquals("name", target.getName());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldFail_whenNullIsMappedToPrimitive() {
+
+    WrapperTypeTo source = new WrapperTypeTo();
+    PrimitiveTypeTo target = new PrimitiveTypeTo();
+
+    plan(WrapperTypeTo.class, PrimitiveTypeTo.class).map(source, target);
+  }
+
+  private static MapPlan plan(Class<?> sourceType, Class<?> targetType) {
+
+    return new MapConfigurationRegistry().getConfiguration(sourceType, targetType).getPlan();
+  }
+
+  static class HiddenTo {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+}
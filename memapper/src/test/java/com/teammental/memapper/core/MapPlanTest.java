@@ -0,0 +1,55 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.to.PersonTo;
+import com.teammental.memapper.to.TargetPersonTo;
+import com.teammental.memapper.to.TeacherPersonTo;
+
+import org.junit.Test;
+
+public class MapPlanTest {
+
+  @Test
+  public void shouldCompilePlanOnlyOnce() {
+
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(TeacherPersonTo.class, TargetPersonTo.class);
+
+    assertSame(configuration.getPlan(), configuration.getPlan());
+  }
+
+  @Test
+  public void shouldContainOnlyAccessibleFields() {
+
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(TeacherPersonTo.class, PersonTo.class);
+
+    // noSetter, notAccessibleSetter, noGetter and noAccessibleGetter are left out
+    assertEquals(5, configuration.getPlan().size());
+  }
+
+  @Test
+  public void shouldMapFields() {
+
+    MapPlan plan = new MapConfigurationRegistry()
+        .getConfiguration(TeacherPersonTo.class, TargetPersonTo.class)
+        .getPlan();
+
+    TeacherPersonTo source = MapWorkerTest.prepareTeacherDto();
+    source.setSalary(10.5);
+    TargetPersonTo target = new TargetPersonTo();
+
+    plan.map(source, target);
+
+    assertEquals(source.getId(), target.getId());
+    assertEquals(source.getTitle(), target.getTitle());
+    assertEquals(source.getTitle2(), target.getTitle2());
+    assertEquals(source.getSalary(), target.getSalary());
+    assertNull(target.getLessons());
+  }
+}
@@ -0,0 +1,191 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.to.nested.DepartmentEntity;
+import com.teammental.memapper.to.nested.DepartmentTo;
+import com.teammental.memapper.to.nested.EmployeeEntity;
+import com.teammental.memapper.to.nested.EmployeeTo;
+import com.teammental.memapper.to.nested.RosterEntity;
+import com.teammental.memapper.to.nested.RosterTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class NestedMappingTest {
+
+  @Test
+  public void shouldMapNestedObject() {
+
+    EmployeeEntity employee = employee(1, department(10, null));
+
+    EmployeeTo target = (EmployeeTo) MeMapper.from(employee).to(EmployeeTo.class);
+
+    assertEquals(employee.getName(), target.getName());
+    assertEquals(Integer.valueOf(10), target.getDepartment().getId());
+    assertEquals("department10", target.getDepartment().getName());
+    assertNull(target.getDepartment().getManager());
+  }
+
+  @Test
+  public void shouldResolveCyclicReferenceToMappedTarget() {
+
+    DepartmentEntity department = department(10, null);
+    EmployeeEntity employee = employee(1, department);
+    department.setManager(employee);
+
+    EmployeeTo target = (EmployeeTo) MeMapper.from(employee).to(EmployeeTo.class);
+
+    assertSame(target, target.getDepartment().getManager());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldMapSharedReferenceOnce_whenListIsMapped() {
+
+    DepartmentEntity department = department(10, null);
+    List<EmployeeEntity> employees = Arrays.asList(employee(1, department),
+        employee(2, department));
+
+    List<EmployeeTo> targets = (List<EmployeeTo>) MeMapper.from(employees).to(EmployeeTo.class);
+
+    assertNotNull(targets.get(0).getDepartment());
+    assertSame(targets.get(0).getDepartment(), targets.get(1).getDepartment());
+  }
+
+  @Test
+  public void shouldStopAtMaxDepth() throws Exception {
+
+    EmployeeEntity second = employee(2, department(20, null));
+    EmployeeEntity first = employee(1, department(10, second));
+
+    EmployeeTo target = TypeMapper.<EmployeeEntity, EmployeeTo>resolve(EmployeeEntity.class,
+        EmployeeTo.class).create(first, new MappingContext(2));
+
+    DepartmentTo department = target.getDepartment();
+    assertEquals(Integer.valueOf(2), department.getManager().getId());
+    assertNull(department.getManager().getDepartment());
+  }
+
+  @Test
+  public void shouldCompileNestedPlan_onlyForNestedFields() {
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+
+    MapPlan plan = registry.getConfiguration(EmployeeEntity.class, EmployeeTo.class).getPlan();
+
+    assertTrue(plan.isNested());
+    assertEquals(3, plan.size());
+    assertTrue(registry.getConfiguration(DepartmentEntity.class, DepartmentTo.class)
+        .getPlan().isNested());
+    assertFalse(registry.getConfiguration(EmployeeTo.class, EmployeeTo.class)
+        .getPlan().isNested());
+  }
+
+  @Test
+  public void shouldMapCollectionElements() {
+
+    DepartmentEntity department = department(10, null);
+    department.setEmployees(Arrays.asList(employee(1, department), employee(2, department)));
+
+    DepartmentTo target = (DepartmentTo) MeMapper.from(department).to(DepartmentTo.class);
+
+    List<EmployeeTo> employees = target.getEmployees();
+    assertEquals(2, employees.size());
+    assertEquals(Integer.valueOf(1), employees.get(0).getId());
+    assertEquals(Integer.valueOf(2), employees.get(1).getId());
+    assertSame(target, employees.get(0).getDepartment());
+  }
+
+  @Test
+  public void shouldMapMapValues() {
+
+    EmployeeEntity manager = employee(1, null);
+    DepartmentEntity department = department(10, manager);
+    Map<String, EmployeeEntity> employeesByRole = new LinkedHashMap<>();
+    employeesByRole.put("manager", manager);
+    employeesByRole.put("developer", employee(2, null));
+    department.setEmployeesByRole(employeesByRole);
+
+    DepartmentTo target = (DepartmentTo) MeMapper.from(department).to(DepartmentTo.class);
+
+    assertEquals(Arrays.asList("manager", "developer"),
+        new ArrayList<>(target.getEmployeesByRole().keySet()));
+    assertSame(target.getManager(), target.getEmployeesByRole().get("manager"));
+    assertEquals(Integer.valueOf(2), target.getEmployeesByRole().get("developer").getId());
+  }
+
+  @Test
+  public void shouldKeepNullElements() {
+
+    DepartmentEntity department = department(10, null);
+    department.setEmployees(Arrays.asList(employee(1, null), null));
+
+    DepartmentTo target = (DepartmentTo) MeMapper.from(department).to(DepartmentTo.class);
+
+    assertEquals(2, target.getEmployees().size());
+    assertNull(target.getEmployees().get(1));
+  }
+
+  @Test
+  public void shouldNotMapSortedSet_whenElementsAreNotComparable() {
+
+    RosterEntity roster = new RosterEntity();
+    roster.setMembers(new HashSet<>(Arrays.asList(employee(1, null), employee(2, null))));
+    roster.setRanks(new HashSet<>(Arrays.asList(employee(3, null), employee(2, null))));
+
+    RosterTo target = (RosterTo) MeMapper.from(roster).to(RosterTo.class);
+
+    assertNull(target.getMembers());
+    assertEquals(Integer.valueOf(2), target.getRanks().first().getId());
+    assertEquals(Integer.valueOf(3), target.getRanks().last().getId());
+  }
+
+  @Test
+  public void shouldLeaveNullElementsOutOfSortedSet() {
+
+    RosterEntity roster = new RosterEntity();
+    roster.setRanks(new HashSet<>(Arrays.asList(employee(1, null), null)));
+
+    RosterTo target = (RosterTo) MeMapper.from(roster).to(RosterTo.class);
+
+    assertEquals(1, target.getRanks().size());
+    assertEquals(Integer.valueOf(1), target.getRanks().first().getId());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldFail_whenMaxDepthIsNegative() {
+    MapperSettings.setMaxDepth(-1);
+  }
+
+  private static EmployeeEntity employee(int id, DepartmentEntity department) {
+
+    EmployeeEntity employee = new EmployeeEntity();
+    employee.setId(id);
+    employee.setName("employee" + id);
+    employee.setDepartment(department);
+    return employee;
+  }
+
+  private static DepartmentEntity department(int id, EmployeeEntity manager) {
+
+    DepartmentEntity department = new DepartmentEntity();
+    department.setId(id);
+    department.setName("department" + id);
+    department.setManager(manager);
+    return department;
+  }
+}
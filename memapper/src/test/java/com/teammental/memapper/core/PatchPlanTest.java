@@ -0,0 +1,101 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.to.EnumGender;
+import com.teammental.memapper.to.converter.PersonRecordTo;
+import com.teammental.memapper.to.converter.PersonRow;
+import com.teammental.memapper.to.nested.DepartmentEntity;
+import com.teammental.memapper.to.nested.EmployeeEntity;
+import com.teammental.memapper.to.nested.EmployeeTo;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class PatchPlanTest {
+
+  @Test
+  public void shouldCompilePlanOnlyOnce() {
+
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(EmployeeEntity.class, EmployeeTo.class);
+
+    assertSame(configuration.getPatchPlan(), configuration.getPatchPlan());
+    // department is nested and is not patched
+    assertEquals(2, configuration.getPatchPlan().size());
+  }
+
+  @Test
+  public void shouldSkipNullFields() {
+
+    EmployeeEntity source = new EmployeeEntity();
+    source.setId(1);
+    EmployeeTo target = new EmployeeTo();
+    target.setId(2);
+    target.setName("name");
+
+    Set<String> changedFields = MeMapper.from(source).patch(target);
+
+    assertEquals(Collections.singleton("id"), changedFields);
+    assertEquals(Integer.valueOf(1), target.getId());
+    assertEquals("name", target.getName());
+  }
+
+  @Test
+  public void shouldReportNoChange_whenValuesAreEqual() {
+
+    EmployeeEntity source = new EmployeeEntity();
+    source.setId(1);
+    source.setName("name");
+    EmployeeTo target = new EmployeeTo();
+    target.setId(1);
+    target.setName(new String("name"));
+
+    assertTrue(MeMapper.from(source).patch(target).isEmpty());
+  }
+
+  @Test
+  public void shouldNotPatchNestedFields() {
+
+    EmployeeEntity source = new EmployeeEntity();
+    source.setDepartment(new DepartmentEntity());
+    EmployeeTo target = new EmployeeTo();
+
+    assertTrue(MeMapper.from(source).patch(target).isEmpty());
+    assertNull(target.getDepartment());
+  }
+
+  @Test
+  public void shouldSkipField_whenConverterFails() {
+
+    PersonRow source = new PersonRow();
+    source.setId("not a number");
+    source.setGender("FEMALE");
+    PersonRecordTo target = new PersonRecordTo();
+
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    registry.registerConverter(String.class, Long.class, Long::valueOf);
+    Set<String> changedFields = registry
+        .getConfiguration(PersonRow.class, PersonRecordTo.class)
+        .getPatchPlan().patch(source, target);
+
+    assertFalse(changedFields.contains("id"));
+    assertTrue(changedFields.contains("gender"));
+    assertNull(target.getId());
+    assertEquals(EnumGender.FEMALE, target.getGender());
+  }
+
+  @Test
+  public void shouldReportNoChange_whenTargetIsNull() {
+    assertTrue(MeMapper.from(new EmployeeEntity()).patch(null).isEmpty());
+  }
+}
@@ -0,0 +1,132 @@
+package com.teammental.memapper.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.configuration.MapConfiguration;
+import com.teammental.memapper.configuration.MapConfigurationBuilder;
+import com.teammental.memapper.configuration.MapConfigurationRegistry;
+import com.teammental.memapper.configuration.PropertyPath;
+import com.teammental.memapper.exception.NoSuchFieldException;
+import com.teammental.memapper.to.flatten.AddressEntity;
+import com.teammental.memapper.to.flatten.CustomerEntity;
+import com.teammental.memapper.to.flatten.OrderEntity;
+import com.teammental.memapper.to.flatten.OrderSummaryTo;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class PathMappingTest {
+
+  @Test
+  public void shouldFindFlattenedPath() {
+
+    assertEquals("customer.address.city",
+        PropertyPath.unflatten(OrderEntity.class, "customerAddressCity").get().getName());
+    assertEquals("customer.name",
+        PropertyPath.unflatten(OrderEntity.class, "customerName").get().getName());
+    assertFalse(PropertyPath.unflatten(OrderEntity.class, "customerPhone").isPresent());
+    assertFalse(PropertyPath.unflatten(OrderEntity.class, "id").isPresent());
+  }
+
+  @Test
+  public void shouldFlattenNestedProperties_byDefault() {
+
+    OrderSummaryTo target = (OrderSummaryTo) MeMapper.from(order()).to(OrderSummaryTo.class);
+
+    assertEquals(Long.valueOf(1), target.getId());
+    assertEquals("customer", target.getCustomerName());
+    assertEquals("Ankara", target.getCustomerAddressCity());
+    // converted from String
+    assertEquals(Integer.valueOf(6100), target.getCustomerAddressZip());
+  }
+
+  @Test
+  public void shouldMapNull_whenNestedPropertyIsNull() {
+
+    OrderEntity order = order();
+    order.getCustomer().setAddress(null);
+    OrderSummaryTo target = new OrderSummaryTo();
+    target.setCustomerAddressCity("city");
+
+    MeMapper.from(order).to(target);
+
+    assertEquals("customer", target.getCustomerName());
+    assertNull(target.getCustomerAddressCity());
+  }
+
+  @Test
+  public void shouldMapProjectedPaths_only() {
+
+    OrderSummaryTo target = (OrderSummaryTo) MeMapper.from(order())
+        .only("customerAddressCity").to(OrderSummaryTo.class);
+
+    assertNull(target.getId());
+    assertNull(target.getCustomerName());
+    assertEquals("Ankara", target.getCustomerAddressCity());
+  }
+
+  @Test
+  public void shouldUnflattenProperties_ofReverseConfiguration() {
+
+    MapConfiguration configuration = MapConfigurationBuilder.twoWayMapping()
+        .between(OrderEntity.class)
+        .and(OrderSummaryTo.class)
+        .mapField("customer.address.city")
+        .with("customerAddressCity")
+        .mapField("customer.address.zip")
+        .with("customerAddressZip", (String zip) -> Integer.valueOf(zip))
+        .build();
+    MapConfigurationRegistry registry = new MapConfigurationRegistry();
+    registry.register(configuration);
+    OrderSummaryTo summary = new OrderSummaryTo();
+    summary.setCustomerAddressCity("Izmir");
+    summary.setCustomerAddressZip(35000);
+    OrderEntity order = new OrderEntity();
+
+    registry.getConfiguration(OrderSummaryTo.class, OrderEntity.class).getPlan()
+        .map(summary, order);
+
+    assertEquals("Izmir", order.getCustomer().getAddress().getCity());
+    assertEquals("35000", order.getCustomer().getAddress().getZip());
+    assertNull(order.getCustomer().getName());
+  }
+
+  @Test(expected = NoSuchFieldException.class)
+  public void shouldFail_whenPathDoesNotExist() {
+
+    MapConfigurationBuilder.oneWayMapping()
+        .between(OrderEntity.class)
+        .and(OrderSummaryTo.class)
+        .mapField("customer.phone");
+  }
+
+  @Test
+  public void shouldCompilePathsOnlyOnce() {
+
+    MapConfiguration configuration = new MapConfigurationRegistry()
+        .getConfiguration(OrderEntity.class, OrderSummaryTo.class);
+
+    assertEquals(3, configuration.getPathMappings().size());
+    assertEquals(4, configuration.getPlan().size());
+    assertEquals(Collections.emptyList(), new MapConfigurationRegistry()
+        .getConfiguration(OrderSummaryTo.class, OrderEntity.class).getPathMappings());
+  }
+
+  private static OrderEntity order() {
+
+    AddressEntity address = new AddressEntity();
+    address.setCity("Ankara");
+    address.setZip("6100");
+    CustomerEntity customer = new CustomerEntity();
+    customer.setName("customer");
+    customer.setAddress(address);
+    OrderEntity order = new OrderEntity();
+    order.setId(1L);
+    order.setCustomer(customer);
+    return order;
+  }
+}
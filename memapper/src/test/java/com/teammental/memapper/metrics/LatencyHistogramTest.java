@@ -0,0 +1,39 @@
+package com.teammental.memapper.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void shouldBoundEveryDurationWithinAQuarter() {
+
+    for (long nanos = 0; nanos < 1_000_000; nanos = nanos * 3 / 2 + 1) {
+      long upperBound = LatencyHistogram.upperBound(LatencyHistogram.index(nanos));
+      assertTrue(upperBound >= nanos);
+      assertTrue(upperBound <= nanos * 5 / 4 + 1);
+    }
+    assertTrue(LatencyHistogram.upperBound(LatencyHistogram.index(Long.MAX_VALUE)) > 0);
+  }
+
+  @Test
+  public void shouldReportPercentiles() {
+
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 99; i++) {
+      histogram.record(1000);
+    }
+    histogram.record(1_000_000);
+
+    assertTrue(histogram.percentile(0.5) >= 1000);
+    assertTrue(histogram.percentile(0.99) < 1250);
+    assertTrue(histogram.percentile(1) >= 1_000_000);
+  }
+
+  @Test
+  public void shouldReportZero_whenNothingIsRecorded() {
+    assertEquals(0, new LatencyHistogram().percentile(0.99));
+  }
+}
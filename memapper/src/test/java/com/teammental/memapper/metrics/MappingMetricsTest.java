@@ -0,0 +1,130 @@
+package com.teammental.memapper.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import com.teammental.memapper.MeMapper;
+import com.teammental.memapper.core.MapperSettings;
+import com.teammental.memapper.to.TargetPersonTo;
+import com.teammental.memapper.to.TeacherPersonTo;
+import com.teammental.memapper.to.nested.DepartmentEntity;
+import com.teammental.memapper.to.nested.DepartmentTo;
+import com.teammental.memapper.to.nested.EmployeeEntity;
+import com.teammental.memapper.to.nested.EmployeeTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappingMetricsTest {
+
+  @Before
+  public void setUp() {
+    MapperSettings.setMetricsEnabled(true);
+  }
+
+  @After
+  public void tearDown() {
+
+    MapperSettings.setMetricsEnabled(false);
+    MappingMetrics.reset();
+  }
+
+  @Test
+  public void shouldDropMetrics_whenReset() {
+
+    TypePairMetrics metrics = MappingMetrics.of(TeacherPersonTo.class, TargetPersonTo.class);
+
+    MappingMetrics.reset();
+
+    assertFalse(MappingMetrics.find(TeacherPersonTo.class, TargetPersonTo.class).isPresent());
+    assertNotSame(metrics, MappingMetrics.of(TeacherPersonTo.class, TargetPersonTo.class));
+  }
+
+  @Test
+  public void shouldCountInvocationsAndObjects() {
+
+    TypePairMetrics metrics = MappingMetrics.of(TeacherPersonTo.class, TargetPersonTo.class);
+    long invocations = metrics.getInvocationCount();
+    long objects = metrics.getObjectCount();
+
+    MeMapper.from(new TeacherPersonTo()).to(TargetPersonTo.class);
+    MeMapper.from(Arrays.asList(new TeacherPersonTo(), new TeacherPersonTo()))
+        .to(TargetPersonTo.class);
+
+    assertEquals(invocations + 2, metrics.getInvocationCount());
+    assertEquals(objects + 3, metrics.getObjectCount());
+    assertTrue(metrics.getTotalNanos() > 0);
+    assertTrue(metrics.getPercentileNanos(0.5) <= metrics.getPercentileNanos(1));
+  }
+
+  @Test
+  public void shouldCountNestedObjectsAsObjectsOnly() {
+
+    TypePairMetrics metrics = MappingMetrics.of(DepartmentEntity.class, DepartmentTo.class);
+    long invocations = metrics.getInvocationCount();
+    long objects = metrics.getObjectCount();
+
+    EmployeeEntity employee = new EmployeeEntity();
+    employee.setDepartment(new DepartmentEntity());
+    MeMapper.from(employee).to(EmployeeTo.class);
+
+    assertEquals(invocations, metrics.getInvocationCount());
+    assertEquals(objects + 1, metrics.getObjectCount());
+  }
+
+  @Test
+  public void shouldNotRecord_whenDisabled() {
+
+    MapperSettings.setMetricsEnabled(false);
+    TypePairMetrics metrics = MappingMetrics.of(TeacherPersonTo.class, TargetPersonTo.class);
+    long objects = metrics.getObjectCount();
+    long hits = metrics.getPlanCacheHitCount();
+
+    MeMapper.from(new TeacherPersonTo()).to(TargetPersonTo.class);
+
+    assertEquals(objects, metrics.getObjectCount());
+    assertEquals(hits, metrics.getPlanCacheHitCount());
+  }
+
+  @Test
+  public void shouldCountPlanCacheHits() {
+
+    MeMapper.from(new TeacherPersonTo()).to(TargetPersonTo.class);
+    TypePairMetrics metrics = MappingMetrics.of(TeacherPersonTo.class, TargetPersonTo.class);
+    long hits = metrics.getPlanCacheHitCount();
+
+    MeMapper.from(new TeacherPersonTo()).to(TargetPersonTo.class);
+
+    assertTrue(metrics.getPlanCacheHitCount() > hits);
+  }
+
+  @Test
+  public void shouldRegisterPairsWithReporters() {
+
+    List<TypePairMetrics> reported = new ArrayList<>();
+    MetricsReporter reporter = reported::add;
+    MappingMetrics.addReporter(reporter);
+
+    try {
+      MeMapper.from(new TeacherPersonTo()).to(TargetPersonTo.class);
+
+      assertTrue(reported.contains(
+          MappingMetrics.of(TeacherPersonTo.class, TargetPersonTo.class)));
+      assertEquals(MappingMetrics.getAll().size(), reported.size());
+    } finally {
+      MappingMetrics.removeReporter(reporter);
+    }
+  }
+
+  @Test
+  public void shouldFindOnlyRecordedPairs() {
+    assertFalse(MappingMetrics.find(TargetPersonTo.class, Integer.class).isPresent());
+  }
+}
@@ -0,0 +1,79 @@
+package com.teammental.memapper.to;
+
+/**
+ * Target with a field of every primitive type.
+ */
+public class AllPrimitivesTo {
+  private byte bid;
+  private short sid;
+  private int iid;
+  private long lid;
+  private float fid;
+  private double did;
+  private boolean active;
+  private char cid;
+
+  public byte getBid() {
+    return bid;
+  }
+
+  public void setBid(byte bid) {
+    this.bid = bid;
+  }
+
+  public short getSid() {
+    return sid;
+  }
+
+  public void setSid(short sid) {
+    this.sid = sid;
+  }
+
+  public int getIid() {
+    return iid;
+  }
+
+  public void setIid(int iid) {
+    this.iid = iid;
+  }
+
+  public long getLid() {
+    return lid;
+  }
+
+  public void setLid(long lid) {
+    this.lid = lid;
+  }
+
+  public float getFid() {
+    return fid;
+  }
+
+  public void setFid(float fid) {
+    this.fid = fid;
+  }
+
+  public double getDid() {
+    return did;
+  }
+
+  public void setDid(double did) {
+    this.did = did;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void setActive(boolean active) {
+    this.active = active;
+  }
+
+  public char getCid() {
+    return cid;
+  }
+
+  public void setCid(char cid) {
+    this.cid = cid;
+  }
+}
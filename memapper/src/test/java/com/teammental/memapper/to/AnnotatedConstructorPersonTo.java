@@ -0,0 +1,35 @@
+package com.teammental.memapper.to;
+
+import com.teammental.memapper.annotation.MapConstructor;
+
+/**
+ * Immutable target whose mapping constructor is annotated.
+ */
+public class AnnotatedConstructorPersonTo {
+  private final Integer id;
+  private final String title;
+  private final String code;
+
+  @MapConstructor({"title", "id"})
+  public AnnotatedConstructorPersonTo(String title, Integer id) {
+    this(id, title, "default");
+  }
+
+  public AnnotatedConstructorPersonTo(Integer id, String title, String code) {
+    this.id = id;
+    this.title = title;
+    this.code = code;
+  }
+
+  public Integer getId() {
+    return id;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public String getCode() {
+    return code;
+  }
+}
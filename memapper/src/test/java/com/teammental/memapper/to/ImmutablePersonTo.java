@@ -0,0 +1,36 @@
+package com.teammental.memapper.to;
+
+/**
+ * Immutable target with a canonical constructor.
+ */
+public class ImmutablePersonTo {
+  private static final String PREFIX = "person";
+
+  private final Integer id;
+  private final String title;
+  private final NameTo name;
+  private final double salary;
+
+  public ImmutablePersonTo(Integer id, String title, NameTo name, double salary) {
+    this.id = id;
+    this.title = title;
+    this.name = name;
+    this.salary = salary;
+  }
+
+  public Integer getId() {
+    return id;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public NameTo getName() {
+    return name;
+  }
+
+  public double getSalary() {
+    return salary;
+  }
+}
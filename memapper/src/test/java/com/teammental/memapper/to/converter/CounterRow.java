@@ -0,0 +1,26 @@
+package com.teammental.memapper.to.converter;
+
+/**
+ * Source counters, with wider number types than {@link CounterTo} for total
+ * and narrower ones for visits.
+ */
+public class CounterRow {
+  private Long total;
+  private Integer visits;
+
+  public Long getTotal() {
+    return total;
+  }
+
+  public void setTotal(Long total) {
+    this.total = total;
+  }
+
+  public Integer getVisits() {
+    return visits;
+  }
+
+  public void setVisits(Integer visits) {
+    this.visits = visits;
+  }
+}
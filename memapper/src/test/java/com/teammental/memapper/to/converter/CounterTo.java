@@ -0,0 +1,22 @@
+package com.teammental.memapper.to.converter;
+
+public class CounterTo {
+  private Integer total;
+  private Long visits;
+
+  public Integer getTotal() {
+    return total;
+  }
+
+  public void setTotal(Integer total) {
+    this.total = total;
+  }
+
+  public Long getVisits() {
+    return visits;
+  }
+
+  public void setVisits(Long visits) {
+    this.visits = visits;
+  }
+}
@@ -0,0 +1,47 @@
+package com.teammental.memapper.to.converter;
+
+import com.teammental.memapper.to.EnumGender;
+
+import java.time.LocalDateTime;
+
+/**
+ * Target person whose field types differ from {@link PersonRow}.
+ */
+public class PersonRecordTo {
+  private Long id;
+  private LocalDateTime birthDate;
+  private EnumGender gender;
+  private String score;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public LocalDateTime getBirthDate() {
+    return birthDate;
+  }
+
+  public void setBirthDate(LocalDateTime birthDate) {
+    this.birthDate = birthDate;
+  }
+
+  public EnumGender getGender() {
+    return gender;
+  }
+
+  public void setGender(EnumGender gender) {
+    this.gender = gender;
+  }
+
+  public String getScore() {
+    return score;
+  }
+
+  public void setScore(String score) {
+    this.score = score;
+  }
+}
@@ -0,0 +1,45 @@
+package com.teammental.memapper.to.converter;
+
+import java.util.Date;
+
+/**
+ * Source person whose fields are stored as they are read from a database row.
+ */
+public class PersonRow {
+  private String id;
+  private Date birthDate;
+  private String gender;
+  private int score;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public Date getBirthDate() {
+    return birthDate;
+  }
+
+  public void setBirthDate(Date birthDate) {
+    this.birthDate = birthDate;
+  }
+
+  public String getGender() {
+    return gender;
+  }
+
+  public void setGender(String gender) {
+    this.gender = gender;
+  }
+
+  public int getScore() {
+    return score;
+  }
+
+  public void setScore(int score) {
+    this.score = score;
+  }
+}
@@ -0,0 +1,25 @@
+package com.teammental.memapper.to.flatten;
+
+/**
+ * Address of a customer.
+ */
+public class AddressEntity {
+  private String city;
+  private String zip;
+
+  public String getCity() {
+    return city;
+  }
+
+  public void setCity(String city) {
+    this.city = city;
+  }
+
+  public String getZip() {
+    return zip;
+  }
+
+  public void setZip(String zip) {
+    this.zip = zip;
+  }
+}
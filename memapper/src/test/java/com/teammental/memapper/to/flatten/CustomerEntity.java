@@ -0,0 +1,25 @@
+package com.teammental.memapper.to.flatten;
+
+/**
+ * Customer with a nested address.
+ */
+public class CustomerEntity {
+  private String name;
+  private AddressEntity address;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public AddressEntity getAddress() {
+    return address;
+  }
+
+  public void setAddress(AddressEntity address) {
+    this.address = address;
+  }
+}
@@ -0,0 +1,25 @@
+package com.teammental.memapper.to.flatten;
+
+/**
+ * Order with a nested customer.
+ */
+public class OrderEntity {
+  private Long id;
+  private CustomerEntity customer;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public CustomerEntity getCustomer() {
+    return customer;
+  }
+
+  public void setCustomer(CustomerEntity customer) {
+    this.customer = customer;
+  }
+}
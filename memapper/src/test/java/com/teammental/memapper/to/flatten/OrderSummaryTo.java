@@ -0,0 +1,43 @@
+package com.teammental.memapper.to.flatten;
+
+/**
+ * Order whose customer properties are flattened.
+ */
+public class OrderSummaryTo {
+  private Long id;
+  private String customerName;
+  private String customerAddressCity;
+  private Integer customerAddressZip;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getCustomerName() {
+    return customerName;
+  }
+
+  public void setCustomerName(String customerName) {
+    this.customerName = customerName;
+  }
+
+  public String getCustomerAddressCity() {
+    return customerAddressCity;
+  }
+
+  public void setCustomerAddressCity(String customerAddressCity) {
+    this.customerAddressCity = customerAddressCity;
+  }
+
+  public Integer getCustomerAddressZip() {
+    return customerAddressZip;
+  }
+
+  public void setCustomerAddressZip(Integer customerAddressZip) {
+    this.customerAddressZip = customerAddressZip;
+  }
+}
@@ -0,0 +1,55 @@
+package com.teammental.memapper.to.nested;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Source department which references its manager and employees, possibly cyclic.
+ */
+public class DepartmentEntity {
+  private Integer id;
+  private String name;
+  private EmployeeEntity manager;
+  private List<EmployeeEntity> employees;
+  private Map<String, EmployeeEntity> employeesByRole;
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public EmployeeEntity getManager() {
+    return manager;
+  }
+
+  public void setManager(EmployeeEntity manager) {
+    this.manager = manager;
+  }
+
+  public List<EmployeeEntity> getEmployees() {
+    return employees;
+  }
+
+  public void setEmployees(List<EmployeeEntity> employees) {
+    this.employees = employees;
+  }
+
+  public Map<String, EmployeeEntity> getEmployeesByRole() {
+    return employeesByRole;
+  }
+
+  public void setEmployeesByRole(Map<String, EmployeeEntity> employeesByRole) {
+    this.employeesByRole = employeesByRole;
+  }
+}
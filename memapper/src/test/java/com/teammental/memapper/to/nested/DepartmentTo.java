@@ -0,0 +1,55 @@
+package com.teammental.memapper.to.nested;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Target department with a nested manager and nested employee collections.
+ */
+public class DepartmentTo {
+  private Integer id;
+  private String name;
+  private EmployeeTo manager;
+  private List<EmployeeTo> employees;
+  private Map<String, EmployeeTo> employeesByRole;
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public EmployeeTo getManager() {
+    return manager;
+  }
+
+  public void setManager(EmployeeTo manager) {
+    this.manager = manager;
+  }
+
+  public List<EmployeeTo> getEmployees() {
+    return employees;
+  }
+
+  public void setEmployees(List<EmployeeTo> employees) {
+    this.employees = employees;
+  }
+
+  public Map<String, EmployeeTo> getEmployeesByRole() {
+    return employeesByRole;
+  }
+
+  public void setEmployeesByRole(Map<String, EmployeeTo> employeesByRole) {
+    this.employeesByRole = employeesByRole;
+  }
+}
@@ -0,0 +1,34 @@
+package com.teammental.memapper.to.nested;
+
+/**
+ * Source employee which references its department.
+ */
+public class EmployeeEntity {
+  private Integer id;
+  private String name;
+  private DepartmentEntity department;
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public DepartmentEntity getDepartment() {
+    return department;
+  }
+
+  public void setDepartment(DepartmentEntity department) {
+    this.department = department;
+  }
+}
@@ -0,0 +1,34 @@
+package com.teammental.memapper.to.nested;
+
+/**
+ * Target employee with a nested department.
+ */
+public class EmployeeTo {
+  private Integer id;
+  private String name;
+  private DepartmentTo department;
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public DepartmentTo getDepartment() {
+    return department;
+  }
+
+  public void setDepartment(DepartmentTo department) {
+    this.department = department;
+  }
+}
@@ -0,0 +1,30 @@
+package com.teammental.memapper.to.nested;
+
+/**
+ * Employee ordered by id.
+ */
+public class RankTo implements Comparable<RankTo> {
+  private Integer id;
+  private String name;
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public int compareTo(RankTo other) {
+    return id.compareTo(other.id);
+  }
+}
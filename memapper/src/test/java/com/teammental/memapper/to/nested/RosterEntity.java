@@ -0,0 +1,27 @@
+package com.teammental.memapper.to.nested;
+
+import java.util.Set;
+
+/**
+ * Source with sets of employees, which are mapped into sorted sets.
+ */
+public class RosterEntity {
+  private Set<EmployeeEntity> members;
+  private Set<EmployeeEntity> ranks;
+
+  public Set<EmployeeEntity> getMembers() {
+    return members;
+  }
+
+  public void setMembers(Set<EmployeeEntity> members) {
+    this.members = members;
+  }
+
+  public Set<EmployeeEntity> getRanks() {
+    return ranks;
+  }
+
+  public void setRanks(Set<EmployeeEntity> ranks) {
+    this.ranks = ranks;
+  }
+}
@@ -0,0 +1,28 @@
+package com.teammental.memapper.to.nested;
+
+import java.util.NavigableSet;
+import java.util.SortedSet;
+
+/**
+ * Target with a sorted set of non-Comparable elements, and one of Comparable elements.
+ */
+public class RosterTo {
+  private SortedSet<EmployeeTo> members;
+  private NavigableSet<RankTo> ranks;
+
+  public SortedSet<EmployeeTo> getMembers() {
+    return members;
+  }
+
+  public void setMembers(SortedSet<EmployeeTo> members) {
+    this.members = members;
+  }
+
+  public NavigableSet<RankTo> getRanks() {
+    return ranks;
+  }
+
+  public void setRanks(NavigableSet<RankTo> ranks) {
+    this.ranks = ranks;
+  }
+}
@@ -0,0 +1,54 @@
+package com.teammental.memapper.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class NumberUtilTest {
+
+  @Test
+  public void shouldConvertValuesInRange() {
+
+    assertEquals(42, NumberUtil.convert(42L, Integer.class));
+    assertEquals((short) -7, NumberUtil.convert(-7.0, Short.class));
+    assertEquals((byte) 127, NumberUtil.convert(new BigDecimal("127"), Byte.class));
+    assertEquals(3L, NumberUtil.convert(BigInteger.valueOf(3), Long.class));
+    assertEquals(0.5f, NumberUtil.convert(0.5, Float.class));
+    assertEquals(5.0E9, NumberUtil.convert(5_000_000_000L, Double.class));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void shouldFail_whenValueIsOutOfRange() {
+    NumberUtil.convert(5_000_000_000L, Integer.class);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void shouldFail_whenValueIsOutOfRangeOfByte() {
+    NumberUtil.convert(128, Byte.class);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void shouldFail_whenIntegralTargetLosesFraction() {
+    NumberUtil.convert(1.5, Long.class);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void shouldFail_whenValueIsOutOfRangeOfFloat() {
+    NumberUtil.convert(Double.MAX_VALUE, Float.class);
+  }
+
+  @Test
+  public void shouldOnlyWidenToTypesHoldingEveryValue() {
+
+    assertTrue(NumberUtil.isWidening(Integer.class, Long.class));
+    assertTrue(NumberUtil.isWidening(Short.class, Float.class));
+    assertFalse(NumberUtil.isWidening(Long.class, Integer.class));
+    assertFalse(NumberUtil.isWidening(Long.class, Double.class));
+    assertFalse(NumberUtil.isWidening(Integer.class, Float.class));
+  }
+}
@@ -0,0 +1,66 @@
+package com.teammental.memapper.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class TypePairCacheTest {
+
+  @Test
+  public void shouldComputeValueOnlyOnce() {
+
+    TypePairCache<Object> cache = new TypePairCache<>(() -> 4);
+    Object value = cache.computeIfAbsent(String.class, Integer.class, (s, t) -> new Object());
+
+    assertSame(value, cache.computeIfAbsent(String.class, Integer.class, (s, t) -> new Object()));
+    assertSame(value, cache.get(String.class, Integer.class));
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.getCreationCount());
+  }
+
+  @Test
+  public void shouldEvictOldestValue_whenCacheIsFull() {
+
+    TypePairCache<String> cache = new TypePairCache<>(() -> 2);
+    cache.computeIfAbsent(String.class, Integer.class, (s, t) -> "first");
+    cache.computeIfAbsent(String.class, Long.class, (s, t) -> "second");
+    cache.computeIfAbsent(Long.class, Integer.class, (s, t) -> "third");
+
+    assertNull(cache.get(String.class, Integer.class));
+    assertEquals(Arrays.asList("second", "third"), cache.values());
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+  }
+
+  @Test
+  public void shouldCountRemovedValuesOnlyOnce() {
+
+    TypePairCache<String> cache = new TypePairCache<>(() -> 2);
+    cache.computeIfAbsent(String.class, Integer.class, (s, t) -> "first");
+    cache.remove(String.class, Integer.class);
+    cache.remove(String.class, Integer.class);
+    cache.computeIfAbsent(String.class, Long.class, (s, t) -> "second");
+    cache.computeIfAbsent(Long.class, Integer.class, (s, t) -> "third");
+
+    assertEquals(2, cache.size());
+    assertEquals(0, cache.getEvictionCount());
+  }
+
+  @Test
+  public void shouldRemoveAllValues_whenCleared() {
+
+    TypePairCache<String> cache = new TypePairCache<>(() -> 2);
+    cache.computeIfAbsent(String.class, Integer.class, (s, t) -> "first");
+    cache.computeIfAbsent(String.class, Long.class, (s, t) -> "second");
+
+    cache.clear();
+
+    assertNull(cache.get(String.class, Integer.class));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.values().size());
+  }
+}
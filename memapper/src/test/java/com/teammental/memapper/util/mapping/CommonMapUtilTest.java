@@ -1,6 +1,9 @@
 package com.teammental.memapper.util.mapping;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import com.teammental.memapper.to.EnumGender;
 import com.teammental.memapper.to.NameTo;
@@ -74,6 +77,52 @@ public class CommonMapUtilTest {
     assertEquals(expectedMap, actualMap);
   }
 
+  @Test
+  public void shouldReturnCopyOfCachedFields() {
+
+    List<Field> fields = CommonMapUtil.getAllFields(TeacherPersonTo.class);
+    fields.clear();
+
+    assertEquals(11, CommonMapUtil.getAllFields(TeacherPersonTo.class).size());
+  }
+
+  @Test
+  public void shouldReturnFieldValues() {
+
+    TeacherPersonTo teacher = new TeacherPersonTo();
+    teacher.setId(5);
+    teacher.setSalary(10.5);
+
+    Map<String, Object> fieldsMap = CommonMapUtil.getFieldsMap(teacher);
+
+    assertEquals(11, fieldsMap.size());
+    assertEquals(5, fieldsMap.get("id"));
+    assertEquals(10.5, fieldsMap.get("salary"));
+    assertNull(fieldsMap.get("title"));
+  }
+
+  @Test
+  public void shouldReadFieldsOnAccess_whenViewIsReturned() {
+
+    TeacherPersonTo teacher = new TeacherPersonTo();
+    teacher.setId(5);
+
+    Map<String, Object> fieldsView = CommonMapUtil.getFieldsView(teacher, true);
+    teacher.setSalary(10.5);
+
+    assertEquals(11, fieldsView.size());
+    assertEquals(5, fieldsView.get("id"));
+    assertEquals(10.5, fieldsView.get("salary"));
+    assertTrue(fieldsView.containsKey("title"));
+    assertFalse(fieldsView.containsKey("unknown"));
+    assertEquals(CommonMapUtil.getFieldsMap(teacher), new HashMap<>(fieldsView));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldFail_whenViewIsModified() {
+    CommonMapUtil.getFieldsView(new TeacherPersonTo(), false).put("salary", 1.0);
+  }
+
   private HashMap<String, Class<?>> prepareHashMapOfFieldsInTeacherPersonTo(
       boolean includeSuperfields) {
     HashMap<String, Class<?>> expectedFields = new HashMap<>();
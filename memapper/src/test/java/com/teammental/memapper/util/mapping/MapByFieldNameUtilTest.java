@@ -3,15 +3,18 @@ package com.teammental.memapper.util.mapping;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import com.teammental.memapper.MeMapper;
 import com.teammental.memapper.exception.TargetTypeInstantiationException;
 import com.teammental.memapper.to.EnumGender;
 import com.teammental.memapper.to.NameTo;
+import com.teammental.memapper.to.PrimitiveTypeTo;
 import com.teammental.memapper.to.TargetPersonNoEmptyConstructorTo;
 import com.teammental.memapper.to.TargetPersonTo;
 import com.teammental.memapper.to.TeacherPersonTo;
+import com.teammental.memapper.to.WrapperTypeTo;
 
 import java.util.Arrays;
 import java.util.List;
@@ -184,6 +187,27 @@ public class MapByFieldNameUtilTest {
     assertNotEquals(expectedId.toString(), thirdTo.get().getId());
   }
 
+  @Test
+  public void shouldResolveFieldsOnlyOnce_whenTypesAreSame() {
+
+    assertSame(MapByFieldNameUtil.getPlan(TeacherPersonTo.class, TargetPersonTo.class),
+        MapByFieldNameUtil.getPlan(TeacherPersonTo.class, TargetPersonTo.class));
+  }
+
+  @Test
+  public void shouldSkipField_whenNullIsMappedToPrimitive() {
+
+    WrapperTypeTo source = new WrapperTypeTo();
+    source.setLid(5L);
+    PrimitiveTypeTo target = new PrimitiveTypeTo();
+    target.setId(3);
+
+    MapByFieldNameUtil.map(source, target);
+
+    assertEquals(3, target.getId());
+    assertEquals(5L, target.getLid());
+  }
+
 
   private TeacherPersonTo prepareTeacher() {
     TeacherPersonTo teacher = new TeacherPersonTo();
@@ -9,11 +9,12 @@ import com.teammental.meexception.dto.DtoDeleteException;
 import com.teammental.meexception.dto.DtoNotFoundException;
 import com.teammental.meexception.dto.DtoUpdateException;
 import com.teammental.memapper.MeMapper;
-import com.teammental.memapper.util.mapping.MapByFieldNameUtil;
+import com.teammental.memapper.core.TypeMapper;
+import com.teammental.memapper.spring.PageMapper;
 import com.teammental.merepository.BaseJpaRepository;
 import java.io.Serializable;
-import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -120,21 +121,21 @@ public abstract class BaseCrudServiceImpl<DtoT extends IdDto<IdT>, IdT extends S
 
   protected Page<DtoT> doFindAll(FilterDto filterDto) throws DtoCrudException {
 
-    Page entities;
+    Page<?> entities;
     if (filterDto == null) {
       entities = new PageImpl<>(getRepository().findAll());
     } else {
       entities = getRepository().findAll(filterDto.getPage().toPageRequest());
     }
 
-    Optional<List<DtoT>> optionalDtos = MeMapper.from(entities)
+    Optional<Page<DtoT>> optionalDtos = PageMapper.from(entities)
         .toOptional(getDtoClass());
 
-    if (!optionalDtos.isPresent() || optionalDtos.get().isEmpty()) {
+    if (!optionalDtos.isPresent() || !optionalDtos.get().hasContent()) {
       throw new DtoNotFoundException();
     }
 
-    return new PageImpl<>(optionalDtos.get());
+    return optionalDtos.get();
   }
 
   protected DtoT doFindById(final IdT id) throws DtoCrudException {
@@ -174,7 +175,18 @@ public abstract class BaseCrudServiceImpl<DtoT extends IdDto<IdT>, IdT extends S
       throw new DtoNotFoundException();
     }
 
-    Object entity = MapByFieldNameUtil.map(dto, optionalEntity.get());
+    Object entity = optionalEntity.get();
+    Set<String> changedFields = TypeMapper.<DtoT, Object>resolve(dto.getClass(), entity.getClass())
+        .patch(dto, entity);
+
+    if (changedFields.isEmpty()) {
+      LOGGER.debug("update of " + getDtoClass().getSimpleName()
+          + " skipped saving, no field is changed");
+      return dto.getId();
+    }
+
+    LOGGER.debug("update of " + getDtoClass().getSimpleName()
+        + " changed fields: " + changedFields);
 
     try {
       Object resultEntity = getRepository().save(entity);
@@ -1,6 +1,7 @@
 package com.teammental.meservice;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.anyInt;
@@ -22,7 +23,11 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import com.teammental.medto.impl.FilterDtoImpl;
+import com.teammental.medto.page.PageRequestDto;
 import com.teammental.meexception.dto.DtoCrudException;
 import com.teammental.memapper.MeMapper;
 import com.teammental.meservice.testapp.TestCrudService;
@@ -93,6 +98,30 @@ public class BaseCrudServiceImplTest {
     }
   }
 
+  @Test
+  public void findAll_shouldKeepPageMetadata_whenFilterIsGiven() throws DtoCrudException {
+
+    final List<TestEntity> testEntities = Arrays.asList(TestEntity.buildRandom(),
+        TestEntity.buildRandom());
+    final FilterDtoImpl filterDto = new FilterDtoImpl();
+    filterDto.setPage(new PageRequestDto(2, 2));
+    final PageRequest pageRequest = filterDto.getPage().toPageRequest();
+
+    when(testRepository.findAll(pageRequest))
+        .thenReturn(new PageImpl<>(testEntities, pageRequest, 7));
+
+    final Page<TestDto> actualTestDtos = testCrudService.findAll(filterDto);
+
+    assertEquals(7, actualTestDtos.getTotalElements());
+    assertEquals(1, actualTestDtos.getNumber());
+    assertEquals(2, actualTestDtos.getNumberOfElements());
+    assertEquals(testEntities.get(1).getId(), actualTestDtos.getContent().get(1).getId());
+
+    verify(testRepository, times(1))
+        .findAll(pageRequest);
+    verifyNoMoreInteractions(testRepository);
+  }
+
   // endregion findAll
 
   // region findOne
@@ -238,6 +267,31 @@ public class BaseCrudServiceImplTest {
     }
   }
 
+  @Test
+  public void update_shouldNotSave_whenNothingChanged() throws DtoCrudException {
+
+    final TestEntity originalEntity = TestEntity.buildRandom();
+
+    final TestDto updatedDto = new TestDto();
+    updatedDto.setId(originalEntity.getId());
+
+    when(testRepository.findById(anyInt()))
+        .thenReturn(Optional.of(originalEntity));
+
+    final Integer actualId = testCrudService.save(updatedDto);
+
+    assertEquals(originalEntity.getId(), actualId);
+    assertNotNull(originalEntity.getName());
+
+    verify(testRepository, times(1))
+        .findById(anyInt());
+
+    verify(testRepository, times(0))
+        .save(anyObject());
+
+    verifyNoMoreInteractions(testRepository);
+  }
+
   @Test
   public void update_shouldThrowNotFoundException_whenNotFound() throws DtoCrudException {
 